@@ -2,12 +2,30 @@ package br.com.stoom.coupon_domain;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
 
 @SpringBootApplication
 public class CouponDomainApplication {
 
+	static final String STARTUP_ANALYSIS_PROFILE = "startup-analysis";
+	private static final int STARTUP_STEPS_CAPACITY = 20_000;
+
 	public static void main(String[] args) {
-		SpringApplication.run(CouponDomainApplication.class, args);
+		SpringApplication application = new SpringApplication(CouponDomainApplication.class);
+		if (isStartupAnalysis(args)) {
+			application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+		}
+		application.run(args);
+	}
+
+	// The recorder must be installed before the environment exists, so the profile is looked up in the
+	// command line, system properties and environment variables only.
+	static boolean isStartupAnalysis(String[] args) {
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+		return environment.matchesProfiles(STARTUP_ANALYSIS_PROFILE);
 	}
 
 }
@@ -0,0 +1,50 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+public final class ContentNegotiation {
+
+    private ContentNegotiation() {
+    }
+
+    public static MediaType preferredMediaType(WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        // q=0 marks a type as not acceptable, so it never wins; with nothing left the default is JSON.
+        MediaType preferred = MediaType.APPLICATION_JSON;
+        double bestQuality = 0;
+        for (MediaType mediaType : mediaTypes) {
+            MediaType candidate = resolve(mediaType);
+            if (candidate != null && mediaType.getQualityValue() > bestQuality) {
+                preferred = candidate;
+                bestQuality = mediaType.getQualityValue();
+            }
+        }
+        return preferred;
+    }
+
+    private static MediaType resolve(MediaType mediaType) {
+        if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType)) {
+            return MediaType.APPLICATION_CBOR;
+        }
+        if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+            return MediaType.APPLICATION_JSON;
+        }
+        return null;
+    }
+}
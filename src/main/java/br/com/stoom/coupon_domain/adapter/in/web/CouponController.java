@@ -1,14 +1,31 @@
 package br.com.stoom.coupon_domain.adapter.in.web;
 
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponChangesResponse;
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponCodesResponse;
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponDescriptionSearchResponse;
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponLookupRequest;
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponLookupResponse;
 import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponQueryResponse;
 import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponResponse;
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponSearchResponse;
 import br.com.stoom.coupon_domain.adapter.in.web.dto.CreateCouponRequest;
 import br.com.stoom.coupon_domain.adapter.in.web.dto.ErrorResponse;
+import br.com.stoom.coupon_domain.application.port.in.BuscarAlteracoesCuponsUseCase;
+import br.com.stoom.coupon_domain.application.port.in.BuscarAlteracoesCuponsUseCase.ChangesPage;
+import br.com.stoom.coupon_domain.application.port.in.BuscarCupomArquivadoUseCase;
 import br.com.stoom.coupon_domain.application.port.in.BuscarCupomPorCodigoUseCase;
+import br.com.stoom.coupon_domain.application.port.in.BuscarCuponsPorCodigosUseCase;
+import br.com.stoom.coupon_domain.application.port.in.BuscarCuponsPorDescricaoUseCase;
+import br.com.stoom.coupon_domain.application.port.in.BuscarCuponsPorPrefixoUseCase;
 import br.com.stoom.coupon_domain.application.port.in.BuscarTodosCuponsUseCase;
+import br.com.stoom.coupon_domain.application.port.in.BuscarVersaoCatalogoUseCase;
+import br.com.stoom.coupon_domain.application.port.in.BuscarVersaoCupomUseCase;
 import br.com.stoom.coupon_domain.application.port.in.CreateCouponUseCase;
 import br.com.stoom.coupon_domain.application.port.in.CreateCouponUseCase.CreateCouponCommand;
 import br.com.stoom.coupon_domain.application.port.in.DeleteCouponUseCase;
+import br.com.stoom.coupon_domain.application.port.in.GerarCodigosCuponsUseCase;
+import br.com.stoom.coupon_domain.domain.exception.CouponNotFoundException;
+import br.com.stoom.coupon_domain.domain.model.CatalogVersion;
 import br.com.stoom.coupon_domain.domain.model.Coupon;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -17,7 +34,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,9 +45,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/cupons")
@@ -37,16 +62,43 @@ public class CouponController {
     private final CreateCouponUseCase createCouponUseCase;
     private final DeleteCouponUseCase deleteCouponUseCase;
     private final BuscarCupomPorCodigoUseCase buscarCupomPorCodigoUseCase;
+    private final BuscarCupomArquivadoUseCase buscarCupomArquivadoUseCase;
+    private final BuscarCuponsPorCodigosUseCase buscarCuponsPorCodigosUseCase;
+    private final BuscarCuponsPorPrefixoUseCase buscarCuponsPorPrefixoUseCase;
+    private final BuscarCuponsPorDescricaoUseCase buscarCuponsPorDescricaoUseCase;
     private final BuscarTodosCuponsUseCase buscarTodosCuponsUseCase;
+    private final BuscarAlteracoesCuponsUseCase buscarAlteracoesCuponsUseCase;
+    private final BuscarVersaoCupomUseCase buscarVersaoCupomUseCase;
+    private final BuscarVersaoCatalogoUseCase buscarVersaoCatalogoUseCase;
+    private final GerarCodigosCuponsUseCase gerarCodigosCuponsUseCase;
+    private final CouponQueryResponseCache responseCache;
 
     public CouponController(CreateCouponUseCase createCouponUseCase,
                             DeleteCouponUseCase deleteCouponUseCase,
                             BuscarCupomPorCodigoUseCase buscarCupomPorCodigoUseCase,
-                            BuscarTodosCuponsUseCase buscarTodosCuponsUseCase) {
+                            BuscarCupomArquivadoUseCase buscarCupomArquivadoUseCase,
+                            BuscarCuponsPorCodigosUseCase buscarCuponsPorCodigosUseCase,
+                            BuscarCuponsPorPrefixoUseCase buscarCuponsPorPrefixoUseCase,
+                            BuscarCuponsPorDescricaoUseCase buscarCuponsPorDescricaoUseCase,
+                            BuscarTodosCuponsUseCase buscarTodosCuponsUseCase,
+                            BuscarAlteracoesCuponsUseCase buscarAlteracoesCuponsUseCase,
+                            BuscarVersaoCupomUseCase buscarVersaoCupomUseCase,
+                            BuscarVersaoCatalogoUseCase buscarVersaoCatalogoUseCase,
+                            GerarCodigosCuponsUseCase gerarCodigosCuponsUseCase,
+                            CouponQueryResponseCache responseCache) {
         this.createCouponUseCase = createCouponUseCase;
         this.deleteCouponUseCase = deleteCouponUseCase;
         this.buscarCupomPorCodigoUseCase = buscarCupomPorCodigoUseCase;
+        this.buscarCupomArquivadoUseCase = buscarCupomArquivadoUseCase;
+        this.buscarCuponsPorCodigosUseCase = buscarCuponsPorCodigosUseCase;
+        this.buscarCuponsPorPrefixoUseCase = buscarCuponsPorPrefixoUseCase;
+        this.buscarCuponsPorDescricaoUseCase = buscarCuponsPorDescricaoUseCase;
         this.buscarTodosCuponsUseCase = buscarTodosCuponsUseCase;
+        this.buscarAlteracoesCuponsUseCase = buscarAlteracoesCuponsUseCase;
+        this.buscarVersaoCupomUseCase = buscarVersaoCupomUseCase;
+        this.buscarVersaoCatalogoUseCase = buscarVersaoCatalogoUseCase;
+        this.gerarCodigosCuponsUseCase = gerarCodigosCuponsUseCase;
+        this.responseCache = responseCache;
     }
 
     @PostMapping
@@ -74,18 +126,119 @@ public class CouponController {
         return ResponseEntity.status(HttpStatus.CREATED).body(CouponResponse.from(coupon));
     }
 
+    @PostMapping("/codigos")
+    @Operation(
+            summary = "Gerar códigos de cupom",
+            description = "Reserva e retorna códigos de cupom únicos ainda não utilizados"
+    )
+    @ApiResponse(responseCode = "200", description = "Códigos gerados",
+            content = @Content(schema = @Schema(implementation = CouponCodesResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Quantidade inválida",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<CouponCodesResponse> generateCodes(@RequestParam(defaultValue = "1") int quantidade) {
+        return ResponseEntity.ok(new CouponCodesResponse(gerarCodigosCuponsUseCase.execute(quantidade)));
+    }
+
+    @PostMapping("/consulta")
+    @RateLimited
+    @Operation(
+            summary = "Consultar cupons por códigos",
+            description = "Retorna, para cada código informado, se o cupom foi encontrado e seus dados"
+    )
+    @ApiResponse(responseCode = "200", description = "Resultado por código",
+            content = @Content(schema = @Schema(implementation = CouponLookupResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Lista de códigos inválida",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "429", description = "Limite de requisições do cliente excedido",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<CouponLookupResponse> lookup(@Valid @RequestBody CouponLookupRequest request) {
+        return ResponseEntity.ok(CouponLookupResponse.from(buscarCuponsPorCodigosUseCase.execute(request.codigos())));
+    }
+
+    @GetMapping("/busca")
+    @Operation(
+            summary = "Buscar códigos por prefixo",
+            description = "Retorna, em ordem, os códigos de cupons ativos que começam com o padrão; "
+                    + "aceita os curingas '?' (um caractere) e '*' (qualquer sequência)"
+    )
+    @ApiResponse(responseCode = "200", description = "Página de códigos",
+            content = @Content(schema = @Schema(implementation = CouponSearchResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Padrão de busca inválido",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<CouponSearchResponse> search(@RequestParam String prefixo,
+                                                       @RequestParam(required = false) String apos,
+                                                       @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(CouponSearchResponse.from(buscarCuponsPorPrefixoUseCase.execute(prefixo, apos, limite)));
+    }
+
+    @GetMapping("/busca/descricao")
+    @Operation(
+            summary = "Buscar cupons por descrição",
+            description = "Busca textual nas descrições dos cupons ativos, sem diferenciar acentos, "
+                    + "ordenada por relevância; todos os termos devem estar presentes"
+    )
+    @ApiResponse(responseCode = "200", description = "Página de resultados",
+            content = @Content(schema = @Schema(implementation = CouponDescriptionSearchResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Busca sem termos válidos",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<CouponDescriptionSearchResponse> searchDescriptions(
+            @RequestParam String termos,
+            @RequestParam(defaultValue = "0") int pagina,
+            @RequestParam(required = false) Integer tamanho) {
+        return ResponseEntity.ok(CouponDescriptionSearchResponse.from(
+                buscarCuponsPorDescricaoUseCase.execute(termos, pagina, tamanho), pagina));
+    }
+
     @GetMapping("/{codigo}")
+    @RateLimited
     @Operation(
             summary = "Buscar cupom por código",
-            description = "Retorna os dados de um cupom pelo código"
+            description = "Retorna os dados de um cupom pelo código; com incluirArquivados=true consulta também o arquivo"
     )
     @ApiResponse(responseCode = "200", description = "Cupom encontrado",
             content = @Content(schema = @Schema(implementation = CouponQueryResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Cupom não modificado (If-None-Match)")
     @ApiResponse(responseCode = "404", description = "Cupom não encontrado",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-    public ResponseEntity<CouponQueryResponse> findByCode(@PathVariable String codigo) {
-        Coupon coupon = buscarCupomPorCodigoUseCase.execute(codigo);
-        return ResponseEntity.ok(CouponQueryResponse.from(coupon));
+    @ApiResponse(responseCode = "429", description = "Limite de requisições do cliente excedido",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<?> findByCode(@PathVariable String codigo,
+                                        @RequestParam(defaultValue = "false") boolean incluirArquivados,
+                                        WebRequest webRequest) {
+        String normalizedCode = codigo.toUpperCase();
+        Optional<LocalDateTime> version = buscarVersaoCupomUseCase.execute(normalizedCode);
+        if (version.isEmpty()) {
+            return incluirArquivados ? findArchived(normalizedCode) : notFound(normalizedCode);
+        }
+
+        MediaType mediaType = ContentNegotiation.preferredMediaType(webRequest);
+        String etag = CouponETags.forRepresentation(CouponETags.of(version.get()), mediaType);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        if (!MediaType.APPLICATION_JSON.equals(mediaType)) {
+            return buscarCupomPorCodigoUseCase.find(normalizedCode, version.get())
+                    .<ResponseEntity<?>>map(coupon -> ResponseEntity.ok()
+                            .contentType(mediaType)
+                            .eTag(etag)
+                            .varyBy(HttpHeaders.ACCEPT)
+                            .body(CouponQueryResponse.from(coupon)))
+                    .orElseGet(() -> notFound(normalizedCode));
+        }
+
+        Optional<byte[]> body = responseCache.get(normalizedCode, etag)
+                .or(() -> buscarCupomPorCodigoUseCase.find(normalizedCode, version.get())
+                        .map(coupon -> responseCache.put(normalizedCode, etag, CouponQueryResponse.from(coupon))));
+        if (body.isEmpty()) {
+            return notFound(normalizedCode);
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body.get());
     }
 
     @GetMapping
@@ -95,12 +248,37 @@ public class CouponController {
     )
     @ApiResponse(responseCode = "200", description = "Lista de cupons",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = CouponQueryResponse.class))))
-    public ResponseEntity<List<CouponQueryResponse>> findAll() {
-        List<CouponQueryResponse> response = buscarTodosCuponsUseCase.execute().stream()
+    @ApiResponse(responseCode = "304", description = "Lista não modificada (If-None-Match)")
+    public ResponseEntity<List<CouponQueryResponse>> findAll(WebRequest webRequest) {
+        CatalogVersion version = buscarVersaoCatalogoUseCase.execute();
+        String etag = CouponETags.forRepresentation(
+                CouponETags.of(version),
+                ContentNegotiation.preferredMediaType(webRequest)
+        );
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        List<CouponQueryResponse> response = buscarTodosCuponsUseCase.execute(version).stream()
                 .map(CouponQueryResponse::from)
                 .toList();
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(response);
+    }
+
+    @GetMapping("/changes")
+    @Operation(
+            summary = "Listar alterações de cupons",
+            description = "Retorna os cupons alterados após a marca (since, afterId), ordenados por (updated_at, id)"
+    )
+    @ApiResponse(responseCode = "200", description = "Página de alterações",
+            content = @Content(schema = @Schema(implementation = CouponChangesResponse.class)))
+    public ResponseEntity<CouponChangesResponse> findChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) UUID afterId,
+            @RequestParam(required = false) Integer limit) {
+        ChangesPage page = buscarAlteracoesCuponsUseCase.execute(since, afterId, limit);
+        return ResponseEntity.ok(CouponChangesResponse.from(page, since, afterId));
     }
 
     @DeleteMapping("/{codigo}")
@@ -115,6 +293,18 @@ public class CouponController {
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     public ResponseEntity<Void> delete(@PathVariable String codigo) {
         deleteCouponUseCase.execute(codigo);
+        responseCache.evict(codigo.toUpperCase());
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<?> findArchived(String normalizedCode) {
+        return buscarCupomArquivadoUseCase.execute(normalizedCode)
+                .<ResponseEntity<?>>map(coupon -> ResponseEntity.ok(CouponQueryResponse.from(coupon)))
+                .orElseGet(() -> notFound(normalizedCode));
+    }
+
+    private static ResponseEntity<ErrorResponse> notFound(String normalizedCode) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ErrorResponse.of(HttpStatus.NOT_FOUND.value(), CouponNotFoundException.messageFor(normalizedCode)));
+    }
 }
@@ -0,0 +1,45 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import br.com.stoom.coupon_domain.adapter.in.web.dto.AplicarCuponsRequest;
+import br.com.stoom.coupon_domain.adapter.in.web.dto.AplicarCuponsResponse;
+import br.com.stoom.coupon_domain.adapter.in.web.dto.ErrorResponse;
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/cupons/aplicar")
+@Tag(name = "Aplicação de cupons", description = "Cálculo de descontos de cupons sobre carrinhos")
+public class CouponDiscountController {
+
+    private final AplicarCuponsUseCase aplicarCuponsUseCase;
+
+    public CouponDiscountController(AplicarCuponsUseCase aplicarCuponsUseCase) {
+        this.aplicarCuponsUseCase = aplicarCuponsUseCase;
+    }
+
+    @PostMapping
+    @RateLimited
+    @Operation(
+            summary = "Aplicar cupons a carrinhos",
+            description = "Calcula, para cada carrinho, os descontos dos cupons informados e os cupons rejeitados"
+    )
+    @ApiResponse(responseCode = "200", description = "Descontos calculados",
+            content = @Content(schema = @Schema(implementation = AplicarCuponsResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Carrinho inválido",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "429", description = "Limite de requisições do cliente excedido",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<AplicarCuponsResponse> apply(@Valid @RequestBody AplicarCuponsRequest request) {
+        return ResponseEntity.ok(AplicarCuponsResponse.from(aplicarCuponsUseCase.execute(request.toCarts())));
+    }
+}
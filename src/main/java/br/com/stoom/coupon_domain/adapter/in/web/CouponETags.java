@@ -0,0 +1,34 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import br.com.stoom.coupon_domain.domain.model.CatalogVersion;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public final class CouponETags {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private CouponETags() {
+    }
+
+    public static String of(LocalDateTime updatedAt) {
+        return "\"" + Long.toHexString(toMicros(updatedAt)) + "\"";
+    }
+
+    public static String of(CatalogVersion version) {
+        return "\"" + Long.toHexString(version.sequence()) + "\"";
+    }
+
+    public static String forRepresentation(String etag, MediaType mediaType) {
+        if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType)) {
+            return etag.substring(0, etag.length() - 1) + "-cbor\"";
+        }
+        return etag;
+    }
+
+    private static long toMicros(LocalDateTime value) {
+        return ChronoUnit.MICROS.between(EPOCH, value);
+    }
+}
@@ -0,0 +1,130 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponImportResponse;
+import br.com.stoom.coupon_domain.adapter.in.web.dto.ErrorResponse;
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase;
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase.ImportSlot;
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase.ImportStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.SchemaProperty;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.multipart.support.MissingServletRequestPartException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/cupons/importacoes")
+@Tag(name = "Importação de cupons", description = "Importação assíncrona de cupons via CSV")
+public class CouponImportController {
+
+    private static final String PART_NAME = "arquivo";
+
+    private final ImportarCuponsUseCase importarCuponsUseCase;
+
+    public CouponImportController(ImportarCuponsUseCase importarCuponsUseCase) {
+        this.importarCuponsUseCase = importarCuponsUseCase;
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+            summary = "Importar cupons (multipart)",
+            description = "Recebe um CSV (code,description,discountValue,expirationDate,published) e inicia a importação"
+    )
+    @ApiResponse(responseCode = "202", description = "Importação iniciada",
+            content = @Content(schema = @Schema(implementation = CouponImportResponse.class)))
+    @RequestBody(content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE,
+            schemaProperties = @SchemaProperty(name = PART_NAME, schema = @Schema(type = "string", format = "binary"))))
+    @ApiResponse(responseCode = "429", description = "Fila de importação cheia",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<CouponImportResponse> importMultipart(
+            @Parameter(hidden = true) MultipartHttpServletRequest request)
+            throws IOException, MissingServletRequestPartException {
+        // multipart is resolved lazily, so the upload is only parsed once a slot is held
+        try (ImportSlot slot = importarCuponsUseCase.reserve()) {
+            MultipartFile arquivo = request.getFile(PART_NAME);
+            if (arquivo == null) {
+                throw new MissingServletRequestPartException(PART_NAME);
+            }
+            try (InputStream content = arquivo.getInputStream()) {
+                return start(slot, content);
+            }
+        }
+    }
+
+    @PostMapping(consumes = "text/csv")
+    @Operation(
+            summary = "Importar cupons (CSV no corpo)",
+            description = "Recebe o CSV diretamente no corpo da requisição e inicia a importação"
+    )
+    @ApiResponse(responseCode = "202", description = "Importação iniciada",
+            content = @Content(schema = @Schema(implementation = CouponImportResponse.class)))
+    @ApiResponse(responseCode = "429", description = "Fila de importação cheia",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<CouponImportResponse> importStream(InputStream content) {
+        try (ImportSlot slot = importarCuponsUseCase.reserve()) {
+            return start(slot, content);
+        }
+    }
+
+    @GetMapping("/{id}")
+    @Operation(
+            summary = "Consultar importação",
+            description = "Retorna o progresso e os erros por linha de uma importação"
+    )
+    @ApiResponse(responseCode = "200", description = "Situação da importação",
+            content = @Content(schema = @Schema(implementation = CouponImportResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Importação não encontrada",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<?> status(@PathVariable UUID id) {
+        return importarCuponsUseCase.status(id)
+                .<ResponseEntity<?>>map(status -> ResponseEntity.ok(CouponImportResponse.from(status)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ErrorResponse.of(HttpStatus.NOT_FOUND.value(),
+                                "Importação não encontrada com o id '" + id + "'")));
+    }
+
+    private ResponseEntity<CouponImportResponse> start(ImportSlot slot, InputStream content) {
+        Path source = spool(content);
+        ImportStatus status = importarCuponsUseCase.start(slot, source);
+        return ResponseEntity.accepted()
+                .location(URI.create("/cupons/importacoes/" + status.jobId()))
+                .body(CouponImportResponse.from(status));
+    }
+
+    private static Path spool(InputStream content) {
+        try {
+            Path source = Files.createTempFile("cupons-import-", ".csv");
+            try {
+                Files.copy(content, source, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException ex) {
+                Files.deleteIfExists(source);
+                throw ex;
+            }
+            return source;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponQueryResponse;
+import br.com.stoom.coupon_domain.domain.model.CouponExpiredEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class CouponQueryResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CouponQueryResponseCache(ObjectMapper objectMapper,
+                                    @Value("${coupon.response-cache.max-entries:10000}") int maxEntries) {
+        this(objectMapper, Clock.systemDefaultZone(), maxEntries);
+    }
+
+    CouponQueryResponseCache(ObjectMapper objectMapper, Clock clock, int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.maxEntries = maxEntries;
+    }
+
+    public Optional<byte[]> get(String code, String etag) {
+        Entry entry = entries.get(code);
+        if (entry == null || !entry.etag().equals(etag) || !entry.builtOn().equals(LocalDate.now(clock))) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.body());
+    }
+
+    public byte[] put(String code, String etag, CouponQueryResponse response) {
+        byte[] body = encode(response);
+        if (maxEntries <= 0) {
+            return body;
+        }
+        if (entries.size() >= maxEntries && !entries.containsKey(code)) {
+            evictOne();
+        }
+        entries.put(code, new Entry(etag, LocalDate.now(clock), body));
+        return body;
+    }
+
+    private byte[] encode(CouponQueryResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void evict(String code) {
+        entries.remove(code);
+    }
+
+    @EventListener
+    public void onCouponExpired(CouponExpiredEvent event) {
+        evict(event.code());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictOne() {
+        Iterator<String> keys = entries.keySet().iterator();
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Entry(String etag, LocalDate builtOn, byte[] body) {
+    }
+}
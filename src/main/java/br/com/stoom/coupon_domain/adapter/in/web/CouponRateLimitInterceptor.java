@@ -0,0 +1,160 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import br.com.stoom.coupon_domain.adapter.in.web.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class CouponRateLimitInterceptor implements HandlerInterceptor {
+
+    public static final String BYPASS_HEADER = "X-Rate-Limit-Bypass";
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long FULL_SWEEP_INTERVAL_NANOS = NANOS_PER_SECOND;
+
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final boolean enabled;
+    private final String clientHeader;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxClients;
+    private final String bypassToken = UUID.randomUUID().toString();
+    // Each bucket is a single "theoretical arrival time" (GCRA): the instant at which the bucket would be full
+    // again. It is advanced with compareAndSet, so acquiring a token never takes a lock.
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastFullSweep;
+
+    @Autowired
+    public CouponRateLimitInterceptor(ObjectMapper objectMapper,
+                                      @Value("${coupon.rate-limit.enabled:true}") boolean enabled,
+                                      @Value("${coupon.rate-limit.client-header:}") String clientHeader,
+                                      @Value("${coupon.rate-limit.capacity:100}") int capacity,
+                                      @Value("${coupon.rate-limit.refill-per-second:20}") int refillPerSecond,
+                                      @Value("${coupon.rate-limit.max-clients:100000}") int maxClients) {
+        this(objectMapper, Clock.systemUTC(), enabled, clientHeader, capacity, refillPerSecond, maxClients);
+    }
+
+    CouponRateLimitInterceptor(ObjectMapper objectMapper, Clock clock, boolean enabled, String clientHeader,
+                               int capacity, int refillPerSecond, int maxClients) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.clientHeader = clientHeader;
+        this.emissionIntervalNanos = NANOS_PER_SECOND / refillPerSecond;
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.maxClients = maxClients;
+        this.lastFullSweep = new AtomicLong(now() - FULL_SWEEP_INTERVAL_NANOS);
+    }
+
+    // Runs after handler mapping but before argument resolution, so a rejected request never reads its body
+    // or reaches a use case.
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!enabled || !(handler instanceof HandlerMethod method) || !method.hasMethodAnnotation(RateLimited.class)
+                || bypassToken.equals(request.getHeader(BYPASS_HEADER))) {
+            return true;
+        }
+
+        long waitNanos = tryAcquire(clientOf(request));
+        if (waitNanos == 0) {
+            return true;
+        }
+
+        long retryAfterSeconds = Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Limite de requisições excedido. Tente novamente em " + retryAfterSeconds + " segundo(s)"));
+        return false;
+    }
+
+    // Returns 0 when a token was taken, otherwise how long the client has to wait for the next one.
+    long tryAcquire(String client) {
+        long now = now();
+        AtomicLong bucket = buckets.get(client);
+        if (bucket == null) {
+            if (buckets.size() >= maxClients && !makeRoom(now)) {
+                return FULL_SWEEP_INTERVAL_NANOS;
+            }
+            bucket = buckets.computeIfAbsent(client, key -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now) + emissionIntervalNanos;
+            long excess = next - now - burstToleranceNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // A bucket whose arrival time has passed is full again, so dropping it is the same as keeping it.
+    @Scheduled(fixedDelayString = "${coupon.rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        evictIdleBuckets(now());
+    }
+
+    public String bypassToken() {
+        return bypassToken;
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        if (!clientHeader.isEmpty()) {
+            String client = request.getHeader(clientHeader);
+            if (client != null && !client.isBlank()) {
+                return client;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    // Only buckets that are full again give way: dropping a throttled one would hand its client a fresh burst,
+    // so a flood of new addresses could reset the clients being limited. The sweep is a full pass, so it runs
+    // at most once per FULL_SWEEP_INTERVAL_NANOS; until it frees room, new clients get a 429 without scanning.
+    private boolean makeRoom(long now) {
+        long last = lastFullSweep.get();
+        if (now - last >= FULL_SWEEP_INTERVAL_NANOS && lastFullSweep.compareAndSet(last, now)) {
+            evictIdleBuckets(now);
+        }
+        return buckets.size() < maxClients;
+    }
+
+    private void evictIdleBuckets(long now) {
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+    }
+
+    private long now() {
+        Instant instant = clock.instant();
+        return instant.getEpochSecond() * NANOS_PER_SECOND + instant.getNano();
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponStatisticsResponse;
+import br.com.stoom.coupon_domain.application.port.in.BuscarEstatisticasCuponsUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/cupons/estatisticas")
+@Tag(name = "Estatísticas de cupons", description = "Indicadores agregados do catálogo de cupons")
+public class CouponStatisticsController {
+
+    private final BuscarEstatisticasCuponsUseCase buscarEstatisticasCuponsUseCase;
+
+    public CouponStatisticsController(BuscarEstatisticasCuponsUseCase buscarEstatisticasCuponsUseCase) {
+        this.buscarEstatisticasCuponsUseCase = buscarEstatisticasCuponsUseCase;
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Estatísticas do catálogo",
+            description = "Contagens por situação e publicação, histograma de valores de desconto dos cupons ativos "
+                    + "e cupons expirando por dia, mantidos em memória e reconciliados periodicamente com o banco"
+    )
+    @ApiResponse(responseCode = "200", description = "Estatísticas do catálogo",
+            content = @Content(schema = @Schema(implementation = CouponStatisticsResponse.class)))
+    public ResponseEntity<CouponStatisticsResponse> statistics() {
+        return ResponseEntity.ok(CouponStatisticsResponse.from(buscarEstatisticasCuponsUseCase.execute()));
+    }
+}
@@ -0,0 +1,170 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import br.com.stoom.coupon_domain.application.port.in.AquecerCachesUseCase;
+import br.com.stoom.coupon_domain.application.port.in.AquecerCachesUseCase.WarmUpResult;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class CouponWarmUp {
+
+    private static final String MISSING_CODE = "WRM000";
+
+    private final AquecerCachesUseCase aquecerCachesUseCase;
+    private final DataSource dataSource;
+    private final RestClient.Builder restClientBuilder;
+    private final CouponRateLimitInterceptor rateLimitInterceptor;
+    private final boolean enabled;
+    private final int sampleSize;
+    private final int requests;
+    private final Duration timeout;
+
+    private volatile boolean done;
+    private volatile Map<String, Object> details = Map.of("estado", "pendente");
+
+    public CouponWarmUp(AquecerCachesUseCase aquecerCachesUseCase,
+                        DataSource dataSource,
+                        RestClient.Builder restClientBuilder,
+                        CouponRateLimitInterceptor rateLimitInterceptor,
+                        @Value("${coupon.warm-up.enabled:true}") boolean enabled,
+                        @Value("${coupon.warm-up.sample-size:200}") int sampleSize,
+                        @Value("${coupon.warm-up.requests:2000}") int requests,
+                        @Value("${coupon.warm-up.timeout:PT60S}") Duration timeout) {
+        this.aquecerCachesUseCase = aquecerCachesUseCase;
+        this.dataSource = dataSource;
+        this.restClientBuilder = restClientBuilder;
+        this.rateLimitInterceptor = rateLimitInterceptor;
+        this.enabled = enabled;
+        this.sampleSize = sampleSize;
+        this.requests = requests;
+        this.timeout = timeout;
+    }
+
+    // Boot only moves readiness to ACCEPTING_TRAFFIC after ApplicationReadyEvent listeners return, and
+    // WarmUpHealthIndicator keeps the readiness group down until this finishes, so traffic arrives warm.
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        Integer port = event.getApplicationContext() instanceof WebServerApplicationContext web
+                ? web.getWebServer().getPort()
+                : null;
+        run(port);
+    }
+
+    public void run(Integer port) {
+        if (!enabled) {
+            details = Map.of("estado", "desabilitado");
+            done = true;
+            return;
+        }
+
+        details = Map.of("estado", "em andamento");
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        try {
+            WarmUpResult result = aquecerCachesUseCase.execute(sampleSize);
+            summary.put("cuponsCarregados", result.loadedCoupons());
+            summary.put("conexoes", fillConnectionPool());
+            summary.put("requisicoes", replay(port, result.activeCodes(), deadline));
+            summary.put("estado", "concluido");
+        } catch (RuntimeException | SQLException ex) {
+            summary.put("estado", "falhou");
+            summary.put("erro", ex.getMessage());
+        } finally {
+            summary.put("duracaoMs", Duration.ofNanos(System.nanoTime() - start).toMillis());
+            details = Map.copyOf(summary);
+            done = true;
+        }
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    public Map<String, Object> details() {
+        return details;
+    }
+
+    // Hikari opens idle connections lazily in the background; holding minimumIdle of them at once forces
+    // the handshakes to happen now instead of on the first requests.
+    private int fillConnectionPool() throws SQLException {
+        int target = dataSource.isWrapperFor(HikariDataSource.class)
+                ? dataSource.unwrap(HikariDataSource.class).getMinimumIdle()
+                : 1;
+        List<Connection> held = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                Connection connection = dataSource.getConnection();
+                held.add(connection);
+                connection.isValid(1);
+            }
+            return held.size();
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+
+    // Read-only request mix through the real HTTP stack, so filters, message converters and the
+    // controller paths get JIT-compiled before the first client request.
+    private int replay(Integer port, List<String> activeCodes, long deadline) {
+        if (port == null || port <= 0 || requests <= 0) {
+            return 0;
+        }
+        RestClient client = restClientBuilder.clone()
+                .baseUrl("http://localhost:" + port)
+                .defaultHeader(CouponRateLimitInterceptor.BYPASS_HEADER, rateLimitInterceptor.bypassToken())
+                .defaultStatusHandler(status -> true, (request, response) -> {
+                })
+                .build();
+
+        int sent = 0;
+        while (sent < requests && System.nanoTime() < deadline) {
+            String code = activeCodes.isEmpty() ? MISSING_CODE : activeCodes.get(sent % activeCodes.size());
+            try {
+                send(client, sent % 10, code);
+            } catch (RestClientException ex) {
+                break;
+            }
+            sent++;
+        }
+        return sent;
+    }
+
+    private static void send(RestClient client, int slot, String code) {
+        switch (slot) {
+            case 0, 1, 2, 3 -> client.get().uri("/cupons/{codigo}", code).retrieve().toBodilessEntity();
+            case 4 -> client.get().uri("/cupons/{codigo}", code)
+                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_CBOR_VALUE)
+                    .retrieve().toBodilessEntity();
+            case 5 -> client.post().uri("/cupons/consulta")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("codigos", List.of(code, MISSING_CODE)))
+                    .retrieve().toBodilessEntity();
+            case 6 -> client.get().uri("/cupons/busca?prefixo={prefixo}", code.substring(0, 2))
+                    .retrieve().toBodilessEntity();
+            case 7 -> client.get().uri("/cupons/busca/descricao?termos={termos}", "desconto")
+                    .retrieve().toBodilessEntity();
+            case 8 -> client.get().uri("/cupons/estatisticas").retrieve().toBodilessEntity();
+            default -> client.get().uri("/cupons/{codigo}", MISSING_CODE).retrieve().toBodilessEntity();
+        }
+    }
+}
@@ -3,6 +3,8 @@ package br.com.stoom.coupon_domain.adapter.in.web;
 import br.com.stoom.coupon_domain.adapter.in.web.dto.ErrorResponse;
 import br.com.stoom.coupon_domain.domain.exception.CouponAlreadyDeletedException;
 import br.com.stoom.coupon_domain.domain.exception.CouponCodeAlreadyExistsException;
+import br.com.stoom.coupon_domain.domain.exception.CouponImportRejectedException;
+import br.com.stoom.coupon_domain.domain.exception.CouponLookupTimeoutException;
 import br.com.stoom.coupon_domain.domain.exception.CouponNotFoundException;
 import br.com.stoom.coupon_domain.domain.exception.DomainException;
 import org.springframework.http.HttpStatus;
@@ -34,6 +36,18 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(HttpStatus.UNPROCESSABLE_ENTITY.value(), ex.getMessage()));
     }
 
+    @ExceptionHandler(CouponImportRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleCouponImportRejected(CouponImportRejectedException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(ErrorResponse.of(HttpStatus.TOO_MANY_REQUESTS.value(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(CouponLookupTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleCouponLookupTimeout(CouponLookupTimeoutException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage()));
+    }
+
     @ExceptionHandler(DomainException.class)
     public ResponseEntity<ErrorResponse> handleDomainException(DomainException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -0,0 +1,21 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final CouponWarmUp couponWarmUp;
+
+    public WarmUpHealthIndicator(CouponWarmUp couponWarmUp) {
+        this.couponWarmUp = couponWarmUp;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = couponWarmUp.isDone() ? Health.up() : Health.outOfService();
+        return builder.withDetails(couponWarmUp.details()).build();
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.stoom.coupon_domain.adapter.in.web.dto;
+
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase.Cart;
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase.CartLine;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record AplicarCuponsRequest(
+        @NotEmpty(message = "A lista de carrinhos é obrigatória")
+        @Size(max = 1000, message = "A simulação aceita no máximo 1000 carrinhos")
+        List<@Valid @NotNull CarrinhoRequest> carrinhos
+) {
+
+    public List<Cart> toCarts() {
+        return carrinhos.stream()
+                .map(CarrinhoRequest::toCart)
+                .toList();
+    }
+
+    public record CarrinhoRequest(
+            String id,
+
+            @NotEmpty(message = "O carrinho deve ter ao menos um item")
+            List<@Valid @NotNull ItemRequest> itens,
+
+            @NotNull(message = "A lista de códigos é obrigatória")
+            @Size(max = 20, message = "O carrinho aceita no máximo 20 códigos")
+            List<@NotBlank(message = "O código é obrigatório") String> codigos
+    ) {
+
+        Cart toCart() {
+            return new Cart(
+                    id,
+                    itens.stream().map(ItemRequest::toCartLine).toList(),
+                    codigos
+            );
+        }
+    }
+
+    public record ItemRequest(
+            String sku,
+
+            @Positive(message = "A quantidade deve ser positiva")
+            long quantidade,
+
+            @NotNull(message = "O preço unitário é obrigatório")
+            @DecimalMin(value = "0.00", message = "O preço unitário não pode ser negativo")
+            @Digits(integer = 12, fraction = 2, message = "O preço unitário deve ter no máximo 2 casas decimais")
+            BigDecimal precoUnitario
+    ) {
+
+        CartLine toCartLine() {
+            return new CartLine(sku, quantidade, precoUnitario.movePointRight(2).longValueExact());
+        }
+    }
+}
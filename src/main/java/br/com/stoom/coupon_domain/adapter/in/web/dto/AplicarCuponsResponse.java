@@ -0,0 +1,54 @@
+package br.com.stoom.coupon_domain.adapter.in.web.dto;
+
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase.CartResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record AplicarCuponsResponse(
+        List<ResultadoCarrinho> carrinhos
+) {
+
+    public static AplicarCuponsResponse from(List<CartResult> results) {
+        return new AplicarCuponsResponse(results.stream()
+                .map(result -> new ResultadoCarrinho(
+                        result.cartId(),
+                        toAmount(result.subtotalCents()),
+                        toAmount(result.discountCents()),
+                        toAmount(result.totalCents()),
+                        result.applied().stream()
+                                .map(discount -> new DescontoAplicado(discount.code(), toAmount(discount.amountCents())))
+                                .toList(),
+                        result.rejected().stream()
+                                .map(coupon -> new CupomRejeitado(coupon.code(), coupon.reason().name()))
+                                .toList()
+                ))
+                .toList());
+    }
+
+    private static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public record ResultadoCarrinho(
+            String id,
+            BigDecimal subtotal,
+            BigDecimal desconto,
+            BigDecimal total,
+            List<DescontoAplicado> descontosAplicados,
+            List<CupomRejeitado> cuponsRejeitados
+    ) {
+    }
+
+    public record DescontoAplicado(
+            String codigo,
+            BigDecimal valor
+    ) {
+    }
+
+    public record CupomRejeitado(
+            String codigo,
+            String motivo
+    ) {
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.stoom.coupon_domain.adapter.in.web.dto;
+
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record CouponChangeResponse(
+        UUID id,
+        String codigo,
+        String descricao,
+        BigDecimal valorDesconto,
+        LocalDate dataExpiracao,
+        boolean publicado,
+        boolean removido,
+        LocalDateTime atualizadoEm
+) {
+
+    public static CouponChangeResponse from(CouponChange change) {
+        Coupon coupon = change.coupon();
+        return new CouponChangeResponse(
+                coupon.getId(),
+                coupon.getCode().value(),
+                coupon.getDescription(),
+                coupon.getDiscountValue().value(),
+                coupon.getExpirationDate().value(),
+                coupon.isPublished(),
+                coupon.isDeleted(),
+                change.updatedAt()
+        );
+    }
+}
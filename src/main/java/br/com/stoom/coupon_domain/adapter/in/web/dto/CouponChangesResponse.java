@@ -0,0 +1,28 @@
+package br.com.stoom.coupon_domain.adapter.in.web.dto;
+
+import br.com.stoom.coupon_domain.application.port.in.BuscarAlteracoesCuponsUseCase.ChangesPage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record CouponChangesResponse(
+        List<CouponChangeResponse> alteracoes,
+        LocalDateTime proximoSince,
+        UUID proximoAfterId,
+        boolean temMais
+) {
+
+    public static CouponChangesResponse from(ChangesPage page, LocalDateTime since, UUID afterId) {
+        List<CouponChangeResponse> alteracoes = page.changes().stream()
+                .map(CouponChangeResponse::from)
+                .toList();
+
+        if (alteracoes.isEmpty()) {
+            return new CouponChangesResponse(alteracoes, since, afterId, false);
+        }
+
+        CouponChangeResponse last = alteracoes.get(alteracoes.size() - 1);
+        return new CouponChangesResponse(alteracoes, last.atualizadoEm(), last.id(), page.hasMore());
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.stoom.coupon_domain.adapter.in.web.dto;
+
+import java.util.List;
+
+public record CouponCodesResponse(
+        List<String> codigos
+) {
+}
@@ -0,0 +1,31 @@
+package br.com.stoom.coupon_domain.adapter.in.web.dto;
+
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatch;
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatches;
+
+import java.util.List;
+
+public record CouponDescriptionSearchResponse(
+        List<Resultado> resultados,
+        int pagina,
+        long total
+) {
+
+    public static CouponDescriptionSearchResponse from(DescriptionMatches matches, int pagina) {
+        List<Resultado> resultados = matches.matches().stream()
+                .map(Resultado::from)
+                .toList();
+        return new CouponDescriptionSearchResponse(resultados, pagina, matches.total());
+    }
+
+    public record Resultado(
+            String codigo,
+            String descricao,
+            double relevancia
+    ) {
+
+        static Resultado from(DescriptionMatch match) {
+            return new Resultado(match.code(), match.description(), match.score());
+        }
+    }
+}
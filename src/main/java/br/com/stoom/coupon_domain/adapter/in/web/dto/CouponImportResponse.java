@@ -0,0 +1,40 @@
+package br.com.stoom.coupon_domain.adapter.in.web.dto;
+
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase.ImportStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record CouponImportResponse(
+        UUID id,
+        String situacao,
+        long linhasProcessadas,
+        long linhasImportadas,
+        long linhasComErro,
+        List<ErroLinha> erros,
+        LocalDateTime iniciadoEm,
+        LocalDateTime concluidoEm
+) {
+
+    public static CouponImportResponse from(ImportStatus status) {
+        return new CouponImportResponse(
+                status.jobId(),
+                status.state().name(),
+                status.processedRows(),
+                status.importedRows(),
+                status.failedRows(),
+                status.errors().stream()
+                        .map(error -> new ErroLinha(error.line(), error.message()))
+                        .toList(),
+                status.startedAt(),
+                status.finishedAt()
+        );
+    }
+
+    public record ErroLinha(
+            long linha,
+            String mensagem
+    ) {
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.stoom.coupon_domain.adapter.in.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CouponLookupRequest(
+        @NotEmpty(message = "A lista de códigos é obrigatória")
+        @Size(max = 100, message = "A consulta aceita no máximo 100 códigos")
+        List<@NotBlank(message = "O código é obrigatório") String> codigos
+) {
+}
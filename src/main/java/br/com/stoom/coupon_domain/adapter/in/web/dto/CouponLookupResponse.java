@@ -0,0 +1,27 @@
+package br.com.stoom.coupon_domain.adapter.in.web.dto;
+
+import br.com.stoom.coupon_domain.application.port.in.BuscarCuponsPorCodigosUseCase.CouponLookup;
+
+import java.util.List;
+
+public record CouponLookupResponse(
+        List<ResultadoConsulta> resultados
+) {
+
+    public static CouponLookupResponse from(List<CouponLookup> lookups) {
+        return new CouponLookupResponse(lookups.stream()
+                .map(lookup -> new ResultadoConsulta(
+                        lookup.code(),
+                        lookup.found(),
+                        lookup.found() ? CouponQueryResponse.from(lookup.coupon()) : null
+                ))
+                .toList());
+    }
+
+    public record ResultadoConsulta(
+            String codigo,
+            boolean encontrado,
+            CouponQueryResponse cupom
+    ) {
+    }
+}
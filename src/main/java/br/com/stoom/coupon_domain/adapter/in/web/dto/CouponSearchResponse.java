@@ -0,0 +1,18 @@
+package br.com.stoom.coupon_domain.adapter.in.web.dto;
+
+import br.com.stoom.coupon_domain.application.port.in.BuscarCuponsPorPrefixoUseCase.SearchPage;
+
+import java.util.List;
+
+public record CouponSearchResponse(
+        List<String> codigos,
+        String proximoApos,
+        boolean temMais
+) {
+
+    public static CouponSearchResponse from(SearchPage page) {
+        List<String> codigos = page.codes();
+        String proximoApos = codigos.isEmpty() ? null : codigos.get(codigos.size() - 1);
+        return new CouponSearchResponse(codigos, proximoApos, page.hasMore());
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.stoom.coupon_domain.adapter.in.web.dto;
+
+import br.com.stoom.coupon_domain.domain.model.CouponStatistics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record CouponStatisticsResponse(
+        long total,
+        long ativos,
+        long expirados,
+        long excluidos,
+        long publicados,
+        long naoPublicados,
+        BigDecimal valorDescontoAtivos,
+        List<FaixaDesconto> histogramaDesconto,
+        List<ExpiracaoDia> expirandoPorDia,
+        LocalDateTime reconciliadoEm
+) {
+
+    public static CouponStatisticsResponse from(CouponStatistics statistics) {
+        return new CouponStatisticsResponse(
+                statistics.total(),
+                statistics.active(),
+                statistics.expired(),
+                statistics.deleted(),
+                statistics.published(),
+                statistics.unpublished(),
+                statistics.activeDiscountTotal(),
+                statistics.activeDiscountHistogram().stream()
+                        .map(bucket -> new FaixaDesconto(bucket.from(), bucket.to(), bucket.count()))
+                        .toList(),
+                statistics.expiringPerDay().entrySet().stream()
+                        .map(entry -> new ExpiracaoDia(entry.getKey(), entry.getValue()))
+                        .toList(),
+                statistics.reconciledAt()
+        );
+    }
+
+    public record FaixaDesconto(
+            BigDecimal de,
+            BigDecimal ate,
+            long quantidade
+    ) {
+    }
+
+    public record ExpiracaoDia(
+            LocalDate data,
+            long quantidade
+    ) {
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.stoom.coupon_domain.adapter.out.events;
+
+import br.com.stoom.coupon_domain.domain.model.OutboxMessage;
+import br.com.stoom.coupon_domain.domain.port.CouponEventSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "coupon.outbox.sinks.in-jvm.enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationEventCouponEventSink implements CouponEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApplicationEventCouponEventSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public String name() {
+        return "in-jvm";
+    }
+
+    @Override
+    public void deliver(List<OutboxMessage> messages) {
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
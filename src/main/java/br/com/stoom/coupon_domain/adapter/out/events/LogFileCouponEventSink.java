@@ -0,0 +1,62 @@
+package br.com.stoom.coupon_domain.adapter.out.events;
+
+import br.com.stoom.coupon_domain.domain.model.OutboxMessage;
+import br.com.stoom.coupon_domain.domain.port.CouponEventSink;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "coupon.outbox.sinks.log-file.path")
+public class LogFileCouponEventSink implements CouponEventSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public LogFileCouponEventSink(ObjectMapper objectMapper,
+                                  @Value("${coupon.outbox.sinks.log-file.path}") Path path) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+    }
+
+    @Override
+    public String name() {
+        return "log-file";
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxMessage> messages) {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (OutboxMessage message : messages) {
+                writer.write(toJsonLine(message));
+                writer.write('\n');
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private String toJsonLine(OutboxMessage message) throws JsonProcessingException {
+        ObjectNode line = objectMapper.createObjectNode();
+        line.put("sequence", message.sequence());
+        line.put("type", message.type());
+        line.put("aggregateId", message.aggregateId().toString());
+        line.put("code", message.code());
+        line.put("occurredAt", message.occurredAt().toString());
+        line.set("payload", objectMapper.readTree(message.payload()));
+        return objectMapper.writeValueAsString(line);
+    }
+}
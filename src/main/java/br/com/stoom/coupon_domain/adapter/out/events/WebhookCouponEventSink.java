@@ -0,0 +1,38 @@
+package br.com.stoom.coupon_domain.adapter.out.events;
+
+import br.com.stoom.coupon_domain.domain.model.OutboxMessage;
+import br.com.stoom.coupon_domain.domain.port.CouponEventSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "coupon.outbox.sinks.webhook.url")
+public class WebhookCouponEventSink implements CouponEventSink {
+
+    private final RestClient restClient;
+
+    public WebhookCouponEventSink(RestClient.Builder restClientBuilder,
+                                  @Value("${coupon.outbox.sinks.webhook.url}") String url) {
+        this.restClient = restClientBuilder.baseUrl(url).build();
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    // One POST per batch; any non-2xx response raises and leaves the batch pending for redelivery.
+    @Override
+    public void deliver(List<OutboxMessage> messages) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(messages)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
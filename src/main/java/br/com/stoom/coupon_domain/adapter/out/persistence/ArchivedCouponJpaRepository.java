@@ -0,0 +1,11 @@
+package br.com.stoom.coupon_domain.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ArchivedCouponJpaRepository extends JpaRepository<ArchivedCouponEntity, UUID> {
+
+    Optional<ArchivedCouponEntity> findFirstByCodeOrderByArchivedAtDesc(String code);
+}
@@ -0,0 +1,36 @@
+package br.com.stoom.coupon_domain.adapter.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "coupon_catalog_version")
+public class CatalogVersionEntity {
+
+    static final int SINGLETON_ID = 1;
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private Integer id;
+
+    @Column(name = "sequence", nullable = false)
+    private long sequence;
+
+    protected CatalogVersionEntity() {
+    }
+
+    public CatalogVersionEntity(Integer id, long sequence) {
+        this.id = id;
+        this.sequence = sequence;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.stoom.coupon_domain.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CatalogVersionJpaRepository extends JpaRepository<CatalogVersionEntity, Integer> {
+
+    @Query("SELECT v.sequence FROM CatalogVersionEntity v WHERE v.id = :id")
+    Optional<Long> findSequence(@Param("id") int id);
+
+    @Modifying
+    @Query("UPDATE CatalogVersionEntity v SET v.sequence = v.sequence + 1 WHERE v.id = :id")
+    int increment(@Param("id") int id);
+}
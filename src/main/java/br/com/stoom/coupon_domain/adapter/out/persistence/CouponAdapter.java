@@ -1,29 +1,60 @@
 package br.com.stoom.coupon_domain.adapter.out.persistence;
 
+import br.com.stoom.coupon_domain.adapter.out.persistence.CouponJpaRepository.CouponVersionView;
+import br.com.stoom.coupon_domain.adapter.out.persistence.CouponJpaRepository.StatusCountsView;
+import br.com.stoom.coupon_domain.domain.model.CatalogVersion;
 import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.model.CouponStatusCounts;
 import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
 public class CouponAdapter implements CouponRepository {
 
     private final CouponJpaRepository couponJpaRepository;
+    private final ArchivedCouponJpaRepository archivedCouponJpaRepository;
+    private final CatalogVersionJpaRepository catalogVersionJpaRepository;
 
-    public CouponAdapter(CouponJpaRepository couponJpaRepository) {
+    public CouponAdapter(CouponJpaRepository couponJpaRepository,
+                         ArchivedCouponJpaRepository archivedCouponJpaRepository,
+                         CatalogVersionJpaRepository catalogVersionJpaRepository) {
         this.couponJpaRepository = couponJpaRepository;
+        this.archivedCouponJpaRepository = archivedCouponJpaRepository;
+        this.catalogVersionJpaRepository = catalogVersionJpaRepository;
     }
 
     @Override
     public Coupon save(Coupon coupon) {
         CouponEntity entity = CouponMapper.toJpaEntity(coupon);
         CouponEntity saved = couponJpaRepository.save(entity);
+        bumpCatalogVersion();
         return CouponMapper.toDomain(saved);
     }
 
+    @Override
+    public List<Coupon> saveAll(List<Coupon> coupons) {
+        List<CouponEntity> entities = coupons.stream()
+                .map(CouponMapper::toJpaEntity)
+                .toList();
+        List<Coupon> saved = couponJpaRepository.saveAll(entities).stream()
+                .map(CouponMapper::toDomain)
+                .toList();
+        bumpCatalogVersion();
+        return saved;
+    }
+
     @Override
     public Optional<Coupon> findById(UUID id) {
         return couponJpaRepository.findById(id)
@@ -43,8 +74,117 @@ public class CouponAdapter implements CouponRepository {
                 .toList();
     }
 
+    @Override
+    public List<Coupon> findAllByCodes(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return List.of();
+        }
+        return couponJpaRepository.findByCodeIn(codes).stream()
+                .map(CouponMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public boolean existsByCode(String code) {
         return couponJpaRepository.existsByCode(code);
     }
+
+    @Override
+    public Set<String> findExistingCodes(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return Set.of();
+        }
+        return couponJpaRepository.findExistingCodes(codes);
+    }
+
+    @Override
+    public List<String> findCodesAfter(String afterCode, int limit) {
+        return couponJpaRepository.findCodesAfter(afterCode, Limit.of(limit));
+    }
+
+    @Override
+    public List<CouponChange> findChangedSince(LocalDateTime since, UUID afterId, LocalDateTime until, int limit) {
+        return couponJpaRepository.findChangedSince(since, afterId, until, Limit.of(limit)).stream()
+                .map(CouponMapper::toChange)
+                .toList();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findUpdatedAtByCode(String code) {
+        return couponJpaRepository.findUpdatedAtByCode(code);
+    }
+
+    @Override
+    public Map<String, LocalDateTime> findUpdatedAtByCodes(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, LocalDateTime> versions = new LinkedHashMap<>();
+        for (CouponVersionView view : couponJpaRepository.findUpdatedAtByCodeIn(codes)) {
+            versions.put(view.getCode(), view.getUpdatedAt());
+        }
+        return versions;
+    }
+
+    @Override
+    public CatalogVersion findCatalogVersion() {
+        return new CatalogVersion(catalogVersionJpaRepository.findSequence(CatalogVersionEntity.SINGLETON_ID)
+                .orElse(0L));
+    }
+
+    @Override
+    public long count() {
+        return couponJpaRepository.count();
+    }
+
+    @Override
+    public CouponStatusCounts countByStatus(LocalDate today) {
+        StatusCountsView view = couponJpaRepository.countByStatus(today);
+        return new CouponStatusCounts(view.getTotal(), view.getDeleted(), view.getExpired(), view.getPublished());
+    }
+
+    // Runs in the caller's transaction, which holds the claimed rows locked until the copy and the delete
+    // commit; a row locked by a writer or another archiver is left for the next batch.
+    @Override
+    public Map<String, UUID> archiveBatch(LocalDateTime deletedBefore, LocalDate expiredBefore, int limit) {
+        Map<UUID, CouponEntity> candidates = new LinkedHashMap<>();
+        couponJpaRepository.lockExpiredBefore(expiredBefore, Limit.of(limit))
+                .forEach(entity -> candidates.put(entity.getId(), entity));
+        if (candidates.size() < limit) {
+            couponJpaRepository.lockDeletedBefore(deletedBefore, Limit.of(limit - candidates.size()))
+                    .forEach(entity -> candidates.putIfAbsent(entity.getId(), entity));
+        }
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+
+        List<CouponEntity> batch = List.copyOf(candidates.values());
+
+        LocalDateTime archivedAt = LocalDateTime.now();
+        archivedCouponJpaRepository.saveAll(batch.stream()
+                .map(entity -> CouponMapper.toArchiveEntity(entity, archivedAt))
+                .toList());
+        couponJpaRepository.deleteAllInBatch(batch);
+        bumpCatalogVersion();
+
+        Map<String, UUID> archived = new LinkedHashMap<>();
+        batch.forEach(entity -> archived.put(entity.getCode(), entity.getId()));
+        return archived;
+    }
+
+    @Override
+    public Optional<Coupon> findArchivedByCode(String code) {
+        return archivedCouponJpaRepository.findFirstByCodeOrderByArchivedAtDesc(code)
+                .map(CouponMapper::toDomain);
+    }
+
+    // Runs in the caller's transaction after its rows are flushed, so the version row is the last lock every
+    // writer takes and is held only until commit. A database seeded by schema.sql already has the row; one
+    // created from the entities gets it on its first write.
+    private void bumpCatalogVersion() {
+        couponJpaRepository.flush();
+        if (catalogVersionJpaRepository.increment(CatalogVersionEntity.SINGLETON_ID) == 0) {
+            catalogVersionJpaRepository.save(new CatalogVersionEntity(CatalogVersionEntity.SINGLETON_ID, 1));
+        }
+    }
 }
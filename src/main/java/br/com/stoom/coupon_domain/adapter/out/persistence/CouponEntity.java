@@ -3,6 +3,7 @@ package br.com.stoom.coupon_domain.adapter.out.persistence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -10,10 +11,15 @@ import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Entity
-@Table(name = "coupons")
+@Table(name = "coupons", indexes = {
+        @Index(name = "idx_coupons_updated_at_id", columnList = "updated_at, id"),
+        @Index(name = "idx_coupons_active_expiration", columnList = "expiration_date"),
+        @Index(name = "idx_coupons_deleted_at", columnList = "deleted_at")
+})
 public class CouponEntity {
 
     @Id
@@ -66,12 +72,12 @@ public class CouponEntity {
 
     @PrePersist
     void onPrePersist() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     @PreUpdate
     void onPreUpdate() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     public UUID getId() {
@@ -1,8 +1,20 @@
 package br.com.stoom.coupon_domain.adapter.out.persistence;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface CouponJpaRepository extends JpaRepository<CouponEntity, UUID> {
@@ -10,4 +22,76 @@ public interface CouponJpaRepository extends JpaRepository<CouponEntity, UUID> {
     Optional<CouponEntity> findByCode(String code);
 
     boolean existsByCode(String code);
+
+    List<CouponEntity> findByCodeIn(Collection<String> codes);
+
+    @Query("SELECT c.code FROM CouponEntity c WHERE c.code IN :codes")
+    Set<String> findExistingCodes(@Param("codes") Collection<String> codes);
+
+    @Query("SELECT c.code FROM CouponEntity c WHERE c.code > :afterCode ORDER BY c.code ASC")
+    List<String> findCodesAfter(@Param("afterCode") String afterCode, Limit limit);
+
+    @Query("""
+            SELECT c FROM CouponEntity c
+            WHERE (c.updatedAt > :since OR (c.updatedAt = :since AND c.id > :afterId))
+              AND c.updatedAt <= :until
+            ORDER BY c.updatedAt ASC, c.id ASC
+            """)
+    List<CouponEntity> findChangedSince(@Param("since") LocalDateTime since,
+                                        @Param("afterId") UUID afterId,
+                                        @Param("until") LocalDateTime until,
+                                        Limit limit);
+
+    // Archival candidates are claimed FOR UPDATE SKIP LOCKED (lock timeout -2): a concurrent delete of a
+    // claimed row waits for the archive to commit, and instances archiving at once split the rows.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT c FROM CouponEntity c
+            WHERE c.expirationDate < :expiredBefore
+            ORDER BY c.expirationDate ASC, c.id ASC
+            """)
+    List<CouponEntity> lockExpiredBefore(@Param("expiredBefore") LocalDate expiredBefore, Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT c FROM CouponEntity c
+            WHERE c.deleted = true AND c.deletedAt < :deletedBefore
+            ORDER BY c.id ASC
+            """)
+    List<CouponEntity> lockDeletedBefore(@Param("deletedBefore") LocalDateTime deletedBefore, Limit limit);
+
+    @Query("SELECT c.updatedAt FROM CouponEntity c WHERE c.code = :code")
+    Optional<LocalDateTime> findUpdatedAtByCode(@Param("code") String code);
+
+    @Query("SELECT c.code AS code, c.updatedAt AS updatedAt FROM CouponEntity c WHERE c.code IN :codes")
+    List<CouponVersionView> findUpdatedAtByCodeIn(@Param("codes") Collection<String> codes);
+
+    @Query("""
+            SELECT COUNT(c) AS total,
+                   COALESCE(SUM(CASE WHEN c.deleted = true THEN 1 ELSE 0 END), 0) AS deleted,
+                   COALESCE(SUM(CASE WHEN c.deleted = false AND c.expirationDate < :today THEN 1 ELSE 0 END), 0) AS expired,
+                   COALESCE(SUM(CASE WHEN c.deleted = false AND c.published = true THEN 1 ELSE 0 END), 0) AS published
+            FROM CouponEntity c
+            """)
+    StatusCountsView countByStatus(@Param("today") LocalDate today);
+
+    interface CouponVersionView {
+
+        String getCode();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    interface StatusCountsView {
+
+        long getTotal();
+
+        long getDeleted();
+
+        long getExpired();
+
+        long getPublished();
+    }
 }
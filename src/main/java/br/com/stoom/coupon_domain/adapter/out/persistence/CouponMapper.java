@@ -1,10 +1,13 @@
 package br.com.stoom.coupon_domain.adapter.out.persistence;
 
 import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
 import br.com.stoom.coupon_domain.domain.model.CouponCode;
 import br.com.stoom.coupon_domain.domain.model.DiscountValue;
 import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
 
+import java.time.LocalDateTime;
+
 public final class CouponMapper {
 
     private CouponMapper() {
@@ -37,4 +40,38 @@ public final class CouponMapper {
                 entity.getCreatedAt()
         );
     }
+
+    public static Coupon toDomain(ArchivedCouponEntity entity) {
+        return Coupon.reconstitute(
+                entity.getId(),
+                CouponCode.reconstitute(entity.getCode()),
+                entity.getDescription(),
+                DiscountValue.reconstitute(entity.getDiscountValue()),
+                ExpirationDate.reconstitute(entity.getExpirationDate()),
+                entity.isPublished(),
+                entity.isDeleted(),
+                entity.getDeletedAt(),
+                entity.getCreatedAt()
+        );
+    }
+
+    public static ArchivedCouponEntity toArchiveEntity(CouponEntity entity, LocalDateTime archivedAt) {
+        return new ArchivedCouponEntity(
+                entity.getId(),
+                entity.getCode(),
+                entity.getDescription(),
+                entity.getDiscountValue(),
+                entity.getExpirationDate(),
+                entity.isPublished(),
+                entity.isDeleted(),
+                entity.getDeletedAt(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt(),
+                archivedAt
+        );
+    }
+
+    public static CouponChange toChange(CouponEntity entity) {
+        return new CouponChange(toDomain(entity), entity.getUpdatedAt());
+    }
 }
@@ -0,0 +1,75 @@
+package br.com.stoom.coupon_domain.adapter.out.persistence;
+
+import br.com.stoom.coupon_domain.domain.model.OutboxBatch;
+import br.com.stoom.coupon_domain.domain.model.OutboxMessage;
+import br.com.stoom.coupon_domain.domain.port.CouponEventOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class CouponOutboxAdapter implements CouponEventOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final CouponOutboxJpaRepository couponOutboxJpaRepository;
+
+    public CouponOutboxAdapter(CouponOutboxJpaRepository couponOutboxJpaRepository) {
+        this.couponOutboxJpaRepository = couponOutboxJpaRepository;
+    }
+
+    @Override
+    public void append(String type, UUID aggregateId, String code, String payload, LocalDateTime occurredAt) {
+        couponOutboxJpaRepository.save(new CouponOutboxEntity(type, aggregateId, code, payload, occurredAt));
+    }
+
+    // Runs in the caller's transaction: the rows stay locked only until it commits, after which the
+    // claimedUntil lease keeps other relays away while the batch is being delivered.
+    @Override
+    public OutboxBatch claimPending(int limit, LocalDateTime now, LocalDateTime claimedUntil) {
+        List<CouponOutboxEntity> entities = couponOutboxJpaRepository.lockAvailable(now, Limit.of(limit));
+        if (entities.isEmpty()) {
+            return OutboxBatch.empty();
+        }
+        List<OutboxMessage> messages = entities.stream()
+                .map(entity -> new OutboxMessage(
+                        entity.getId(),
+                        entity.getEventType(),
+                        entity.getAggregateId(),
+                        entity.getCouponCode(),
+                        entity.getPayload(),
+                        entity.getOccurredAt()
+                ))
+                .toList();
+        int attempts = entities.stream().mapToInt(CouponOutboxEntity::getAttempts).max().orElse(0) + 1;
+        couponOutboxJpaRepository.claim(messages.stream().map(OutboxMessage::sequence).toList(), claimedUntil);
+        return new OutboxBatch(messages, attempts);
+    }
+
+    @Override
+    public void markPublished(Collection<Long> sequences, LocalDateTime publishedAt) {
+        couponOutboxJpaRepository.markPublished(sequences, publishedAt);
+    }
+
+    @Override
+    public void recordFailure(Collection<Long> sequences, String error, LocalDateTime retryAt) {
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        couponOutboxJpaRepository.recordFailure(sequences, truncated, retryAt);
+    }
+
+    @Override
+    public int parkExhausted(Collection<Long> sequences, int maxAttempts, LocalDateTime failedAt) {
+        return couponOutboxJpaRepository.parkExhausted(sequences, maxAttempts, failedAt);
+    }
+
+    @Override
+    public int purgePublishedBefore(LocalDateTime publishedBefore) {
+        return couponOutboxJpaRepository.deletePublishedBefore(publishedBefore);
+    }
+}
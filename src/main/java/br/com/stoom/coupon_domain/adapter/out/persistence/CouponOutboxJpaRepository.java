@@ -0,0 +1,53 @@
+package br.com.stoom.coupon_domain.adapter.out.persistence;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface CouponOutboxJpaRepository extends JpaRepository<CouponOutboxEntity, Long> {
+
+    // Lock timeout -2 is Hibernate's SKIP LOCKED, so concurrent relays split the backlog instead of waiting.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT o FROM CouponOutboxEntity o
+            WHERE o.publishedAt IS NULL AND o.failedAt IS NULL
+              AND (o.availableAt IS NULL OR o.availableAt <= :now)
+            ORDER BY o.id ASC
+            """)
+    List<CouponOutboxEntity> lockAvailable(@Param("now") LocalDateTime now, Limit limit);
+
+    @Modifying
+    @Query("UPDATE CouponOutboxEntity o SET o.attempts = o.attempts + 1, o.availableAt = :claimedUntil "
+            + "WHERE o.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    @Modifying
+    @Query("UPDATE CouponOutboxEntity o SET o.publishedAt = :publishedAt WHERE o.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("UPDATE CouponOutboxEntity o SET o.lastError = :error, o.availableAt = :retryAt WHERE o.id IN :ids")
+    int recordFailure(@Param("ids") Collection<Long> ids, @Param("error") String error,
+                      @Param("retryAt") LocalDateTime retryAt);
+
+    @Modifying
+    @Query("UPDATE CouponOutboxEntity o SET o.failedAt = :failedAt "
+            + "WHERE o.id IN :ids AND o.attempts >= :maxAttempts")
+    int parkExhausted(@Param("ids") Collection<Long> ids, @Param("maxAttempts") int maxAttempts,
+                      @Param("failedAt") LocalDateTime failedAt);
+
+    @Modifying
+    @Query("DELETE FROM CouponOutboxEntity o WHERE o.publishedAt < :publishedBefore")
+    int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore);
+}
@@ -0,0 +1,157 @@
+package br.com.stoom.coupon_domain.adapter.out.persistence;
+
+import br.com.stoom.coupon_domain.domain.model.CouponsArchivedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "coupon.partitioning.enabled", havingValue = "true")
+public class CouponPartitionMaintenance {
+
+    static final String DEFAULT_PARTITION = "coupons_default";
+
+    private static final String PARTITION_PREFIX = "coupons_";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final String COLUMNS = "id, code, description, discount_value, expiration_date, "
+            + "published, deleted, deleted_at, created_at, updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    @Autowired
+    public CouponPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                      TransactionOperations transactionOperations,
+                                      ApplicationEventPublisher eventPublisher,
+                                      @Value("${coupon.partitioning.months-ahead:12}") int monthsAhead,
+                                      @Value("${coupon.partitioning.retention-months:12}") int retentionMonths) {
+        this(jdbcTemplate, transactionOperations, eventPublisher, Clock.systemDefaultZone(), monthsAhead,
+                retentionMonths);
+    }
+
+    CouponPartitionMaintenance(JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations,
+                               ApplicationEventPublisher eventPublisher, Clock clock, int monthsAhead,
+                               int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${coupon.partitioning.cron:0 0 2 * * *}")
+    public void maintain() {
+        createUpcomingPartitions();
+        dropExpiredPartitions();
+    }
+
+    int createUpcomingPartitions() {
+        LocalDate firstMonth = LocalDate.now(clock).withDayOfMonth(1);
+        int created = 0;
+        for (int i = 0; i <= monthsAhead; i++) {
+            LocalDate month = firstMonth.plusMonths(i);
+            if (!exists(partitionName(month))) {
+                transactionOperations.executeWithoutResult(status -> createPartition(month));
+                created++;
+            }
+        }
+        return created;
+    }
+
+    int dropExpiredPartitions() {
+        LocalDate cutoff = LocalDate.now(clock).withDayOfMonth(1).minusMonths(retentionMonths);
+        int dropped = 0;
+        for (String partition : listMonthlyPartitions()) {
+            LocalDate month = monthOf(partition);
+            if (!month.plusMonths(1).isAfter(cutoff)) {
+                transactionOperations.executeWithoutResult(status -> dropPartition(partition));
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    static String partitionName(LocalDate month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    static LocalDate monthOf(String partition) {
+        String suffix = partition.substring(PARTITION_PREFIX.length());
+        return LocalDate.of(Integer.parseInt(suffix.substring(0, 4)), Integer.parseInt(suffix.substring(5, 7)), 1);
+    }
+
+    private boolean exists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL", Boolean.class, table));
+    }
+
+    private List<String> listMonthlyPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'coupons'::regclass
+                  AND c.relname ~ '^coupons_[0-9]{4}_[0-9]{2}$'
+                ORDER BY c.relname
+                """, String.class);
+    }
+
+    private void createPartition(LocalDate month) {
+        String partition = partitionName(month);
+        String bounds = "FROM ('" + month + "') TO ('" + month.plusMonths(1) + "')";
+        String range = "expiration_date >= '" + month + "' AND expiration_date < '" + month.plusMonths(1) + "'";
+
+        Boolean parkedInDefault = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE " + range + ")", Boolean.class);
+        if (!Boolean.TRUE.equals(parkedInDefault)) {
+            jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF coupons FOR VALUES " + bounds);
+            return;
+        }
+
+        // Rows for this month already sit in the default partition: move them into a
+        // standalone table and attach it. The DELETE releases their codes, so re-claim them.
+        jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE coupons INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        jdbcTemplate.execute("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION + " WHERE " + range
+                + " RETURNING " + COLUMNS + ") INSERT INTO " + partition + " (" + COLUMNS + ") SELECT "
+                + COLUMNS + " FROM moved");
+        jdbcTemplate.execute("INSERT INTO coupon_codes (code) SELECT code FROM " + partition
+                + " ON CONFLICT DO NOTHING");
+        jdbcTemplate.execute("ALTER TABLE coupons ATTACH PARTITION " + partition + " FOR VALUES " + bounds);
+    }
+
+    private void dropPartition(String partition) {
+        Map<String, UUID> dropped = new LinkedHashMap<>();
+        jdbcTemplate.execute("ALTER TABLE coupons DETACH PARTITION " + partition);
+        jdbcTemplate.query("SELECT code, id FROM " + partition, rs -> {
+            dropped.put(rs.getString(1), rs.getObject(2, UUID.class));
+        });
+        jdbcTemplate.execute("INSERT INTO coupons_archive (" + COLUMNS + ", archived_at) SELECT " + COLUMNS
+                + ", now() FROM " + partition + " ON CONFLICT (id) DO NOTHING");
+        jdbcTemplate.execute("DELETE FROM coupon_codes WHERE code IN (SELECT code FROM " + partition + ")");
+        jdbcTemplate.execute("DROP TABLE " + partition);
+        if (!dropped.isEmpty()) {
+            jdbcTemplate.update("UPDATE coupon_catalog_version SET sequence = sequence + 1 WHERE id = 1");
+            eventPublisher.publishEvent(new CouponsArchivedEvent(dropped));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.stoom.coupon_domain.adapter.out.persistence;
+
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatch;
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatches;
+import br.com.stoom.coupon_domain.domain.port.CouponDescriptionSearch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Backed by the GIN index on coupon_search_vector(description) from db/schema-text-search-database.sql.
+@Component
+@ConditionalOnProperty(name = "coupon.text-search.mode", havingValue = "database")
+public class PostgresCouponDescriptionSearch implements CouponDescriptionSearch {
+
+    // The total is counted over every match rather than over the page, so a page past the end still reports
+    // it, as CouponDescriptionIndex does; the count row is always returned and carries a null code when the
+    // page itself is empty.
+    private static final String SEARCH_SQL = """
+            WITH matched AS (
+                SELECT c.code, c.description,
+                       ts_rank(coupon_search_vector(c.description), q.query) AS score
+                FROM coupons c,
+                     plainto_tsquery('portuguese', unaccent(?)) AS q(query)
+                WHERE c.deleted = false
+                  AND c.expiration_date >= ?
+                  AND coupon_search_vector(c.description) @@ q.query
+            )
+            SELECT page.code, page.description, page.score, counted.total
+            FROM (SELECT COUNT(*) AS total FROM matched) AS counted
+            LEFT JOIN LATERAL (
+                SELECT m.code, m.description, m.score
+                FROM matched m
+                ORDER BY m.score DESC, m.code ASC
+                LIMIT ? OFFSET ?
+            ) AS page ON true
+            ORDER BY page.score DESC, page.code ASC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    @Autowired
+    public PostgresCouponDescriptionSearch(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, Clock.systemDefaultZone());
+    }
+
+    PostgresCouponDescriptionSearch(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+    }
+
+    @Override
+    public DescriptionMatches search(String query, int offset, int limit) {
+        List<DescriptionMatch> matches = new ArrayList<>();
+        long[] total = {0};
+        jdbcTemplate.query(SEARCH_SQL, rs -> {
+            total[0] = rs.getLong("total");
+            String code = rs.getString("code");
+            if (code != null) {
+                matches.add(new DescriptionMatch(code, rs.getString("description"), rs.getDouble("score")));
+            }
+        }, query, LocalDate.now(clock), limit, offset);
+        return new DescriptionMatches(matches, total[0]);
+    }
+}
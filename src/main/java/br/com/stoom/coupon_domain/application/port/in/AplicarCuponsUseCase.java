@@ -0,0 +1,52 @@
+package br.com.stoom.coupon_domain.application.port.in;
+
+import java.util.List;
+
+public interface AplicarCuponsUseCase {
+
+    List<CartResult> execute(List<Cart> carts);
+
+    record Cart(
+            String id,
+            List<CartLine> lines,
+            List<String> codes
+    ) {
+    }
+
+    record CartLine(
+            String sku,
+            long quantity,
+            long unitPriceCents
+    ) {
+    }
+
+    enum RejectionReason {
+        NOT_FOUND,
+        DELETED,
+        NOT_PUBLISHED,
+        EXPIRED,
+        ALREADY_APPLIED
+    }
+
+    record AppliedDiscount(
+            String code,
+            long amountCents
+    ) {
+    }
+
+    record RejectedCoupon(
+            String code,
+            RejectionReason reason
+    ) {
+    }
+
+    record CartResult(
+            String cartId,
+            long subtotalCents,
+            long discountCents,
+            long totalCents,
+            List<AppliedDiscount> applied,
+            List<RejectedCoupon> rejected
+    ) {
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.stoom.coupon_domain.application.port.in;
+
+import java.util.List;
+
+public interface AquecerCachesUseCase {
+
+    WarmUpResult execute(int sampleSize);
+
+    record WarmUpResult(int loadedCoupons, List<String> activeCodes) {
+    }
+}
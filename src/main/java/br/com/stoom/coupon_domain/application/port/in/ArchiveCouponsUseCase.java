@@ -0,0 +1,6 @@
+package br.com.stoom.coupon_domain.application.port.in;
+
+public interface ArchiveCouponsUseCase {
+
+    int execute();
+}
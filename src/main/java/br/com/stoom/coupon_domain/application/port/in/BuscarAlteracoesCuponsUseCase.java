@@ -0,0 +1,18 @@
+package br.com.stoom.coupon_domain.application.port.in;
+
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface BuscarAlteracoesCuponsUseCase {
+
+    ChangesPage execute(LocalDateTime since, UUID afterId, Integer limit);
+
+    record ChangesPage(
+            List<CouponChange> changes,
+            boolean hasMore
+    ) {
+    }
+}
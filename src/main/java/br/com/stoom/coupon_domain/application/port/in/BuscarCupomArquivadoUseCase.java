@@ -0,0 +1,10 @@
+package br.com.stoom.coupon_domain.application.port.in;
+
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+
+import java.util.Optional;
+
+public interface BuscarCupomArquivadoUseCase {
+
+    Optional<Coupon> execute(String codigo);
+}
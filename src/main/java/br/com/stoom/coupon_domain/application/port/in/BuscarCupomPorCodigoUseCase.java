@@ -2,7 +2,12 @@ package br.com.stoom.coupon_domain.application.port.in;
 
 import br.com.stoom.coupon_domain.domain.model.Coupon;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 public interface BuscarCupomPorCodigoUseCase {
 
     Coupon execute(String codigo);
+
+    Optional<Coupon> find(String codigo, LocalDateTime version);
 }
@@ -0,0 +1,20 @@
+package br.com.stoom.coupon_domain.application.port.in;
+
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+
+import java.util.List;
+
+public interface BuscarCuponsPorCodigosUseCase {
+
+    List<CouponLookup> execute(List<String> codigos);
+
+    record CouponLookup(
+            String code,
+            Coupon coupon
+    ) {
+
+        public boolean found() {
+            return coupon != null;
+        }
+    }
+}
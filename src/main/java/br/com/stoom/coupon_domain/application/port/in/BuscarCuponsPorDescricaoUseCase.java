@@ -0,0 +1,8 @@
+package br.com.stoom.coupon_domain.application.port.in;
+
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatches;
+
+public interface BuscarCuponsPorDescricaoUseCase {
+
+    DescriptionMatches execute(String query, Integer page, Integer size);
+}
@@ -0,0 +1,14 @@
+package br.com.stoom.coupon_domain.application.port.in;
+
+import java.util.List;
+
+public interface BuscarCuponsPorPrefixoUseCase {
+
+    SearchPage execute(String pattern, String afterCode, Integer limit);
+
+    record SearchPage(
+            List<String> codes,
+            boolean hasMore
+    ) {
+    }
+}
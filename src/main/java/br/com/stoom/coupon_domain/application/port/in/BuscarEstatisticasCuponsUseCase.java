@@ -0,0 +1,8 @@
+package br.com.stoom.coupon_domain.application.port.in;
+
+import br.com.stoom.coupon_domain.domain.model.CouponStatistics;
+
+public interface BuscarEstatisticasCuponsUseCase {
+
+    CouponStatistics execute();
+}
@@ -0,0 +1,9 @@
+package br.com.stoom.coupon_domain.application.port.in;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface BuscarVersaoCupomUseCase {
+
+    Optional<LocalDateTime> execute(String codigo);
+}
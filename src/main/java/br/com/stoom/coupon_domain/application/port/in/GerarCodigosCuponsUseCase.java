@@ -0,0 +1,8 @@
+package br.com.stoom.coupon_domain.application.port.in;
+
+import java.util.List;
+
+public interface GerarCodigosCuponsUseCase {
+
+    List<String> execute(int quantidade);
+}
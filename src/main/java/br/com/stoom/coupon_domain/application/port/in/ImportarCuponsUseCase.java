@@ -0,0 +1,47 @@
+package br.com.stoom.coupon_domain.application.port.in;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ImportarCuponsUseCase {
+
+    ImportSlot reserve();
+
+    ImportStatus start(ImportSlot slot, Path source);
+
+    Optional<ImportStatus> status(UUID jobId);
+
+    interface ImportSlot extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    enum ImportState {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    record RowError(
+            long line,
+            String message
+    ) {
+    }
+
+    record ImportStatus(
+            UUID jobId,
+            ImportState state,
+            long processedRows,
+            long importedRows,
+            long failedRows,
+            List<RowError> errors,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt
+    ) {
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase;
+import br.com.stoom.coupon_domain.domain.exception.InvalidCartException;
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class AplicarCuponsUseCaseImpl implements AplicarCuponsUseCase {
+
+    private final CouponRepository couponRepository;
+
+    public AplicarCuponsUseCaseImpl(CouponRepository couponRepository) {
+        this.couponRepository = couponRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CartResult> execute(List<Cart> carts) {
+        Set<String> codes = new HashSet<>();
+        for (Cart cart : carts) {
+            for (String code : cart.codes()) {
+                codes.add(code.toUpperCase());
+            }
+        }
+
+        Map<String, Coupon> coupons = new HashMap<>();
+        for (Coupon coupon : couponRepository.findAllByCodes(codes)) {
+            coupons.put(coupon.getCode().value(), coupon);
+        }
+
+        List<CartResult> results = new ArrayList<>(carts.size());
+        for (Cart cart : carts) {
+            results.add(apply(cart, coupons));
+        }
+        return results;
+    }
+
+    private CartResult apply(Cart cart, Map<String, Coupon> coupons) {
+        long subtotal = subtotalOf(cart);
+        long remaining = subtotal;
+        List<AppliedDiscount> applied = new ArrayList<>(cart.codes().size());
+        List<RejectedCoupon> rejected = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+
+        for (String rawCode : cart.codes()) {
+            String code = rawCode.toUpperCase();
+            Coupon coupon = coupons.get(code);
+            RejectionReason reason = rejectionReason(coupon, seen.add(code));
+            if (reason != null) {
+                rejected.add(new RejectedCoupon(code, reason));
+                continue;
+            }
+
+            long amount = coupon.discountCentsFor(remaining);
+            remaining -= amount;
+            applied.add(new AppliedDiscount(code, amount));
+        }
+
+        return new CartResult(cart.id(), subtotal, subtotal - remaining, remaining, applied, rejected);
+    }
+
+    private static RejectionReason rejectionReason(Coupon coupon, boolean firstOccurrence) {
+        if (coupon == null) {
+            return RejectionReason.NOT_FOUND;
+        }
+        if (!firstOccurrence) {
+            return RejectionReason.ALREADY_APPLIED;
+        }
+        if (coupon.isDeleted()) {
+            return RejectionReason.DELETED;
+        }
+        if (!coupon.isPublished()) {
+            return RejectionReason.NOT_PUBLISHED;
+        }
+        if (coupon.isExpired()) {
+            return RejectionReason.EXPIRED;
+        }
+        return null;
+    }
+
+    private static long subtotalOf(Cart cart) {
+        try {
+            long subtotal = 0;
+            for (CartLine line : cart.lines()) {
+                subtotal = Math.addExact(subtotal, Math.multiplyExact(line.quantity(), line.unitPriceCents()));
+            }
+            return subtotal;
+        } catch (ArithmeticException ex) {
+            throw new InvalidCartException(
+                    "O valor do carrinho '" + cart.id() + "' excede o limite suportado"
+            );
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.AquecerCachesUseCase;
+import br.com.stoom.coupon_domain.domain.port.CouponDescriptionSearch;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+public class AquecerCachesUseCaseImpl implements AquecerCachesUseCase {
+
+    private final CouponReadModel couponReadModel;
+    private final CouponCodeIndex couponCodeIndex;
+    private final CouponDescriptionIndex couponDescriptionIndex;
+    private final CouponStatisticsTracker couponStatisticsTracker;
+    private final Optional<CouponDescriptionSearch> databaseSearch;
+
+    AquecerCachesUseCaseImpl(CouponReadModel couponReadModel,
+                             CouponCodeIndex couponCodeIndex,
+                             CouponDescriptionIndex couponDescriptionIndex,
+                             CouponStatisticsTracker couponStatisticsTracker,
+                             Optional<CouponDescriptionSearch> databaseSearch) {
+        this.couponReadModel = couponReadModel;
+        this.couponCodeIndex = couponCodeIndex;
+        this.couponDescriptionIndex = couponDescriptionIndex;
+        this.couponStatisticsTracker = couponStatisticsTracker;
+        this.databaseSearch = databaseSearch;
+    }
+
+    @Override
+    public WarmUpResult execute(int sampleSize) {
+        couponReadModel.refresh();
+        couponCodeIndex.refresh();
+        if (databaseSearch.isEmpty()) {
+            couponDescriptionIndex.refresh();
+        }
+        couponStatisticsTracker.refresh();
+
+        return new WarmUpResult(couponReadModel.size(), couponReadModel.activeCodes(sampleSize));
+    }
+}
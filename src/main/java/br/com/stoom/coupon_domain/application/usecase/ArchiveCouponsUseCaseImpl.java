@@ -0,0 +1,99 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.ArchiveCouponsUseCase;
+import br.com.stoom.coupon_domain.domain.model.CouponsArchivedEvent;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class ArchiveCouponsUseCaseImpl implements ArchiveCouponsUseCase {
+
+    private final CouponRepository couponRepository;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final Duration deletedRetention;
+    private final Duration expiredRetention;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration pauseBetweenBatches;
+
+    @Autowired
+    public ArchiveCouponsUseCaseImpl(CouponRepository couponRepository,
+                                     TransactionOperations transactionOperations,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Value("${coupon.archive.deleted-retention:P30D}") Duration deletedRetention,
+                                     @Value("${coupon.archive.expired-retention:P90D}") Duration expiredRetention,
+                                     @Value("${coupon.archive.batch-size:500}") int batchSize,
+                                     @Value("${coupon.archive.max-batches-per-run:200}") int maxBatches,
+                                     @Value("${coupon.archive.pause-between-batches:PT0.2S}") Duration pauseBetweenBatches) {
+        this(couponRepository, transactionOperations, eventPublisher, Clock.systemDefaultZone(),
+                deletedRetention, expiredRetention, batchSize, maxBatches, pauseBetweenBatches);
+    }
+
+    ArchiveCouponsUseCaseImpl(CouponRepository couponRepository, TransactionOperations transactionOperations,
+                              ApplicationEventPublisher eventPublisher, Clock clock, Duration deletedRetention,
+                              Duration expiredRetention, int batchSize, int maxBatches,
+                              Duration pauseBetweenBatches) {
+        this.couponRepository = couponRepository;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.deletedRetention = deletedRetention;
+        this.expiredRetention = expiredRetention;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseBetweenBatches = pauseBetweenBatches;
+    }
+
+    @Override
+    public int execute() {
+        LocalDateTime deletedBefore = LocalDateTime.now(clock).minus(deletedRetention);
+        LocalDate expiredBefore = LocalDate.now(clock).minusDays(expiredRetention.toDays());
+
+        int archived = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer moved = transactionOperations.execute(status ->
+                    archiveBatch(deletedBefore, expiredBefore));
+            archived += moved == null ? 0 : moved;
+            if (moved == null || moved < batchSize || !pause()) {
+                break;
+            }
+        }
+        return archived;
+    }
+
+    // The rows are gone from the coupons table, so the change feed never reports them; the in-memory
+    // replicas drop them when this event is delivered after the batch commits.
+    private int archiveBatch(LocalDateTime deletedBefore, LocalDate expiredBefore) {
+        Map<String, UUID> archived = couponRepository.archiveBatch(deletedBefore, expiredBefore, batchSize);
+        if (!archived.isEmpty()) {
+            eventPublisher.publishEvent(new CouponsArchivedEvent(archived));
+        }
+        return archived.size();
+    }
+
+    private boolean pause() {
+        if (pauseBetweenBatches.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenBatches.toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.BuscarAlteracoesCuponsUseCase;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class BuscarAlteracoesCuponsUseCaseImpl implements BuscarAlteracoesCuponsUseCase {
+
+    static final int DEFAULT_LIMIT = 100;
+    static final int MAX_LIMIT = 1000;
+
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID INITIAL_ID = new UUID(0L, 0L);
+
+    private final CouponChangeFeed changeFeed;
+
+    BuscarAlteracoesCuponsUseCaseImpl(CouponChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangesPage execute(LocalDateTime since, UUID afterId, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<CouponChange> changes = changeFeed.findChangedSince(
+                since == null ? INITIAL_WATERMARK : since,
+                afterId == null ? INITIAL_ID : afterId,
+                pageSize + 1
+        );
+
+        if (changes.size() > pageSize) {
+            return new ChangesPage(changes.subList(0, pageSize), true);
+        }
+        return new ChangesPage(changes, false);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.BuscarCupomArquivadoUseCase;
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Service
+public class BuscarCupomArquivadoUseCaseImpl implements BuscarCupomArquivadoUseCase {
+
+    private final CouponRepository couponRepository;
+
+    public BuscarCupomArquivadoUseCaseImpl(CouponRepository couponRepository) {
+        this.couponRepository = couponRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Coupon> execute(String codigo) {
+        return couponRepository.findArchivedByCode(codigo.toUpperCase());
+    }
+}
@@ -3,27 +3,39 @@ package br.com.stoom.coupon_domain.application.usecase;
 import br.com.stoom.coupon_domain.application.port.in.BuscarCupomPorCodigoUseCase;
 import br.com.stoom.coupon_domain.domain.exception.CouponNotFoundException;
 import br.com.stoom.coupon_domain.domain.model.Coupon;
-import br.com.stoom.coupon_domain.domain.port.CouponRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Service
 public class BuscarCupomPorCodigoUseCaseImpl implements BuscarCupomPorCodigoUseCase {
 
-    private final CouponRepository couponRepository;
+    private final CouponReadModel couponReadModel;
+    private final CouponLookupCoalescer couponLookupCoalescer;
 
-    public BuscarCupomPorCodigoUseCaseImpl(CouponRepository couponRepository) {
-        this.couponRepository = couponRepository;
+    BuscarCupomPorCodigoUseCaseImpl(CouponReadModel couponReadModel, CouponLookupCoalescer couponLookupCoalescer) {
+        this.couponReadModel = couponReadModel;
+        this.couponLookupCoalescer = couponLookupCoalescer;
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Coupon execute(String codigo) {
         String normalizedCode = codigo.toUpperCase();
 
-        return couponRepository.findByCode(normalizedCode)
-                .orElseThrow(() -> new CouponNotFoundException(
-                        "Cupom não encontrado com o código '" + normalizedCode + "'"
-                ));
+        return couponReadModel.find(normalizedCode)
+                .or(() -> couponLookupCoalescer.findByCode(normalizedCode))
+                .orElseThrow(() -> CouponNotFoundException.forCode(normalizedCode));
+    }
+
+    // A miss may be a coupon written since the snapshot's last refresh, by this or another instance,
+    // or one the snapshot holds at a different version; the database stays authoritative for it.
+    // Concurrent misses for the same code share one query.
+    @Override
+    public Optional<Coupon> find(String codigo, LocalDateTime version) {
+        String normalizedCode = codigo.toUpperCase();
+
+        return couponReadModel.find(normalizedCode, version)
+                .or(() -> couponLookupCoalescer.findByCode(normalizedCode));
     }
 }
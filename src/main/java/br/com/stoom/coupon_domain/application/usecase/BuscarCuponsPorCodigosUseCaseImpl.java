@@ -0,0 +1,39 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.BuscarCuponsPorCodigosUseCase;
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class BuscarCuponsPorCodigosUseCaseImpl implements BuscarCuponsPorCodigosUseCase {
+
+    private final CouponRepository couponRepository;
+
+    public BuscarCuponsPorCodigosUseCaseImpl(CouponRepository couponRepository) {
+        this.couponRepository = couponRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CouponLookup> execute(List<String> codigos) {
+        Set<String> normalizedCodes = codigos.stream()
+                .map(String::toUpperCase)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<String, Coupon> found = couponRepository.findAllByCodes(normalizedCodes).stream()
+                .collect(Collectors.toMap(coupon -> coupon.getCode().value(), Function.identity()));
+
+        return normalizedCodes.stream()
+                .map(code -> new CouponLookup(code, found.get(code)))
+                .toList();
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.BuscarCuponsPorDescricaoUseCase;
+import br.com.stoom.coupon_domain.domain.exception.InvalidSearchPatternException;
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatches;
+import br.com.stoom.coupon_domain.domain.port.CouponDescriptionSearch;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class BuscarCuponsPorDescricaoUseCaseImpl implements BuscarCuponsPorDescricaoUseCase {
+
+    static final int DEFAULT_SIZE = 20;
+    static final int MAX_SIZE = 100;
+    static final int MAX_TERMS = 10;
+
+    private final CouponDescriptionIndex couponDescriptionIndex;
+    private final Optional<CouponDescriptionSearch> databaseSearch;
+
+    BuscarCuponsPorDescricaoUseCaseImpl(CouponDescriptionIndex couponDescriptionIndex,
+                                        Optional<CouponDescriptionSearch> databaseSearch) {
+        this.couponDescriptionIndex = couponDescriptionIndex;
+        this.databaseSearch = databaseSearch;
+    }
+
+    @Override
+    public DescriptionMatches execute(String query, Integer page, Integer size) {
+        List<String> terms = DescriptionTokenizer.tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty() || terms.size() > MAX_TERMS) {
+            throw new InvalidSearchPatternException(
+                    "A busca deve conter de 1 a " + MAX_TERMS + " termos com ao menos 2 caracteres, mas foi '"
+                            + query + "'"
+            );
+        }
+
+        int pageSize = size == null ? DEFAULT_SIZE : Math.max(1, Math.min(size, MAX_SIZE));
+        // Clamped rather than multiplied in int: a huge page must come back empty, not wrap to a negative offset.
+        int offset = (int) Math.min((long) Math.max(0, page == null ? 0 : page) * pageSize, Integer.MAX_VALUE);
+
+        return databaseSearch
+                .map(search -> search.search(String.join(" ", terms), offset, pageSize))
+                .orElseGet(() -> couponDescriptionIndex.search(terms, offset, pageSize));
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.BuscarCuponsPorPrefixoUseCase;
+import br.com.stoom.coupon_domain.domain.exception.InvalidSearchPatternException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+@Service
+public class BuscarCuponsPorPrefixoUseCaseImpl implements BuscarCuponsPorPrefixoUseCase {
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 500;
+
+    private static final Pattern VALID_PATTERN = Pattern.compile("[A-Z0-9?*]+");
+    private static final int MAX_CODE_CHARS = 6;
+
+    private final CouponCodeIndex couponCodeIndex;
+
+    BuscarCuponsPorPrefixoUseCaseImpl(CouponCodeIndex couponCodeIndex) {
+        this.couponCodeIndex = couponCodeIndex;
+    }
+
+    @Override
+    public SearchPage execute(String pattern, String afterCode, Integer limit) {
+        String normalized = pattern == null ? "" : pattern.strip().toUpperCase();
+        if (!VALID_PATTERN.matcher(normalized).matches()
+                || normalized.replace("*", "").length() > MAX_CODE_CHARS) {
+            throw new InvalidSearchPatternException(
+                    "O padrão de busca deve ter de 1 a " + MAX_CODE_CHARS
+                            + " caracteres alfanuméricos, com curingas '?' e '*' opcionais, mas foi '" + pattern + "'"
+            );
+        }
+
+        int pageSize = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        String literalPrefix = literalPrefixOf(normalized);
+        Predicate<String> filter = literalPrefix.length() == normalized.length()
+                ? code -> true
+                : toRegex(normalized).asMatchPredicate();
+
+        List<String> codes = couponCodeIndex.search(
+                literalPrefix, filter, afterCode == null ? null : afterCode.toUpperCase(), pageSize + 1);
+
+        if (codes.size() > pageSize) {
+            return new SearchPage(codes.subList(0, pageSize), true);
+        }
+        return new SearchPage(codes, false);
+    }
+
+    private static String literalPrefixOf(String pattern) {
+        int end = 0;
+        while (end < pattern.length() && pattern.charAt(end) != '?' && pattern.charAt(end) != '*') {
+            end++;
+        }
+        return pattern.substring(0, end);
+    }
+
+    // The pattern is matched as a prefix, so an implicit trailing '*' is always present.
+    private static Pattern toRegex(String pattern) {
+        return Pattern.compile(pattern.replace("?", ".").replace("*", ".*") + ".*");
+    }
+}
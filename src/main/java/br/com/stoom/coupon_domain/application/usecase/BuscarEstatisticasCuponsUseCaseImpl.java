@@ -0,0 +1,20 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.BuscarEstatisticasCuponsUseCase;
+import br.com.stoom.coupon_domain.domain.model.CouponStatistics;
+import org.springframework.stereotype.Service;
+
+@Service
+public class BuscarEstatisticasCuponsUseCaseImpl implements BuscarEstatisticasCuponsUseCase {
+
+    private final CouponStatisticsTracker couponStatisticsTracker;
+
+    BuscarEstatisticasCuponsUseCaseImpl(CouponStatisticsTracker couponStatisticsTracker) {
+        this.couponStatisticsTracker = couponStatisticsTracker;
+    }
+
+    @Override
+    public CouponStatistics execute() {
+        return couponStatisticsTracker.snapshot();
+    }
+}
@@ -1,25 +1,29 @@
 package br.com.stoom.coupon_domain.application.usecase;
 
 import br.com.stoom.coupon_domain.application.port.in.BuscarTodosCuponsUseCase;
+import br.com.stoom.coupon_domain.domain.model.CatalogVersion;
 import br.com.stoom.coupon_domain.domain.model.Coupon;
 import br.com.stoom.coupon_domain.domain.port.CouponRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
 public class BuscarTodosCuponsUseCaseImpl implements BuscarTodosCuponsUseCase {
 
+    private final CouponReadModel couponReadModel;
     private final CouponRepository couponRepository;
 
-    public BuscarTodosCuponsUseCaseImpl(CouponRepository couponRepository) {
+    BuscarTodosCuponsUseCaseImpl(CouponReadModel couponReadModel, CouponRepository couponRepository) {
+        this.couponReadModel = couponReadModel;
         this.couponRepository = couponRepository;
     }
 
+    // The version is the one the caller built its ETag from. Not transactional: a listing served from the
+    // snapshot must not borrow a pooled connection, and the fallback is a single read.
     @Override
-    @Transactional(readOnly = true)
-    public List<Coupon> execute() {
-        return couponRepository.findAll();
+    public List<Coupon> execute(CatalogVersion version) {
+        return couponReadModel.findAll(version)
+                .orElseGet(couponRepository::findAll);
     }
 }
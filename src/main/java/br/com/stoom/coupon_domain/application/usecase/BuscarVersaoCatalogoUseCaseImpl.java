@@ -0,0 +1,23 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.BuscarVersaoCatalogoUseCase;
+import br.com.stoom.coupon_domain.domain.model.CatalogVersion;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class BuscarVersaoCatalogoUseCaseImpl implements BuscarVersaoCatalogoUseCase {
+
+    private final CouponRepository couponRepository;
+
+    public BuscarVersaoCatalogoUseCaseImpl(CouponRepository couponRepository) {
+        this.couponRepository = couponRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogVersion execute() {
+        return couponRepository.findCatalogVersion();
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.BuscarVersaoCupomUseCase;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+public class BuscarVersaoCupomUseCaseImpl implements BuscarVersaoCupomUseCase {
+
+    private final CouponReadModel couponReadModel;
+    private final CouponLookupCoalescer couponLookupCoalescer;
+
+    BuscarVersaoCupomUseCaseImpl(CouponReadModel couponReadModel, CouponLookupCoalescer couponLookupCoalescer) {
+        this.couponReadModel = couponReadModel;
+        this.couponLookupCoalescer = couponLookupCoalescer;
+    }
+
+    // The snapshot's stamp answers most lookups, including conditional ones, without touching the database.
+    // Not transactional: callers waiting on a coalesced load must not hold a pooled connection meanwhile.
+    @Override
+    public Optional<LocalDateTime> execute(String codigo) {
+        String normalizedCode = codigo.toUpperCase();
+
+        return couponReadModel.findVersion(normalizedCode)
+                .or(() -> couponLookupCoalescer.findUpdatedAtByCode(normalizedCode));
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.ArchiveCouponsUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "coupon.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class CouponArchivalJob {
+
+    private final ArchiveCouponsUseCase archiveCouponsUseCase;
+
+    public CouponArchivalJob(ArchiveCouponsUseCase archiveCouponsUseCase) {
+        this.archiveCouponsUseCase = archiveCouponsUseCase;
+    }
+
+    @Scheduled(cron = "${coupon.archive.cron:0 30 3 * * *}")
+    public void run() {
+        archiveCouponsUseCase.execute();
+    }
+}
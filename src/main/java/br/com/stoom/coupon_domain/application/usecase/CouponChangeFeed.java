@@ -0,0 +1,44 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// updated_at is stamped with the writer's clock when the row is flushed, not when it commits. A watermark
+// that moved past a row stamped earlier but committed later, or stamped by an instance whose clock lags,
+// would never see it; only rows older than the settle window are handed out, so those have time to land.
+@Component
+class CouponChangeFeed {
+
+    private final CouponRepository couponRepository;
+    private final Clock clock;
+    private final Duration settleWindow;
+
+    @Autowired
+    CouponChangeFeed(CouponRepository couponRepository,
+                     @Value("${coupon.change-feed.settle-window:PT5S}") Duration settleWindow) {
+        this(couponRepository, Clock.systemDefaultZone(), settleWindow);
+    }
+
+    CouponChangeFeed(CouponRepository couponRepository, Clock clock, Duration settleWindow) {
+        this.couponRepository = couponRepository;
+        this.clock = clock;
+        this.settleWindow = settleWindow;
+    }
+
+    List<CouponChange> findChangedSince(LocalDateTime since, UUID afterId, int limit) {
+        return couponRepository.findChangedSince(since, afterId, settledBefore(), limit);
+    }
+
+    LocalDateTime settledBefore() {
+        return LocalDateTime.now(clock).minus(settleWindow);
+    }
+}
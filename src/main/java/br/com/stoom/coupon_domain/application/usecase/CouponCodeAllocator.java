@@ -0,0 +1,164 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.exception.CouponCodeSpaceExhaustedException;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.model.CouponsArchivedEvent;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+@Component
+class CouponCodeAllocator {
+
+    static final int CODE_LENGTH = 6;
+    static final long CODE_SPACE = 2_176_782_336L;
+
+    private static final int RADIX = 36;
+    private static final int PAGE_SIZE = 10_000;
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID INITIAL_ID = new UUID(0L, 0L);
+
+    private final CouponRepository couponRepository;
+    private final CouponChangeFeed changeFeed;
+    private final RandomGenerator random;
+    private final RoaringBitmap allocated = new RoaringBitmap();
+
+    private boolean loaded;
+    private LocalDateTime watermark = INITIAL_WATERMARK;
+    private UUID watermarkId = INITIAL_ID;
+
+    @Autowired
+    CouponCodeAllocator(CouponRepository couponRepository, CouponChangeFeed changeFeed) {
+        this(couponRepository, changeFeed, new SecureRandom());
+    }
+
+    CouponCodeAllocator(CouponRepository couponRepository, CouponChangeFeed changeFeed, RandomGenerator random) {
+        this.couponRepository = couponRepository;
+        this.changeFeed = changeFeed;
+        this.random = random;
+    }
+
+    synchronized List<String> allocate(int quantity) {
+        refresh();
+
+        if (CODE_SPACE - allocated.getLongCardinality() < quantity) {
+            throw new CouponCodeSpaceExhaustedException(
+                    "Não há códigos de cupom disponíveis suficientes para gerar " + quantity + " códigos"
+            );
+        }
+
+        List<String> codes = new ArrayList<>(quantity);
+        for (int i = 0; i < quantity; i++) {
+            long packed = nextFree(random.nextLong(CODE_SPACE));
+            allocated.add((int) packed);
+            codes.add(unpack(packed));
+        }
+        return codes;
+    }
+
+    synchronized long allocatedCount() {
+        return allocated.getLongCardinality();
+    }
+
+    synchronized boolean isAllocated(String code) {
+        return allocated.contains((int) pack(code));
+    }
+
+    // Archived codes leave the coupons table, so a reload would not mark them either.
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCouponsArchived(CouponsArchivedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        for (String code : event.idsByCode().keySet()) {
+            long packed = pack(code);
+            if (packed >= 0) {
+                allocated.remove((int) packed);
+            }
+        }
+    }
+
+    private long nextFree(long candidate) {
+        long free = firstAbsentFrom(candidate);
+        return free < CODE_SPACE ? free : firstAbsentFrom(0);
+    }
+
+    private long firstAbsentFrom(long value) {
+        // nextAbsentValue misreports when the value's own container does not exist yet
+        return allocated.contains((int) value) ? allocated.nextAbsentValue((int) value) : value;
+    }
+
+    private void refresh() {
+        if (!loaded) {
+            load();
+            loaded = true;
+        }
+
+        List<CouponChange> changes;
+        do {
+            changes = changeFeed.findChangedSince(watermark, watermarkId, PAGE_SIZE);
+            for (CouponChange change : changes) {
+                markAllocated(change.coupon().getCode().value());
+                watermark = change.updatedAt();
+                watermarkId = change.coupon().getId();
+            }
+        } while (changes.size() == PAGE_SIZE);
+    }
+
+    // Rows stamped inside the settle window may still be committing, so the feed takes over from its
+    // boundary rather than from the newest row; codes read twice are simply marked again.
+    private void load() {
+        watermark = changeFeed.settledBefore();
+
+        String afterCode = "";
+        List<String> page;
+        do {
+            page = couponRepository.findCodesAfter(afterCode, PAGE_SIZE);
+            page.forEach(this::markAllocated);
+            if (!page.isEmpty()) {
+                afterCode = page.get(page.size() - 1);
+            }
+        } while (page.size() == PAGE_SIZE);
+    }
+
+    private void markAllocated(String code) {
+        long packed = pack(code);
+        if (packed >= 0) {
+            allocated.add((int) packed);
+        }
+    }
+
+    static long pack(String code) {
+        if (code == null || code.length() != CODE_LENGTH) {
+            return -1;
+        }
+        long packed = 0;
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            int digit = Character.digit(code.charAt(i), RADIX);
+            if (digit < 0) {
+                return -1;
+            }
+            packed = packed * RADIX + digit;
+        }
+        return packed;
+    }
+
+    static String unpack(long packed) {
+        char[] chars = new char[CODE_LENGTH];
+        long remaining = packed;
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            chars[i] = Character.toUpperCase(Character.forDigit((int) (remaining % RADIX), RADIX));
+            remaining /= RADIX;
+        }
+        return new String(chars);
+    }
+}
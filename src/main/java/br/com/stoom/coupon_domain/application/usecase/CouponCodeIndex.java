@@ -0,0 +1,123 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.model.CouponCreatedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponDeletedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponExpiredEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponsArchivedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+@Component
+class CouponCodeIndex {
+
+    private static final int PAGE_SIZE = 10_000;
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID INITIAL_ID = new UUID(0L, 0L);
+
+    private final CouponChangeFeed changeFeed;
+    private final Clock clock;
+    private final ConcurrentSkipListMap<String, Long> expirationDayByCode = new ConcurrentSkipListMap<>();
+
+    private volatile boolean loaded;
+    private LocalDateTime watermark = INITIAL_WATERMARK;
+    private UUID watermarkId = INITIAL_ID;
+
+    @Autowired
+    CouponCodeIndex(CouponChangeFeed changeFeed) {
+        this(changeFeed, Clock.systemDefaultZone());
+    }
+
+    CouponCodeIndex(CouponChangeFeed changeFeed, Clock clock) {
+        this.changeFeed = changeFeed;
+        this.clock = clock;
+    }
+
+    // Catches up with writes that bypass the use cases, such as imports or other instances.
+    @Scheduled(fixedDelayString = "${coupon.search.refresh-interval:PT5S}")
+    public synchronized void refresh() {
+        List<CouponChange> changes;
+        do {
+            changes = changeFeed.findChangedSince(watermark, watermarkId, PAGE_SIZE);
+            for (CouponChange change : changes) {
+                track(change.coupon());
+                watermark = change.updatedAt();
+                watermarkId = change.coupon().getId();
+            }
+        } while (changes.size() == PAGE_SIZE);
+        loaded = true;
+    }
+
+    List<String> search(String prefix, Predicate<String> filter, String afterCode, int limit) {
+        if (!loaded) {
+            refresh();
+        }
+
+        NavigableMap<String, Long> candidates = afterCode != null && afterCode.compareTo(prefix) >= 0
+                ? expirationDayByCode.tailMap(afterCode, false)
+                : expirationDayByCode.tailMap(prefix, true);
+
+        // The expiry scheduler evicts codes only on its first tick after midnight, so the date is checked here too.
+        long today = LocalDate.now(clock).toEpochDay();
+        List<String> result = new ArrayList<>(Math.min(limit, 64));
+        for (Map.Entry<String, Long> entry : candidates.entrySet()) {
+            String code = entry.getKey();
+            if (!code.startsWith(prefix) || result.size() == limit) {
+                break;
+            }
+            if (entry.getValue() >= today && filter.test(code)) {
+                result.add(code);
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return expirationDayByCode.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponCreated(CouponCreatedEvent event) {
+        expirationDayByCode.put(event.code(), event.expirationDate().toEpochDay());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponDeleted(CouponDeletedEvent event) {
+        expirationDayByCode.remove(event.code());
+    }
+
+    @EventListener
+    public void onCouponExpired(CouponExpiredEvent event) {
+        expirationDayByCode.remove(event.code());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponsArchived(CouponsArchivedEvent event) {
+        expirationDayByCode.keySet().removeAll(event.idsByCode().keySet());
+    }
+
+    private void track(Coupon coupon) {
+        String code = coupon.getCode().value();
+        LocalDate expirationDate = coupon.getExpirationDate().value();
+        if (coupon.isDeleted() || expirationDate.isBefore(LocalDate.now(clock))) {
+            expirationDayByCode.remove(code);
+        } else {
+            expirationDayByCode.put(code, expirationDate.toEpochDay());
+        }
+    }
+}
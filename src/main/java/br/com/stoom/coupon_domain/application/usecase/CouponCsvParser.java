@@ -0,0 +1,46 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class CouponCsvParser {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private CouponCsvParser() {
+    }
+
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    current.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString().trim());
+        return fields;
+    }
+
+    static boolean isHeader(List<String> fields) {
+        return !fields.isEmpty() && fields.get(0).equalsIgnoreCase("code");
+    }
+}
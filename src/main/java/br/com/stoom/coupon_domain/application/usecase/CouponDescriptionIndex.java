@@ -0,0 +1,220 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.model.CouponCreatedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponDeletedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponExpiredEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponsArchivedEvent;
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatch;
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatches;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+class CouponDescriptionIndex {
+
+    private static final int PAGE_SIZE = 10_000;
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID INITIAL_ID = new UUID(0L, 0L);
+    private static final Comparator<DescriptionMatch> BY_RELEVANCE =
+            Comparator.comparingDouble(DescriptionMatch::score).reversed().thenComparing(DescriptionMatch::code);
+
+    private final CouponChangeFeed changeFeed;
+    private final Clock clock;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+    private final Map<String, Document> documents = new HashMap<>();
+
+    private volatile boolean loaded;
+    private LocalDateTime watermark = INITIAL_WATERMARK;
+    private UUID watermarkId = INITIAL_ID;
+
+    @Autowired
+    CouponDescriptionIndex(CouponChangeFeed changeFeed) {
+        this(changeFeed, Clock.systemDefaultZone());
+    }
+
+    CouponDescriptionIndex(CouponChangeFeed changeFeed, Clock clock) {
+        this.changeFeed = changeFeed;
+        this.clock = clock;
+    }
+
+    // Stays empty until the first search, so deployments using the database search never pay for it.
+    @Scheduled(fixedDelayString = "${coupon.search.refresh-interval:PT5S}")
+    public void refreshIfLoaded() {
+        if (loaded) {
+            refresh();
+        }
+    }
+
+    synchronized void refresh() {
+        List<CouponChange> changes;
+        do {
+            changes = changeFeed.findChangedSince(watermark, watermarkId, PAGE_SIZE);
+            for (CouponChange change : changes) {
+                track(change.coupon());
+                watermark = change.updatedAt();
+                watermarkId = change.coupon().getId();
+            }
+        } while (changes.size() == PAGE_SIZE);
+        loaded = true;
+    }
+
+    DescriptionMatches search(List<String> terms, int offset, int limit) {
+        if (!loaded) {
+            refresh();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<String, Integer>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<String, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return new DescriptionMatches(List.of(), 0);
+                }
+                termPostings.add(posting);
+            }
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            // The expiry scheduler evicts documents only on its first tick after midnight.
+            long today = LocalDate.now(clock).toEpochDay();
+            List<DescriptionMatch> matches = new ArrayList<>();
+            for (String code : termPostings.get(0).keySet()) {
+                Document document = documents.get(code);
+                if (document.expirationEpochDay() < today) {
+                    continue;
+                }
+                double score = score(code, termPostings);
+                if (score > 0) {
+                    matches.add(new DescriptionMatch(code, document.description(), score));
+                }
+            }
+            matches.sort(BY_RELEVANCE);
+
+            int from = Math.min(offset, matches.size());
+            int to = Math.min(from + limit, matches.size());
+            return new DescriptionMatches(List.copyOf(matches.subList(from, to)), matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponCreated(CouponCreatedEvent event) {
+        if (loaded) {
+            index(event.code(), event.description(), event.expirationDate());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponDeleted(CouponDeletedEvent event) {
+        if (loaded) {
+            remove(event.code());
+        }
+    }
+
+    @EventListener
+    public void onCouponExpired(CouponExpiredEvent event) {
+        if (loaded) {
+            remove(event.code());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponsArchived(CouponsArchivedEvent event) {
+        if (loaded) {
+            event.idsByCode().keySet().forEach(this::remove);
+        }
+    }
+
+    // Sum of tf-idf over the query terms, damped by description length; 0 when any term is missing.
+    private double score(String code, List<Map<String, Integer>> termPostings) {
+        double score = 0;
+        for (Map<String, Integer> posting : termPostings) {
+            Integer frequency = posting.get(code);
+            if (frequency == null) {
+                return 0;
+            }
+            score += frequency * Math.log(1 + (double) documents.size() / posting.size());
+        }
+        return score / Math.sqrt(documents.get(code).length());
+    }
+
+    private void track(Coupon coupon) {
+        LocalDate expirationDate = coupon.getExpirationDate().value();
+        if (coupon.isDeleted() || expirationDate.isBefore(LocalDate.now(clock))) {
+            remove(coupon.getCode().value());
+        } else {
+            index(coupon.getCode().value(), coupon.getDescription(), expirationDate);
+        }
+    }
+
+    private void index(String code, String description, LocalDate expirationDate) {
+        List<String> tokens = DescriptionTokenizer.tokenize(description);
+        lock.writeLock().lock();
+        try {
+            removeLocked(code);
+            Map<String, Integer> frequencies = new HashMap<>();
+            tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+            frequencies.forEach((token, frequency) ->
+                    postings.computeIfAbsent(token, t -> new HashMap<>()).put(code, frequency));
+            documents.put(code, new Document(description, Math.max(1, tokens.size()), frequencies.keySet(),
+                    expirationDate.toEpochDay()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(String code) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(code);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(String code) {
+        Document document = documents.remove(code);
+        if (document == null) {
+            return;
+        }
+        for (String token : document.tokens()) {
+            Map<String, Integer> posting = postings.get(token);
+            posting.remove(code);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    private record Document(String description, int length, Set<String> tokens, long expirationEpochDay) {
+    }
+}
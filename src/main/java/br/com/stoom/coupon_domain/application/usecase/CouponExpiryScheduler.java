@@ -0,0 +1,77 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.model.CouponExpiredEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Expired codes are evicted from the search indexes and the response cache. The read model and the
+// statistics keep expired coupons on purpose and compare the stored date with today when read.
+@Component
+public class CouponExpiryScheduler {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID INITIAL_ID = new UUID(0L, 0L);
+
+    private final CouponChangeFeed changeFeed;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final HierarchicalTimingWheel<String> wheel;
+
+    private LocalDateTime watermark = INITIAL_WATERMARK;
+    private UUID watermarkId = INITIAL_ID;
+
+    @Autowired
+    CouponExpiryScheduler(CouponChangeFeed changeFeed, ApplicationEventPublisher eventPublisher) {
+        this(changeFeed, eventPublisher, Clock.systemDefaultZone());
+    }
+
+    CouponExpiryScheduler(CouponChangeFeed changeFeed, ApplicationEventPublisher eventPublisher, Clock clock) {
+        this.changeFeed = changeFeed;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel<>(LocalDate.now(clock).toEpochDay());
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.expiry.poll-interval:PT1M}")
+    public synchronized void tick() {
+        applyChanges();
+        wheel.advanceTo(LocalDate.now(clock).toEpochDay(), (code, expiryDay) ->
+                eventPublisher.publishEvent(new CouponExpiredEvent(code, LocalDate.ofEpochDay(expiryDay - 1))));
+    }
+
+    public synchronized int scheduledCount() {
+        return wheel.size();
+    }
+
+    private void applyChanges() {
+        List<CouponChange> changes;
+        do {
+            changes = changeFeed.findChangedSince(watermark, watermarkId, PAGE_SIZE);
+            for (CouponChange change : changes) {
+                track(change.coupon());
+                watermark = change.updatedAt();
+                watermarkId = change.coupon().getId();
+            }
+        } while (changes.size() == PAGE_SIZE);
+    }
+
+    private void track(Coupon coupon) {
+        String code = coupon.getCode().value();
+        if (coupon.isDeleted()) {
+            wheel.cancel(code);
+            return;
+        }
+        wheel.schedule(code, coupon.getExpirationDate().value().plusDays(1).toEpochDay());
+    }
+}
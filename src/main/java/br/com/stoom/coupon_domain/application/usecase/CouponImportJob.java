@@ -0,0 +1,80 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase.ImportState;
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase.ImportStatus;
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase.RowError;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class CouponImportJob {
+
+    private final UUID id;
+    private final int maxErrors;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong processedRows = new AtomicLong();
+    private final AtomicLong importedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final List<RowError> errors = new ArrayList<>();
+    private volatile ImportState state = ImportState.PENDING;
+    private volatile LocalDateTime finishedAt;
+
+    CouponImportJob(UUID id, int maxErrors) {
+        this.id = id;
+        this.maxErrors = maxErrors;
+    }
+
+    UUID id() {
+        return id;
+    }
+
+    boolean isFinished() {
+        return state == ImportState.COMPLETED || state == ImportState.FAILED;
+    }
+
+    void running() {
+        state = ImportState.RUNNING;
+    }
+
+    void completed() {
+        finishedAt = LocalDateTime.now();
+        state = ImportState.COMPLETED;
+    }
+
+    void failed(String message) {
+        addError(0, message);
+        finishedAt = LocalDateTime.now();
+        state = ImportState.FAILED;
+    }
+
+    void rowsImported(int count) {
+        processedRows.addAndGet(count);
+        importedRows.addAndGet(count);
+    }
+
+    void rowFailed(long line, String message) {
+        processedRows.incrementAndGet();
+        failedRows.incrementAndGet();
+        addError(line, message);
+    }
+
+    ImportStatus snapshot() {
+        List<RowError> errorsCopy;
+        synchronized (errors) {
+            errorsCopy = List.copyOf(errors);
+        }
+        return new ImportStatus(id, state, processedRows.get(), importedRows.get(), failedRows.get(),
+                errorsCopy, startedAt, finishedAt);
+    }
+
+    private void addError(long line, String message) {
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(line, message));
+            }
+        }
+    }
+}
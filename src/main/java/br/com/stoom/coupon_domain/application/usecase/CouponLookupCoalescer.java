@@ -0,0 +1,127 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.exception.CouponLookupTimeoutException;
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Single-flight plus micro-batching for the per-code reads of the lookup path: concurrent callers for the
+// same normalised code share one pending load, and pending loads for different codes are resolved together
+// by one "code IN (...)" query. Nothing is kept once a load completes, so the next caller always reads
+// fresh data and failures are not cached.
+@Component
+class CouponLookupCoalescer {
+
+    private final Duration timeout;
+    private final MicroBatcher<String, Optional<Coupon>> couponBatcher;
+    private final MicroBatcher<String, Optional<LocalDateTime>> versionBatcher;
+    private final ConcurrentMap<String, CompletableFuture<Optional<Coupon>>> couponLoads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<Optional<LocalDateTime>>> versionLoads =
+            new ConcurrentHashMap<>();
+
+    // Every GET looks its version up, so that batcher does not wait for a window by default: lookups that
+    // arrive while a worker is busy still share its next query.
+    @Autowired
+    CouponLookupCoalescer(CouponRepository couponRepository,
+                          @Qualifier("couponLookupExecutor") Executor executor,
+                          @Value("${coupon.lookup.coalescing-timeout:PT2S}") Duration timeout,
+                          @Value("${coupon.lookup.batch.max-size:64}") int maxBatchSize,
+                          @Value("${coupon.lookup.batch.max-delay:PT0.001S}") Duration maxDelay,
+                          @Value("${coupon.lookup.batch.version-max-delay:PT0S}") Duration versionMaxDelay) {
+        this.timeout = timeout;
+        this.couponBatcher = new MicroBatcher<>(codes -> findCoupons(couponRepository, codes), Optional.empty(),
+                executor, maxBatchSize, maxDelay);
+        this.versionBatcher = new MicroBatcher<>(codes -> findVersions(couponRepository, codes), Optional.empty(),
+                executor, maxBatchSize, versionMaxDelay);
+    }
+
+    CouponLookupCoalescer(CouponRepository couponRepository, Executor executor, Duration timeout,
+                          int maxBatchSize, Duration maxDelay) {
+        this(couponRepository, executor, timeout, maxBatchSize, maxDelay, maxDelay);
+    }
+
+    Optional<Coupon> findByCode(String code) {
+        return load(couponLoads, couponBatcher, code);
+    }
+
+    Optional<LocalDateTime> findUpdatedAtByCode(String code) {
+        return load(versionLoads, versionBatcher, code);
+    }
+
+    int inFlight() {
+        return couponLoads.size() + versionLoads.size();
+    }
+
+    private static Map<String, Optional<Coupon>> findCoupons(CouponRepository couponRepository, Set<String> codes) {
+        Map<String, Optional<Coupon>> found = new HashMap<>();
+        for (Coupon coupon : couponRepository.findAllByCodes(codes)) {
+            found.put(coupon.getCode().value(), Optional.of(coupon));
+        }
+        return found;
+    }
+
+    private static Map<String, Optional<LocalDateTime>> findVersions(CouponRepository couponRepository,
+                                                                     Set<String> codes) {
+        Map<String, Optional<LocalDateTime>> found = new HashMap<>();
+        couponRepository.findUpdatedAtByCodes(codes)
+                .forEach((code, updatedAt) -> found.put(code, Optional.of(updatedAt)));
+        return found;
+    }
+
+    private <T> T load(ConcurrentMap<String, CompletableFuture<T>> loads, MicroBatcher<String, T> batcher,
+                       String code) {
+        CompletableFuture<T> load = new CompletableFuture<>();
+        CompletableFuture<T> running = loads.putIfAbsent(code, load);
+        if (running == null) {
+            load.whenComplete((result, ex) -> loads.remove(code, load));
+            try {
+                batcher.submit(code, load);
+            } catch (RuntimeException ex) {
+                load.completeExceptionally(ex);
+            }
+            running = load;
+        }
+        return await(running, code);
+    }
+
+    // The load keeps running after a timeout and still completes the callers that are waiting for it.
+    private <T> T await(CompletableFuture<T> running, String code) {
+        try {
+            return running.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw CouponLookupTimeoutException.forCode(code);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw CouponLookupTimeoutException.forCode(code);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RejectedExecutionException) {
+                throw CouponLookupTimeoutException.rejected(code);
+            }
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.CouponCreatedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponDeletedEvent;
+import br.com.stoom.coupon_domain.domain.port.CouponEventOutbox;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+
+@Component
+public class CouponOutboxRecorder {
+
+    static final String COUPON_CREATED = "CouponCreated";
+    static final String COUPON_DELETED = "CouponDeleted";
+
+    private final CouponEventOutbox couponEventOutbox;
+    private final ObjectMapper objectMapper;
+
+    public CouponOutboxRecorder(CouponEventOutbox couponEventOutbox, ObjectMapper objectMapper) {
+        this.couponEventOutbox = couponEventOutbox;
+        this.objectMapper = objectMapper;
+    }
+
+    // Runs synchronously inside the publisher's transaction, so the outbox row commits or rolls back
+    // together with the coupon write.
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCouponCreated(CouponCreatedEvent event) {
+        couponEventOutbox.append(COUPON_CREATED, event.id(), event.code(), encode(event), event.createdAt());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCouponDeleted(CouponDeletedEvent event) {
+        couponEventOutbox.append(COUPON_DELETED, event.id(), event.code(), encode(event), event.deletedAt());
+    }
+
+    private String encode(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.OutboxBatch;
+import br.com.stoom.coupon_domain.domain.model.OutboxMessage;
+import br.com.stoom.coupon_domain.domain.port.CouponEventOutbox;
+import br.com.stoom.coupon_domain.domain.port.CouponEventSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "coupon.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class CouponOutboxRelay {
+
+    private static final int FAILED = -1;
+
+    private final CouponEventOutbox couponEventOutbox;
+    private final List<CouponEventSink> sinks;
+    private final TransactionOperations transactionOperations;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration retention;
+    private final Duration claimTimeout;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+    private final Timer batchTimer;
+    private final Timer lagTimer;
+    private final Counter parkedCounter;
+
+    @Autowired
+    public CouponOutboxRelay(CouponEventOutbox couponEventOutbox,
+                             ObjectProvider<CouponEventSink> sinks,
+                             TransactionOperations transactionOperations,
+                             MeterRegistry meterRegistry,
+                             @Value("${coupon.outbox.relay.batch-size:500}") int batchSize,
+                             @Value("${coupon.outbox.relay.max-batches-per-run:20}") int maxBatches,
+                             @Value("${coupon.outbox.retention:P7D}") Duration retention,
+                             @Value("${coupon.outbox.relay.claim-timeout:PT1M}") Duration claimTimeout,
+                             @Value("${coupon.outbox.relay.max-attempts:10}") int maxAttempts,
+                             @Value("${coupon.outbox.relay.backoff:PT1S}") Duration backoff,
+                             @Value("${coupon.outbox.relay.max-backoff:PT5M}") Duration maxBackoff) {
+        this(couponEventOutbox, sinks.orderedStream().toList(), transactionOperations, meterRegistry,
+                Clock.systemDefaultZone(), batchSize, maxBatches, retention,
+                claimTimeout, maxAttempts, backoff, maxBackoff);
+    }
+
+    CouponOutboxRelay(CouponEventOutbox couponEventOutbox, List<CouponEventSink> sinks,
+                      TransactionOperations transactionOperations, MeterRegistry meterRegistry, Clock clock,
+                      int batchSize, int maxBatches, Duration retention,
+                      Duration claimTimeout, int maxAttempts, Duration backoff, Duration maxBackoff) {
+        this.couponEventOutbox = couponEventOutbox;
+        this.sinks = sinks;
+        this.transactionOperations = transactionOperations;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.retention = retention;
+        this.claimTimeout = claimTimeout;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+        this.batchTimer = Timer.builder("coupon.outbox.relay.batch").register(meterRegistry);
+        this.lagTimer = Timer.builder("coupon.outbox.relay.lag").register(meterRegistry);
+        this.parkedCounter = Counter.builder("coupon.outbox.relay.parked").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.outbox.relay.interval:PT1S}")
+    public synchronized int relay() {
+        int relayed = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            OutboxBatch claimed = claim();
+            if (claimed == null || claimed.isEmpty()) {
+                break;
+            }
+            int delivered = batchTimer.record(() -> deliver(claimed));
+            if (delivered == FAILED) {
+                break;
+            }
+            relayed += delivered;
+            if (delivered < batchSize) {
+                break;
+            }
+        }
+        return relayed;
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.outbox.purge-interval:PT1H}",
+            initialDelayString = "${coupon.outbox.purge-interval:PT1H}")
+    public int purge() {
+        LocalDateTime publishedBefore = LocalDateTime.now(clock).minus(retention);
+        Integer purged = transactionOperations.execute(status ->
+                couponEventOutbox.purgePublishedBefore(publishedBefore));
+        return purged == null ? 0 : purged;
+    }
+
+    // The claim commits before any sink is called, so a slow webhook holds a lease on the rows rather than
+    // a row lock and an open connection. A relay that dies mid-delivery leaves the lease to expire and the
+    // batch is claimed again; claimTimeout must outlast the slowest delivery or the batch is sent twice.
+    private OutboxBatch claim() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return transactionOperations.execute(status ->
+                couponEventOutbox.claimPending(batchSize, now, now.plus(claimTimeout)));
+    }
+
+    // At-least-once: a failing sink leaves the batch pending, so sinks that already succeeded will see it
+    // again and must tolerate duplicates.
+    private int deliver(OutboxBatch batch) {
+        List<OutboxMessage> messages = batch.messages();
+        for (CouponEventSink sink : sinks) {
+            try {
+                sink.deliver(messages);
+            } catch (RuntimeException ex) {
+                counter("coupon.outbox.relay.failures", sink).increment();
+                fail(batch, sink.name() + ": " + ex.getMessage());
+                return FAILED;
+            }
+            counter("coupon.outbox.relay.delivered", sink).increment(messages.size());
+        }
+
+        LocalDateTime publishedAt = LocalDateTime.now(clock);
+        transactionOperations.executeWithoutResult(status ->
+                couponEventOutbox.markPublished(batch.sequences(), publishedAt));
+        for (OutboxMessage message : messages) {
+            lagTimer.record(Duration.between(message.occurredAt(), publishedAt));
+        }
+        return messages.size();
+    }
+
+    // A failed batch waits backoff * 2^(attempts - 1), capped at maxBackoff, before it can be claimed again;
+    // rows that used up maxAttempts are parked with failed_at and left for an operator instead of being
+    // retried forever. Later batches are still relayed meanwhile, so a retried event can arrive after newer ones.
+    private void fail(OutboxBatch batch, String error) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime retryAt = now.plus(backoffFor(batch.attempts()));
+        Integer parked = transactionOperations.execute(status -> {
+            couponEventOutbox.recordFailure(batch.sequences(), error, retryAt);
+            return couponEventOutbox.parkExhausted(batch.sequences(), maxAttempts, now);
+        });
+        if (parked != null && parked > 0) {
+            parkedCounter.increment(parked);
+        }
+    }
+
+    Duration backoffFor(int attempts) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration delay = backoff.multipliedBy(1L << doublings);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private Counter counter(String name, CouponEventSink sink) {
+        return Counter.builder(name).tag("sink", sink.name()).register(meterRegistry);
+    }
+}
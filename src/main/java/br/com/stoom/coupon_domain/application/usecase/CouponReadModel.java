@@ -0,0 +1,307 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.CatalogVersion;
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.model.CouponCode;
+import br.com.stoom.coupon_domain.domain.model.CouponCreatedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponDeletedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponsArchivedEvent;
+import br.com.stoom.coupon_domain.domain.model.DiscountValue;
+import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+@Component
+class CouponReadModel {
+
+    private static final int PAGE_SIZE = 10_000;
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID INITIAL_ID = new UUID(0L, 0L);
+    private static final LocalDateTime UNBOUNDED = LocalDateTime.of(9999, 12, 31, 23, 59);
+
+    private final CouponRepository couponRepository;
+    private final CouponChangeFeed changeFeed;
+    private final Clock clock;
+    private final Duration maxStaleness;
+    private final Queue<Consumer<NavigableMap<String, Row>>> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock publishLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    CouponReadModel(CouponRepository couponRepository, CouponChangeFeed changeFeed,
+                    @Value("${coupon.read-model.max-staleness:PT30S}") Duration maxStaleness) {
+        this(couponRepository, changeFeed, Clock.systemDefaultZone(), maxStaleness);
+    }
+
+    CouponReadModel(CouponRepository couponRepository, CouponChangeFeed changeFeed, Clock clock,
+                    Duration maxStaleness) {
+        this.couponRepository = couponRepository;
+        this.changeFeed = changeFeed;
+        this.clock = clock;
+        this.maxStaleness = maxStaleness;
+    }
+
+    // Reads never catch up themselves: they see the snapshot the scheduler last published, and once it is
+    // older than the staleness bound, or before the first one, every lookup misses and callers go to the
+    // database until the scheduler catches up again.
+    Optional<Coupon> find(String code) {
+        Row row = published().rows().get(code);
+        return row == null ? Optional.empty() : Optional.of(row.toCoupon());
+    }
+
+    // Rows applied from local events carry no stamp until the feed delivers them, so their version is left
+    // to the caller to load.
+    Optional<LocalDateTime> findVersion(String code) {
+        Row row = published().rows().get(code);
+        return row == null ? Optional.empty() : Optional.ofNullable(row.updatedAt());
+    }
+
+    // Only a row stamped with the caller's version is served, so a body built from it matches the ETag
+    // derived from that version. The stamp check alone keeps it consistent, so a stale snapshot still serves
+    // rows that have not changed since.
+    Optional<Coupon> find(String code, LocalDateTime version) {
+        Snapshot current = snapshot;
+        Row row = current == null ? null : current.rows().get(code);
+        return row == null || !version.equals(row.updatedAt()) ? Optional.empty() : Optional.of(row.toCoupon());
+    }
+
+    // The listing's ETag comes from the database's catalog version, so the snapshot is only served once it
+    // has caught up with that version; otherwise a stale body could be cached by clients under a fresh ETag.
+    Optional<List<Coupon>> findAll(CatalogVersion version) {
+        Snapshot current = snapshot;
+        if (current == null || current.catalogVersion() < version.sequence()) {
+            return Optional.empty();
+        }
+        return Optional.of(current.rows().values().stream()
+                .map(Row::toCoupon)
+                .toList());
+    }
+
+    int size() {
+        return latest().rows().size();
+    }
+
+    List<String> activeCodes(int limit) {
+        long today = LocalDate.now(clock).toEpochDay();
+        return latest().rows().values().stream()
+                .filter(row -> !row.deleted() && row.expirationEpochDay() >= today)
+                .limit(limit)
+                .map(Row::code)
+                .toList();
+    }
+
+    // Catches up with writes that bypass the use cases, such as imports or other instances.
+    // The catalog version is read before catching up, so every write it counts is already visible to the
+    // reads that follow and the snapshot can be tagged with it. Rows archived or dropped by another
+    // instance never show up in the change feed; more rows than the table holds means one was missed.
+    @Scheduled(fixedDelayString = "${coupon.read-model.refresh-interval:PT5S}")
+    public void refresh() {
+        publishLock.lock();
+        try {
+            Snapshot base = latest();
+            long catalogVersion = couponRepository.findCatalogVersion().sequence();
+            Snapshot next = catchUp(base.rows(), base.watermark(), base.watermarkId(), catalogVersion);
+            if (next.rows().size() > couponRepository.count()) {
+                next = catchUp(Collections.emptyNavigableMap(), INITIAL_WATERMARK, INITIAL_ID, catalogVersion);
+            }
+            snapshot = next;
+        } finally {
+            publishLock.unlock();
+        }
+        publishPendingWrites();
+    }
+
+    // Also covers removals the row count cannot tell apart from an insert elsewhere.
+    @Scheduled(fixedDelayString = "${coupon.read-model.rebuild-interval:PT15M}",
+            initialDelayString = "${coupon.read-model.rebuild-interval:PT15M}")
+    public void rebuild() {
+        publishLock.lock();
+        try {
+            long catalogVersion = couponRepository.findCatalogVersion().sequence();
+            snapshot = catchUp(Collections.emptyNavigableMap(), INITIAL_WATERMARK, INITIAL_ID, catalogVersion);
+        } finally {
+            publishLock.unlock();
+        }
+        publishPendingWrites();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponCreated(CouponCreatedEvent event) {
+        pendingWrites.add(rows -> rows.put(event.code(), Row.of(event)));
+        publishPendingWrites();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponDeleted(CouponDeletedEvent event) {
+        pendingWrites.add(rows ->
+                rows.computeIfPresent(event.code(), (code, row) -> row.deleted(event.deletedAt())));
+        publishPendingWrites();
+    }
+
+    // The id guards against a newer coupon that reused the code after the archived row was removed.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponsArchived(CouponsArchivedEvent event) {
+        pendingWrites.add(rows -> event.idsByCode().forEach((code, id) ->
+                rows.computeIfPresent(code, (key, row) -> row.id().equals(id) ? null : row)));
+        publishPendingWrites();
+    }
+
+    private Snapshot published() {
+        Snapshot current = snapshot;
+        return current == null || isStale(current) ? Snapshot.EMPTY : current;
+    }
+
+    private Snapshot latest() {
+        Snapshot current = snapshot;
+        return current == null ? Snapshot.EMPTY : current;
+    }
+
+    private boolean isStale(Snapshot current) {
+        return Duration.between(current.syncedAt(), clock.instant()).compareTo(maxStaleness) > 0;
+    }
+
+    // Rows still inside the feed's settle window are laid over the settled ones without moving the watermark,
+    // so the snapshot holds every committed row while the feed picks them up again once they settle.
+    private Snapshot catchUp(NavigableMap<String, Row> base, LocalDateTime watermark, UUID watermarkId,
+                             long catalogVersion) {
+        Instant syncedAt = clock.instant();
+        NavigableMap<String, Row> rows = null;
+        List<CouponChange> changes;
+        do {
+            changes = changeFeed.findChangedSince(watermark, watermarkId, PAGE_SIZE);
+            rows = apply(rows, base, changes);
+            if (!changes.isEmpty()) {
+                CouponChange last = changes.get(changes.size() - 1);
+                watermark = last.updatedAt();
+                watermarkId = last.coupon().getId();
+            }
+        } while (changes.size() == PAGE_SIZE);
+
+        LocalDateTime unsettled = watermark;
+        UUID unsettledId = watermarkId;
+        do {
+            changes = couponRepository.findChangedSince(unsettled, unsettledId, UNBOUNDED, PAGE_SIZE);
+            rows = apply(rows, base, changes);
+            if (!changes.isEmpty()) {
+                CouponChange last = changes.get(changes.size() - 1);
+                unsettled = last.updatedAt();
+                unsettledId = last.coupon().getId();
+            }
+        } while (changes.size() == PAGE_SIZE);
+
+        if (rows == null && !pendingWrites.isEmpty()) {
+            rows = new TreeMap<>(base);
+        }
+        if (rows != null) {
+            drainPendingWrites(rows);
+        }
+        return new Snapshot(rows == null ? base : Collections.unmodifiableNavigableMap(rows),
+                watermark, watermarkId, syncedAt, catalogVersion);
+    }
+
+    private static NavigableMap<String, Row> apply(NavigableMap<String, Row> rows, NavigableMap<String, Row> base,
+                                                   List<CouponChange> changes) {
+        if (rows == null && !changes.isEmpty()) {
+            rows = new TreeMap<>(base);
+        }
+        for (CouponChange change : changes) {
+            rows.put(change.coupon().getCode().value(), Row.of(change));
+        }
+        return rows;
+    }
+
+    // Writers never wait for the lock: whoever holds it copies the map once and applies every queued write,
+    // and the others leave theirs queued for it. The holder checks the queue again after letting go, so a
+    // write queued while a catch-up was finishing is not left behind. Before the first snapshot the writes
+    // stay queued for the catch-up that builds it.
+    private void publishPendingWrites() {
+        while (!pendingWrites.isEmpty() && snapshot != null && publishLock.tryLock()) {
+            try {
+                Snapshot current = snapshot;
+                NavigableMap<String, Row> rows = new TreeMap<>(current.rows());
+                drainPendingWrites(rows);
+                snapshot = new Snapshot(Collections.unmodifiableNavigableMap(rows),
+                        current.watermark(), current.watermarkId(), current.syncedAt(), current.catalogVersion());
+            } finally {
+                publishLock.unlock();
+            }
+        }
+    }
+
+    private void drainPendingWrites(NavigableMap<String, Row> rows) {
+        Consumer<NavigableMap<String, Row>> write;
+        while ((write = pendingWrites.poll()) != null) {
+            write.accept(rows);
+        }
+    }
+
+    private record Snapshot(NavigableMap<String, Row> rows, LocalDateTime watermark, UUID watermarkId,
+                            Instant syncedAt, long catalogVersion) {
+
+        static final Snapshot EMPTY = new Snapshot(Collections.emptyNavigableMap(), INITIAL_WATERMARK, INITIAL_ID,
+                Instant.EPOCH, -1L);
+    }
+
+    // Primitive columns keep each entry small; value objects are rebuilt on read.
+    // updatedAt is the row's database stamp, or null when the row was last changed by a local event.
+    private record Row(UUID id, String code, String description, long discountCents, long expirationEpochDay,
+                       boolean published, boolean deleted, LocalDateTime deletedAt, LocalDateTime createdAt,
+                       LocalDateTime updatedAt) {
+
+        static Row of(CouponChange change) {
+            Coupon coupon = change.coupon();
+            return new Row(coupon.getId(), coupon.getCode().value(), coupon.getDescription(),
+                    coupon.getDiscountValue().cents(), coupon.getExpirationDate().value().toEpochDay(),
+                    coupon.isPublished(), coupon.isDeleted(), coupon.getDeletedAt(), coupon.getCreatedAt(),
+                    change.updatedAt());
+        }
+
+        static Row of(CouponCreatedEvent event) {
+            return new Row(event.id(), event.code(), event.description(),
+                    DiscountValue.reconstitute(event.discountValue()).cents(), event.expirationDate().toEpochDay(),
+                    event.published(), false, null, event.createdAt(), null);
+        }
+
+        Row deleted(LocalDateTime at) {
+            return new Row(id, code, description, discountCents, expirationEpochDay, published, true, at, createdAt,
+                    null);
+        }
+
+        Coupon toCoupon() {
+            return Coupon.reconstitute(
+                    id,
+                    CouponCode.reconstitute(code),
+                    description,
+                    DiscountValue.reconstitute(BigDecimal.valueOf(discountCents, 2)),
+                    ExpirationDate.reconstitute(LocalDate.ofEpochDay(expirationEpochDay)),
+                    published,
+                    deleted,
+                    deletedAt,
+                    createdAt
+            );
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.model.CouponCreatedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponDeletedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponStatistics;
+import br.com.stoom.coupon_domain.domain.model.CouponStatistics.DiscountBucket;
+import br.com.stoom.coupon_domain.domain.model.CouponStatusCounts;
+import br.com.stoom.coupon_domain.domain.model.CouponsArchivedEvent;
+import br.com.stoom.coupon_domain.domain.model.DiscountValue;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Component
+class CouponStatisticsTracker {
+
+    static final long[] BUCKET_LOWER_BOUNDS_CENTS = {0, 500, 1_000, 2_500, 5_000, 10_000};
+
+    private static final int PAGE_SIZE = 10_000;
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID INITIAL_ID = new UUID(0L, 0L);
+
+    private final CouponRepository couponRepository;
+    private final CouponChangeFeed changeFeed;
+    private final Clock clock;
+    private final int expiringDays;
+
+    // Feed reads and rebuilds serialize on feedLock and run without the monitor; the monitor only guards
+    // the in-memory tally, so after-commit listeners never wait on a database round trip.
+    private final Object feedLock = new Object();
+
+    private Tally tally = new Tally();
+    private List<Consumer<Tally>> writesDuringRebuild;
+    private volatile boolean loaded;
+    private LocalDateTime watermark = INITIAL_WATERMARK;
+    private UUID watermarkId = INITIAL_ID;
+    private volatile LocalDateTime reconciledAt;
+
+    @Autowired
+    CouponStatisticsTracker(CouponRepository couponRepository, CouponChangeFeed changeFeed,
+                            @Value("${coupon.statistics.expiring-days:30}") int expiringDays) {
+        this(couponRepository, changeFeed, Clock.systemDefaultZone(), expiringDays);
+    }
+
+    CouponStatisticsTracker(CouponRepository couponRepository, CouponChangeFeed changeFeed, Clock clock,
+                            int expiringDays) {
+        this.couponRepository = couponRepository;
+        this.changeFeed = changeFeed;
+        this.clock = clock;
+        this.expiringDays = expiringDays;
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.statistics.refresh-interval:PT5S}")
+    public void refresh() {
+        synchronized (feedLock) {
+            List<CouponChange> changes;
+            do {
+                changes = changeFeed.findChangedSince(watermark, watermarkId, PAGE_SIZE);
+                applyChanges(changes);
+                if (!changes.isEmpty()) {
+                    CouponChange last = changes.get(changes.size() - 1);
+                    watermark = last.updatedAt();
+                    watermarkId = last.coupon().getId();
+                }
+            } while (changes.size() == PAGE_SIZE);
+            loaded = true;
+        }
+    }
+
+    // Rows archived or dropped by another instance never show up in the change feed; any drift
+    // against the SQL aggregates is repaired by rebuilding from scratch.
+    @Scheduled(fixedDelayString = "${coupon.statistics.reconcile-interval:PT15M}",
+            initialDelayString = "${coupon.statistics.reconcile-interval:PT15M}")
+    public void reconcile() {
+        synchronized (feedLock) {
+            refresh();
+            LocalDate today = LocalDate.now(clock);
+            if (!couponRepository.countByStatus(today).equals(counts(today))) {
+                rebuild();
+            }
+            reconciledAt = LocalDateTime.now(clock);
+        }
+    }
+
+    CouponStatistics snapshot() {
+        if (!loaded) {
+            refresh();
+        }
+        return snapshot(LocalDate.now(clock));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponCreated(CouponCreatedEvent event) {
+        if (loaded) {
+            long cents = DiscountValue.reconstitute(event.discountValue()).cents();
+            Facts facts = new Facts(event.expirationDate(), event.published(), cents, false);
+            write(target -> target.apply(event.code(), facts));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponDeleted(CouponDeletedEvent event) {
+        if (loaded) {
+            write(target -> target.markDeleted(event.code()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponsArchived(CouponsArchivedEvent event) {
+        if (loaded) {
+            write(target -> event.idsByCode().keySet().forEach(target::remove));
+        }
+    }
+
+    // The replacement is read from the feed off the monitor. Local writes that land meanwhile go to the
+    // live tally and are replayed onto the replacement when it is swapped in; every write is idempotent.
+    private void rebuild() {
+        synchronized (this) {
+            writesDuringRebuild = new ArrayList<>();
+        }
+        Tally rebuilt = new Tally();
+        LocalDateTime rebuiltWatermark = INITIAL_WATERMARK;
+        UUID rebuiltWatermarkId = INITIAL_ID;
+        try {
+            List<CouponChange> changes;
+            do {
+                changes = changeFeed.findChangedSince(rebuiltWatermark, rebuiltWatermarkId, PAGE_SIZE);
+                for (CouponChange change : changes) {
+                    rebuilt.apply(change.coupon().getCode().value(), Facts.of(change.coupon()));
+                    rebuiltWatermark = change.updatedAt();
+                    rebuiltWatermarkId = change.coupon().getId();
+                }
+            } while (changes.size() == PAGE_SIZE);
+        } catch (RuntimeException ex) {
+            synchronized (this) {
+                writesDuringRebuild = null;
+            }
+            throw ex;
+        }
+        synchronized (this) {
+            writesDuringRebuild.forEach(write -> write.accept(rebuilt));
+            writesDuringRebuild = null;
+            tally = rebuilt;
+        }
+        watermark = rebuiltWatermark;
+        watermarkId = rebuiltWatermarkId;
+    }
+
+    private synchronized void applyChanges(List<CouponChange> changes) {
+        for (CouponChange change : changes) {
+            tally.apply(change.coupon().getCode().value(), Facts.of(change.coupon()));
+        }
+    }
+
+    private synchronized void write(Consumer<Tally> write) {
+        write.accept(tally);
+        if (writesDuringRebuild != null) {
+            writesDuringRebuild.add(write);
+        }
+    }
+
+    private synchronized CouponStatusCounts counts(LocalDate today) {
+        return tally.counts(today);
+    }
+
+    private synchronized CouponStatistics snapshot(LocalDate today) {
+        return tally.snapshot(today, expiringDays, reconciledAt);
+    }
+
+    static int bucketOf(long cents) {
+        int bucket = BUCKET_LOWER_BOUNDS_CENTS.length - 1;
+        while (bucket > 0 && cents < BUCKET_LOWER_BOUNDS_CENTS[bucket]) {
+            bucket--;
+        }
+        return bucket;
+    }
+
+    private record Facts(LocalDate expirationDate, boolean published, long cents, boolean deleted) {
+
+        static Facts of(Coupon coupon) {
+            return new Facts(coupon.getExpirationDate().value(), coupon.isPublished(),
+                    coupon.getDiscountValue().cents(), coupon.isDeleted());
+        }
+
+        Facts asDeleted() {
+            return new Facts(expirationDate, published, cents, true);
+        }
+    }
+
+    private static final class DayTally {
+
+        private long count;
+        private long published;
+        private long cents;
+        private final long[] buckets = new long[BUCKET_LOWER_BOUNDS_CENTS.length];
+    }
+
+    private static final class Tally {
+
+        private final Map<String, Facts> facts = new HashMap<>();
+        private final NavigableMap<LocalDate, DayTally> liveByExpiration = new TreeMap<>();
+        private long deleted;
+
+        void apply(String code, Facts next) {
+            Facts previous = facts.put(code, next);
+            if (previous != null) {
+                account(previous, -1);
+            }
+            account(next, 1);
+        }
+
+        void remove(String code) {
+            Facts previous = facts.remove(code);
+            if (previous != null) {
+                account(previous, -1);
+            }
+        }
+
+        void markDeleted(String code) {
+            Facts previous = facts.get(code);
+            if (previous != null && !previous.deleted()) {
+                apply(code, previous.asDeleted());
+            }
+        }
+
+        private void account(Facts facts, int sign) {
+            if (facts.deleted()) {
+                deleted += sign;
+                return;
+            }
+            DayTally day = liveByExpiration.computeIfAbsent(facts.expirationDate(), date -> new DayTally());
+            day.count += sign;
+            day.published += facts.published() ? sign : 0;
+            day.cents += sign * facts.cents();
+            day.buckets[bucketOf(facts.cents())] += sign;
+            if (day.count == 0) {
+                liveByExpiration.remove(facts.expirationDate());
+            }
+        }
+
+        CouponStatusCounts counts(LocalDate today) {
+            long expired = 0;
+            long published = 0;
+            for (Map.Entry<LocalDate, DayTally> entry : liveByExpiration.entrySet()) {
+                expired += entry.getKey().isBefore(today) ? entry.getValue().count : 0;
+                published += entry.getValue().published;
+            }
+            return new CouponStatusCounts(facts.size(), deleted, expired, published);
+        }
+
+        CouponStatistics snapshot(LocalDate today, int expiringDays, LocalDateTime reconciledAt) {
+            long live = 0;
+            long published = 0;
+            for (DayTally day : liveByExpiration.values()) {
+                live += day.count;
+                published += day.published;
+            }
+
+            long active = 0;
+            long activeCents = 0;
+            long[] buckets = new long[BUCKET_LOWER_BOUNDS_CENTS.length];
+            for (DayTally day : liveByExpiration.tailMap(today, true).values()) {
+                active += day.count;
+                activeCents += day.cents;
+                for (int i = 0; i < buckets.length; i++) {
+                    buckets[i] += day.buckets[i];
+                }
+            }
+
+            SortedMap<LocalDate, Long> expiringPerDay = new TreeMap<>();
+            liveByExpiration.subMap(today, true, today.plusDays(expiringDays), false)
+                    .forEach((date, day) -> expiringPerDay.put(date, day.count));
+
+            return new CouponStatistics(
+                    facts.size(),
+                    active,
+                    live - active,
+                    deleted,
+                    published,
+                    live - published,
+                    BigDecimal.valueOf(activeCents, 2),
+                    histogram(buckets),
+                    expiringPerDay,
+                    reconciledAt
+            );
+        }
+
+        private static List<DiscountBucket> histogram(long[] buckets) {
+            List<DiscountBucket> histogram = new ArrayList<>(buckets.length);
+            for (int i = 0; i < buckets.length; i++) {
+                BigDecimal from = BigDecimal.valueOf(BUCKET_LOWER_BOUNDS_CENTS[i], 2);
+                BigDecimal to = i + 1 < buckets.length
+                        ? BigDecimal.valueOf(BUCKET_LOWER_BOUNDS_CENTS[i + 1], 2)
+                        : null;
+                histogram.add(new DiscountBucket(from, to, buckets[i]));
+            }
+            return histogram;
+        }
+    }
+}
@@ -3,7 +3,9 @@ package br.com.stoom.coupon_domain.application.usecase;
 import br.com.stoom.coupon_domain.application.port.in.CreateCouponUseCase;
 import br.com.stoom.coupon_domain.domain.exception.CouponCodeAlreadyExistsException;
 import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponCreatedEvent;
 import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,9 +13,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreateCouponUseCaseImpl implements CreateCouponUseCase {
 
     private final CouponRepository couponRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CreateCouponUseCaseImpl(CouponRepository couponRepository) {
+    public CreateCouponUseCaseImpl(CouponRepository couponRepository, ApplicationEventPublisher eventPublisher) {
         this.couponRepository = couponRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -33,6 +37,8 @@ public class CreateCouponUseCaseImpl implements CreateCouponUseCase {
             );
         }
 
-        return couponRepository.save(coupon);
+        Coupon saved = couponRepository.save(coupon);
+        eventPublisher.publishEvent(CouponCreatedEvent.from(saved));
+        return saved;
     }
 }
@@ -3,7 +3,9 @@ package br.com.stoom.coupon_domain.application.usecase;
 import br.com.stoom.coupon_domain.application.port.in.DeleteCouponUseCase;
 import br.com.stoom.coupon_domain.domain.exception.CouponNotFoundException;
 import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponDeletedEvent;
 import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,9 +13,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteCouponUseCaseImpl implements DeleteCouponUseCase {
 
     private final CouponRepository couponRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DeleteCouponUseCaseImpl(CouponRepository couponRepository) {
+    public DeleteCouponUseCaseImpl(CouponRepository couponRepository, ApplicationEventPublisher eventPublisher) {
         this.couponRepository = couponRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -22,12 +26,11 @@ public class DeleteCouponUseCaseImpl implements DeleteCouponUseCase {
         String normalizedCode = couponCode.toUpperCase();
 
         Coupon coupon = couponRepository.findByCode(normalizedCode)
-                .orElseThrow(() -> new CouponNotFoundException(
-                        "Cupom não encontrado com o código '" + normalizedCode + "'"
-                ));
+                .orElseThrow(() -> CouponNotFoundException.forCode(normalizedCode));
 
         coupon.delete();
 
         couponRepository.save(coupon);
+        eventPublisher.publishEvent(CouponDeletedEvent.from(coupon));
     }
 }
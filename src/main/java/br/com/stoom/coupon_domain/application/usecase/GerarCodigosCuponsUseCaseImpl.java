@@ -0,0 +1,31 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.GerarCodigosCuponsUseCase;
+import br.com.stoom.coupon_domain.domain.exception.InvalidCodeQuantityException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class GerarCodigosCuponsUseCaseImpl implements GerarCodigosCuponsUseCase {
+
+    static final int MAX_QUANTITY = 10_000;
+
+    private final CouponCodeAllocator couponCodeAllocator;
+
+    GerarCodigosCuponsUseCaseImpl(CouponCodeAllocator couponCodeAllocator) {
+        this.couponCodeAllocator = couponCodeAllocator;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> execute(int quantidade) {
+        if (quantidade < 1 || quantidade > MAX_QUANTITY) {
+            throw new InvalidCodeQuantityException(
+                    "A quantidade de códigos deve estar entre 1 e " + MAX_QUANTITY + ", mas foi " + quantidade
+            );
+        }
+        return couponCodeAllocator.allocate(quantidade);
+    }
+}
@@ -0,0 +1,163 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
+final class HierarchicalTimingWheel<K> {
+
+    static final int SLOT_BITS = 5;
+    static final int SLOTS = 1 << SLOT_BITS;
+    static final int LEVELS = 3;
+
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final Bucket<K>[][] wheels;
+    private final Bucket<K> overflow = new Bucket<>();
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    HierarchicalTimingWheel(long startTick) {
+        this.currentTick = startTick;
+        this.wheels = new Bucket[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheels[level][slot] = new Bucket<>();
+            }
+        }
+    }
+
+    boolean schedule(K key, long tick) {
+        cancel(key);
+        if (tick <= currentTick) {
+            return false;
+        }
+        Node<K> node = new Node<>(key, tick);
+        nodes.put(key, node);
+        place(node);
+        return true;
+    }
+
+    boolean cancel(K key) {
+        Node<K> node = nodes.remove(key);
+        if (node == null) {
+            return false;
+        }
+        node.bucket.unlink(node);
+        return true;
+    }
+
+    void advanceTo(long tick, ObjLongConsumer<K> onExpired) {
+        while (currentTick < tick) {
+            currentTick++;
+            for (int level = LEVELS; level >= 1; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level == LEVELS ? overflow : wheels[level][slotOf(currentTick, level)]);
+                }
+            }
+            Bucket<K> due = wheels[0][slotOf(currentTick, 0)];
+            for (Node<K> node = due.pollFirst(); node != null; node = due.pollFirst()) {
+                nodes.remove(node.key);
+                onExpired.accept(node.key, node.tick);
+            }
+        }
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return nodes.size();
+    }
+
+    private void cascade(Bucket<K> bucket) {
+        Node<K> node = bucket.detachAll();
+        while (node != null) {
+            Node<K> next = node.next;
+            node.previous = null;
+            node.next = null;
+            place(node);
+            node = next;
+        }
+    }
+
+    private void place(Node<K> node) {
+        long delta = node.tick - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (SLOT_BITS * (level + 1))) {
+                wheels[level][slotOf(node.tick, level)].append(node);
+                return;
+            }
+        }
+        overflow.append(node);
+    }
+
+    private static int slotOf(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private static final class Node<K> {
+
+        private final K key;
+        private final long tick;
+        private Bucket<K> bucket;
+        private Node<K> previous;
+        private Node<K> next;
+
+        private Node(K key, long tick) {
+            this.key = key;
+            this.tick = tick;
+        }
+    }
+
+    private static final class Bucket<K> {
+
+        private Node<K> head;
+        private Node<K> tail;
+
+        private void append(Node<K> node) {
+            node.bucket = this;
+            node.previous = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        private void unlink(Node<K> node) {
+            if (node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.bucket = null;
+            node.previous = null;
+            node.next = null;
+        }
+
+        private Node<K> detachAll() {
+            Node<K> first = head;
+            head = null;
+            tail = null;
+            return first;
+        }
+
+        private Node<K> pollFirst() {
+            Node<K> node = head;
+            if (node != null) {
+                unlink(node);
+            }
+            return node;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase;
+import br.com.stoom.coupon_domain.domain.exception.CouponImportRejectedException;
+import br.com.stoom.coupon_domain.domain.exception.DomainException;
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class ImportarCuponsUseCaseImpl implements ImportarCuponsUseCase {
+
+    static final int MAX_ERRORS_PER_JOB = 1000;
+    static final int MAX_TRACKED_JOBS = 100;
+
+    private static final int MIN_COLUMNS = 4;
+    private static final char BOM = '\uFEFF';
+
+    private final CouponRepository couponRepository;
+    private final TransactionOperations transactionOperations;
+    private final TaskExecutor importExecutor;
+    private final int chunkSize;
+    private final Map<UUID, CouponImportJob> jobs = new ConcurrentHashMap<>();
+    private final Semaphore slots;
+
+    public ImportarCuponsUseCaseImpl(CouponRepository couponRepository,
+                                     TransactionOperations transactionOperations,
+                                     @Qualifier("couponImportExecutor") TaskExecutor importExecutor,
+                                     @Value("${coupon.import.chunk-size:500}") int chunkSize,
+                                     @Value("${coupon.import.workers:1}") int workers,
+                                     @Value("${coupon.import.queue-capacity:4}") int queueCapacity) {
+        this.couponRepository = couponRepository;
+        this.transactionOperations = transactionOperations;
+        this.importExecutor = importExecutor;
+        this.chunkSize = chunkSize;
+        this.slots = new Semaphore(workers + queueCapacity);
+    }
+
+    // One slot per running or queued import, claimed before the upload is read so a full queue
+    // turns the client away without costing a transfer and a temp file.
+    @Override
+    public ImportSlot reserve() {
+        if (!slots.tryAcquire()) {
+            throw rejected();
+        }
+        return new Slot();
+    }
+
+    @Override
+    public ImportStatus start(ImportSlot slot, Path source) {
+        if (!(slot instanceof Slot claimed) || !claimed.handOver()) {
+            deleteQuietly(source);
+            throw new IllegalStateException("A vaga de importação já foi utilizada ou liberada");
+        }
+
+        CouponImportJob job = new CouponImportJob(UUID.randomUUID(), MAX_ERRORS_PER_JOB);
+        jobs.put(job.id(), job);
+
+        try {
+            importExecutor.execute(() -> {
+                try {
+                    run(job, source);
+                } finally {
+                    slots.release();
+                }
+            });
+        } catch (TaskRejectedException ex) {
+            slots.release();
+            jobs.remove(job.id());
+            deleteQuietly(source);
+            throw rejected();
+        }
+
+        evictFinishedJobs(job.id());
+        return job.snapshot();
+    }
+
+    @Override
+    public Optional<ImportStatus> status(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(CouponImportJob::snapshot);
+    }
+
+    int trackedJobs() {
+        return jobs.size();
+    }
+
+    int availableSlots() {
+        return slots.availablePermits();
+    }
+
+    void run(CouponImportJob job, Path source) {
+        job.running();
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            List<CsvRow> chunk = new ArrayList<>(chunkSize);
+            long lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BOM) {
+                    line = line.substring(1);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                List<String> fields = CouponCsvParser.parseLine(line);
+                if (lineNumber == 1 && CouponCsvParser.isHeader(fields)) {
+                    continue;
+                }
+
+                chunk.add(new CsvRow(lineNumber, fields));
+                if (chunk.size() == chunkSize) {
+                    processChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                processChunk(job, chunk);
+            }
+            job.completed();
+        } catch (IOException | RuntimeException ex) {
+            job.failed("Falha ao ler o arquivo de importação: " + ex.getMessage());
+        } finally {
+            deleteQuietly(source);
+        }
+    }
+
+    private void processChunk(CouponImportJob job, List<CsvRow> rows) {
+        List<ParsedCoupon> parsed = new ArrayList<>(rows.size());
+        Set<String> codesInChunk = new HashSet<>();
+
+        for (CsvRow row : rows) {
+            try {
+                Coupon coupon = toCoupon(row.fields());
+                if (!codesInChunk.add(coupon.getCode().value())) {
+                    job.rowFailed(row.line(), duplicateMessage(coupon.getCode().value()));
+                    continue;
+                }
+                parsed.add(new ParsedCoupon(row.line(), coupon));
+            } catch (DomainException | InvalidRowException ex) {
+                job.rowFailed(row.line(), ex.getMessage());
+            }
+        }
+
+        if (parsed.isEmpty()) {
+            return;
+        }
+
+        Set<String> existing = couponRepository.findExistingCodes(codesInChunk);
+        List<ParsedCoupon> accepted = new ArrayList<>(parsed.size());
+        List<Coupon> toSave = new ArrayList<>(parsed.size());
+        for (ParsedCoupon candidate : parsed) {
+            String code = candidate.coupon().getCode().value();
+            if (existing.contains(code)) {
+                job.rowFailed(candidate.line(), duplicateMessage(code));
+            } else {
+                accepted.add(candidate);
+                toSave.add(candidate.coupon());
+            }
+        }
+
+        if (toSave.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionOperations.executeWithoutResult(status -> couponRepository.saveAll(toSave));
+            job.rowsImported(toSave.size());
+        } catch (RuntimeException ex) {
+            for (ParsedCoupon candidate : accepted) {
+                job.rowFailed(candidate.line(), "Falha ao gravar o lote: " + ex.getMessage());
+            }
+        }
+    }
+
+    private Coupon toCoupon(List<String> fields) {
+        if (fields.size() < MIN_COLUMNS) {
+            throw new InvalidRowException(
+                    "A linha deve ter ao menos " + MIN_COLUMNS + " colunas, mas possui " + fields.size()
+            );
+        }
+
+        return Coupon.create(
+                fields.get(0),
+                fields.get(1),
+                parseDiscount(fields.get(2)),
+                parseDate(fields.get(3)),
+                fields.size() > MIN_COLUMNS && Boolean.parseBoolean(fields.get(4))
+        );
+    }
+
+    private static BigDecimal parseDiscount(String raw) {
+        try {
+            return raw.isEmpty() ? null : new BigDecimal(raw);
+        } catch (NumberFormatException ex) {
+            throw new InvalidRowException("Valor de desconto inválido: '" + raw + "'");
+        }
+    }
+
+    private static LocalDate parseDate(String raw) {
+        try {
+            return raw.isEmpty() ? null : LocalDate.parse(raw);
+        } catch (DateTimeParseException ex) {
+            throw new InvalidRowException("Data de expiração inválida: '" + raw + "'");
+        }
+    }
+
+    private static CouponImportRejectedException rejected() {
+        return new CouponImportRejectedException("A fila de importação está cheia, tente novamente mais tarde");
+    }
+
+    private static String duplicateMessage(String code) {
+        return "Já existe um cupom com o código '" + code + "'";
+    }
+
+    private void evictFinishedJobs(UUID currentJobId) {
+        Iterator<CouponImportJob> iterator = jobs.values().iterator();
+        while (jobs.size() > MAX_TRACKED_JOBS && iterator.hasNext()) {
+            CouponImportJob candidate = iterator.next();
+            if (candidate.isFinished() && !candidate.id().equals(currentJobId)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path source) {
+        try {
+            Files.deleteIfExists(source);
+        } catch (IOException ignored) {
+            // arquivo temporário; será removido pelo sistema operacional
+        }
+    }
+
+    // The permit moves to the job when it starts; closing an unused slot gives it back.
+    private final class Slot implements ImportSlot {
+
+        private final AtomicBoolean held = new AtomicBoolean(true);
+
+        boolean handOver() {
+            return held.compareAndSet(true, false);
+        }
+
+        @Override
+        public void close() {
+            if (handOver()) {
+                slots.release();
+            }
+        }
+    }
+
+    private record CsvRow(long line, List<String> fields) {
+    }
+
+    private record ParsedCoupon(long line, Coupon coupon) {
+    }
+
+    private static final class InvalidRowException extends RuntimeException {
+
+        private InvalidRowException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
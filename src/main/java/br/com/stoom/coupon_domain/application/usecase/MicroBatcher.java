@@ -0,0 +1,145 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// DataLoader-style batching: keys submitted within maxDelay of the first one, or until maxBatchSize keys
+// are queued, are resolved together by a single call to the loader on the executor.
+final class MicroBatcher<K, V> {
+
+    // The window timer only hands the drain over to the executor, so one daemon thread serves every batcher
+    // and no worker is parked waiting for a window to close.
+    private static final ScheduledExecutorService WINDOW_TIMER = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "micro-batcher-window");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Function<Set<K>, Map<K, V>> loader;
+    private final V missing;
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Queue<Pending<K, V>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger scheduledBatches = new AtomicInteger();
+    private final AtomicBoolean windowOpen = new AtomicBoolean();
+
+    MicroBatcher(Function<Set<K>, Map<K, V>> loader, V missing, Executor executor, int maxBatchSize,
+                 Duration maxDelay) {
+        this.loader = loader;
+        this.missing = missing;
+        this.executor = executor;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxDelayNanos = maxDelay.toNanos();
+    }
+
+    // With no delay the window is still opened once: keys submitted before the worker picks it up share
+    // its drain instead of each paying for a task of its own.
+    void submit(K key, CompletableFuture<V> result) {
+        queue.add(new Pending<>(key, result));
+        queued.incrementAndGet();
+        scheduleFullBatches();
+        if (windowOpen.compareAndSet(false, true)) {
+            if (maxDelayNanos <= 0) {
+                execute(this::closeWindow);
+            } else {
+                WINDOW_TIMER.schedule(() -> execute(this::closeWindow), maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    // One drain per full batch still queued: a drain per submitted key would flood the executor's queue with
+    // tasks that find nothing left once the window has drained it.
+    private void scheduleFullBatches() {
+        int scheduled;
+        while (queued.get() / maxBatchSize > (scheduled = scheduledBatches.get())) {
+            if (scheduledBatches.compareAndSet(scheduled, scheduled + 1)) {
+                execute(this::dispatchScheduledBatch);
+            }
+        }
+    }
+
+    private void dispatchScheduledBatch() {
+        scheduledBatches.decrementAndGet();
+        dispatchBatch();
+    }
+
+    // The window is closed before draining: a key queued after this point opens the next window.
+    private void closeWindow() {
+        windowOpen.set(false);
+        while (!queue.isEmpty()) {
+            dispatchBatch();
+        }
+    }
+
+    // A rejected drain would leave its keys queued with nobody to load them, so every queued key fails at
+    // once instead of its callers waiting out their timeout; the window is reopened for the next key.
+    private void execute(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            windowOpen.set(false);
+            scheduledBatches.set(0);
+            failQueued(ex);
+        }
+    }
+
+    private void dispatchBatch() {
+        List<Pending<K, V>> batch = poll(maxBatchSize);
+        if (!batch.isEmpty()) {
+            load(batch);
+        }
+    }
+
+    private void failQueued(RuntimeException ex) {
+        for (Pending<K, V> pending : poll(Integer.MAX_VALUE)) {
+            pending.result().completeExceptionally(ex);
+        }
+    }
+
+    private List<Pending<K, V>> poll(int limit) {
+        List<Pending<K, V>> batch = new ArrayList<>(Math.min(limit, maxBatchSize));
+        Pending<K, V> pending;
+        while (batch.size() < limit && (pending = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(pending);
+        }
+        return batch;
+    }
+
+    private void load(List<Pending<K, V>> batch) {
+        Set<K> keys = new LinkedHashSet<>();
+        for (Pending<K, V> pending : batch) {
+            keys.add(pending.key());
+        }
+        try {
+            Map<K, V> found = loader.apply(keys);
+            for (Pending<K, V> pending : batch) {
+                pending.result().complete(found.getOrDefault(pending.key(), missing));
+            }
+        } catch (RuntimeException | Error ex) {
+            for (Pending<K, V> pending : batch) {
+                pending.result().completeExceptionally(ex);
+            }
+        }
+    }
+
+    private record Pending<K, V>(K key, CompletableFuture<V> result) {
+    }
+}
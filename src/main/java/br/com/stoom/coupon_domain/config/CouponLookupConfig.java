@@ -0,0 +1,29 @@
+package br.com.stoom.coupon_domain.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class CouponLookupConfig {
+
+    // Each worker holds a pooled connection while its batch runs, so the pool must leave connections for
+    // writes and the other readers. Batches beyond the queue are rejected and their callers get a 503.
+    @Bean
+    public ThreadPoolTaskExecutor couponLookupExecutor(
+            @Value("${coupon.lookup.batch.workers:4}") int workers,
+            @Value("${coupon.lookup.batch.queue-capacity:256}") int queueCapacity,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        if (workers >= connectionPoolSize) {
+            throw new IllegalStateException("coupon.lookup.batch.workers (" + workers
+                    + ") deve ser menor que spring.datasource.hikari.maximum-pool-size (" + connectionPoolSize + ")");
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("coupon-lookup-");
+        return executor;
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.stoom.coupon_domain.config;
+
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponQueryResponse;
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponResponse;
+import br.com.stoom.coupon_domain.adapter.in.web.dto.ErrorResponse;
+import br.com.stoom.coupon_domain.domain.model.CouponCreatedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponDeletedEvent;
+import br.com.stoom.coupon_domain.domain.model.OutboxMessage;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+public class CouponRuntimeHints implements RuntimeHintsRegistrar {
+
+    // Types serialized by Jackson outside a typed controller signature (ResponseEntity<?>, cached byte[]
+    // bodies, exception handlers, outbox payloads), so AOT cannot infer them on its own.
+    private static final Class<?>[] JSON_TYPES = {
+            CouponResponse.class,
+            CouponQueryResponse.class,
+            ErrorResponse.class,
+            CouponCreatedEvent.class,
+            CouponDeletedEvent.class,
+            OutboxMessage.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), JSON_TYPES);
+        hints.resources().registerPattern("db/*.sql");
+    }
+}
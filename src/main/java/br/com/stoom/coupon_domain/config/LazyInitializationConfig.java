@@ -0,0 +1,54 @@
+package br.com.stoom.coupon_domain.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Configuration
+public class LazyInitializationConfig {
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    // Only takes effect with spring.main.lazy-initialization=true (profile "lazy"). A lazy bean is never
+    // scheduled, so the jobs and the caches they refresh are still created during startup.
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> hasScheduledMethods(beanType);
+    }
+
+    // springdoc declares its document builders with @Lazy(false), which the global flag does not override.
+    @Bean
+    @Profile("lazy")
+    static BeanFactoryPostProcessor springDocLazyInitializer() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (isSpringDoc(definition)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    static boolean hasScheduledMethods(Class<?> beanType) {
+        return !MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                        AnnotatedElementUtils.hasAnnotation(method, Scheduled.class) ? Boolean.TRUE : null)
+                .isEmpty();
+    }
+
+    static boolean isSpringDoc(BeanDefinition definition) {
+        String className = definition instanceof AnnotatedBeanDefinition annotated
+                && annotated.getFactoryMethodMetadata() != null
+                ? annotated.getFactoryMethodMetadata().getDeclaringClassName()
+                : definition.getBeanClassName();
+        return className != null && className.startsWith(SPRINGDOC_PACKAGE);
+    }
+}
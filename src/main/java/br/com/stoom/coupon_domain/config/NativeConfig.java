@@ -0,0 +1,9 @@
+package br.com.stoom.coupon_domain.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+@Configuration
+@ImportRuntimeHints(CouponRuntimeHints.class)
+public class NativeConfig {
+}
@@ -0,0 +1,21 @@
+package br.com.stoom.coupon_domain.config;
+
+import br.com.stoom.coupon_domain.adapter.in.web.CouponRateLimitInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final CouponRateLimitInterceptor rateLimitInterceptor;
+
+    public WebMvcConfig(CouponRateLimitInterceptor rateLimitInterceptor) {
+        this.rateLimitInterceptor = rateLimitInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor);
+    }
+}
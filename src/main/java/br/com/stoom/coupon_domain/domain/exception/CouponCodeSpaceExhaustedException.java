@@ -0,0 +1,8 @@
+package br.com.stoom.coupon_domain.domain.exception;
+
+public class CouponCodeSpaceExhaustedException extends DomainException {
+
+    public CouponCodeSpaceExhaustedException(String message) {
+        super(message, false);
+    }
+}
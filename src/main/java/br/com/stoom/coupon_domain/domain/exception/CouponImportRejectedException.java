@@ -0,0 +1,8 @@
+package br.com.stoom.coupon_domain.domain.exception;
+
+public class CouponImportRejectedException extends DomainException {
+
+    public CouponImportRejectedException(String message) {
+        super(message, false);
+    }
+}
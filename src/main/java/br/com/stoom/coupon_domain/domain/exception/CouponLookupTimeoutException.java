@@ -0,0 +1,16 @@
+package br.com.stoom.coupon_domain.domain.exception;
+
+public class CouponLookupTimeoutException extends DomainException {
+
+    public CouponLookupTimeoutException(String message) {
+        super(message, false);
+    }
+
+    public static CouponLookupTimeoutException forCode(String code) {
+        return new CouponLookupTimeoutException("Tempo esgotado aguardando a consulta do cupom '" + code + "'");
+    }
+
+    public static CouponLookupTimeoutException rejected(String code) {
+        return new CouponLookupTimeoutException("Fila de consultas cheia ao buscar o cupom '" + code + "'");
+    }
+}
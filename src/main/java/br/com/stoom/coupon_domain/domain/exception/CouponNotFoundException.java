@@ -2,7 +2,17 @@ package br.com.stoom.coupon_domain.domain.exception;
 
 public class CouponNotFoundException extends DomainException {
 
+    private static final String MESSAGE_PREFIX = "Cupom não encontrado com o código '";
+
     public CouponNotFoundException(String message) {
-        super(message);
+        super(message, false);
+    }
+
+    public static CouponNotFoundException forCode(String code) {
+        return new CouponNotFoundException(messageFor(code));
+    }
+
+    public static String messageFor(String code) {
+        return MESSAGE_PREFIX + code + "'";
     }
 }
@@ -5,4 +5,8 @@ public class DomainException extends RuntimeException {
     protected DomainException(String message) {
         super(message);
     }
+
+    protected DomainException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
@@ -0,0 +1,8 @@
+package br.com.stoom.coupon_domain.domain.exception;
+
+public class InvalidCartException extends DomainException {
+
+    public InvalidCartException(String message) {
+        super(message, false);
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.stoom.coupon_domain.domain.exception;
+
+public class InvalidCodeQuantityException extends DomainException {
+
+    public InvalidCodeQuantityException(String message) {
+        super(message, false);
+    }
+}
@@ -3,6 +3,6 @@ package br.com.stoom.coupon_domain.domain.exception;
 public class InvalidDescriptionException extends DomainException {
 
     public InvalidDescriptionException(String message) {
-        super(message);
+        super(message, false);
     }
 }
@@ -0,0 +1,8 @@
+package br.com.stoom.coupon_domain.domain.exception;
+
+public class InvalidSearchPatternException extends DomainException {
+
+    public InvalidSearchPatternException(String message) {
+        super(message, false);
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.stoom.coupon_domain.domain.model;
+
+// Bumped in the same transaction as every write that changes the listing, so it moves on commit
+// regardless of how the rows' updated_at stamps compare.
+public record CatalogVersion(
+        long sequence
+) {
+}
@@ -78,6 +78,10 @@ public class Coupon {
         return !deleted && !isExpired();
     }
 
+    public long discountCentsFor(long amountCents) {
+        return Math.min(discountValue.cents(), Math.max(0, amountCents));
+    }
+
     public UUID getId() {
         return id;
     }
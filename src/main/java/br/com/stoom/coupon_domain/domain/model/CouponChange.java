@@ -0,0 +1,9 @@
+package br.com.stoom.coupon_domain.domain.model;
+
+import java.time.LocalDateTime;
+
+public record CouponChange(
+        Coupon coupon,
+        LocalDateTime updatedAt
+) {
+}
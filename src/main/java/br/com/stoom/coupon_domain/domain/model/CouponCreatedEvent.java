@@ -0,0 +1,29 @@
+package br.com.stoom.coupon_domain.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record CouponCreatedEvent(
+        UUID id,
+        String code,
+        String description,
+        BigDecimal discountValue,
+        LocalDate expirationDate,
+        boolean published,
+        LocalDateTime createdAt
+) {
+
+    public static CouponCreatedEvent from(Coupon coupon) {
+        return new CouponCreatedEvent(
+                coupon.getId(),
+                coupon.getCode().value(),
+                coupon.getDescription(),
+                coupon.getDiscountValue().value(),
+                coupon.getExpirationDate().value(),
+                coupon.isPublished(),
+                coupon.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.stoom.coupon_domain.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record CouponDeletedEvent(
+        UUID id,
+        String code,
+        LocalDateTime deletedAt
+) {
+
+    public static CouponDeletedEvent from(Coupon coupon) {
+        return new CouponDeletedEvent(coupon.getId(), coupon.getCode().value(), coupon.getDeletedAt());
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.stoom.coupon_domain.domain.model;
+
+import java.time.LocalDate;
+
+public record CouponExpiredEvent(
+        String code,
+        LocalDate expirationDate
+) {
+}
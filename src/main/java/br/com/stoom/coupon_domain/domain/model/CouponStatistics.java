@@ -0,0 +1,28 @@
+package br.com.stoom.coupon_domain.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SortedMap;
+
+public record CouponStatistics(
+        long total,
+        long active,
+        long expired,
+        long deleted,
+        long published,
+        long unpublished,
+        BigDecimal activeDiscountTotal,
+        List<DiscountBucket> activeDiscountHistogram,
+        SortedMap<LocalDate, Long> expiringPerDay,
+        LocalDateTime reconciledAt
+) {
+
+    public record DiscountBucket(
+            BigDecimal from,
+            BigDecimal to,
+            long count
+    ) {
+    }
+}
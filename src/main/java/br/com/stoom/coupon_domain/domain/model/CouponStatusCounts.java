@@ -0,0 +1,9 @@
+package br.com.stoom.coupon_domain.domain.model;
+
+public record CouponStatusCounts(
+        long total,
+        long deleted,
+        long expired,
+        long published
+) {
+}
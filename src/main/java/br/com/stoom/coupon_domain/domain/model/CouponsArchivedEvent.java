@@ -0,0 +1,9 @@
+package br.com.stoom.coupon_domain.domain.model;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record CouponsArchivedEvent(
+        Map<String, UUID> idsByCode
+) {
+}
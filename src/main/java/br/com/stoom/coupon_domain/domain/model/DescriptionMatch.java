@@ -0,0 +1,8 @@
+package br.com.stoom.coupon_domain.domain.model;
+
+public record DescriptionMatch(
+        String code,
+        String description,
+        double score
+) {
+}
@@ -0,0 +1,9 @@
+package br.com.stoom.coupon_domain.domain.model;
+
+import java.util.List;
+
+public record DescriptionMatches(
+        List<DescriptionMatch> matches,
+        long total
+) {
+}
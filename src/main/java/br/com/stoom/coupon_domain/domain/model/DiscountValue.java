@@ -3,6 +3,8 @@ package br.com.stoom.coupon_domain.domain.model;
 import br.com.stoom.coupon_domain.domain.exception.InvalidDiscountValueException;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.util.Objects;
 
 public final class DiscountValue {
@@ -10,9 +12,11 @@ public final class DiscountValue {
     private static final BigDecimal MIN_VALUE = new BigDecimal("0.5");
 
     private final BigDecimal value;
+    private final long cents;
 
     private DiscountValue(BigDecimal value) {
         this.value = value;
+        this.cents = toCents(value);
     }
 
     public static DiscountValue of(BigDecimal value) {
@@ -35,6 +39,10 @@ public final class DiscountValue {
         return value;
     }
 
+    public long cents() {
+        return cents;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -51,4 +59,9 @@ public final class DiscountValue {
     public String toString() {
         return value.toPlainString();
     }
+
+    private static long toCents(BigDecimal value) {
+        BigInteger unscaled = value.setScale(2, RoundingMode.HALF_UP).unscaledValue();
+        return unscaled.bitLength() < Long.SIZE ? unscaled.longValue() : Long.MAX_VALUE;
+    }
 }
@@ -0,0 +1,21 @@
+package br.com.stoom.coupon_domain.domain.model;
+
+import java.util.List;
+
+public record OutboxBatch(
+        List<OutboxMessage> messages,
+        int attempts
+) {
+
+    public static OutboxBatch empty() {
+        return new OutboxBatch(List.of(), 0);
+    }
+
+    public boolean isEmpty() {
+        return messages.isEmpty();
+    }
+
+    public List<Long> sequences() {
+        return messages.stream().map(OutboxMessage::sequence).toList();
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.stoom.coupon_domain.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OutboxMessage(
+        long sequence,
+        String type,
+        UUID aggregateId,
+        String code,
+        String payload,
+        LocalDateTime occurredAt
+) {
+}
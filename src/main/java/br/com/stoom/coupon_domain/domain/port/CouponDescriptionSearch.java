@@ -0,0 +1,8 @@
+package br.com.stoom.coupon_domain.domain.port;
+
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatches;
+
+public interface CouponDescriptionSearch {
+
+    DescriptionMatches search(String query, int offset, int limit);
+}
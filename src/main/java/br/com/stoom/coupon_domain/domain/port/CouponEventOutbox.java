@@ -0,0 +1,22 @@
+package br.com.stoom.coupon_domain.domain.port;
+
+import br.com.stoom.coupon_domain.domain.model.OutboxBatch;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+public interface CouponEventOutbox {
+
+    void append(String type, UUID aggregateId, String code, String payload, LocalDateTime occurredAt);
+
+    OutboxBatch claimPending(int limit, LocalDateTime now, LocalDateTime claimedUntil);
+
+    void markPublished(Collection<Long> sequences, LocalDateTime publishedAt);
+
+    void recordFailure(Collection<Long> sequences, String error, LocalDateTime retryAt);
+
+    int parkExhausted(Collection<Long> sequences, int maxAttempts, LocalDateTime failedAt);
+
+    int purgePublishedBefore(LocalDateTime publishedBefore);
+}
@@ -0,0 +1,12 @@
+package br.com.stoom.coupon_domain.domain.port;
+
+import br.com.stoom.coupon_domain.domain.model.OutboxMessage;
+
+import java.util.List;
+
+public interface CouponEventSink {
+
+    String name();
+
+    void deliver(List<OutboxMessage> messages);
+}
@@ -1,20 +1,52 @@
 package br.com.stoom.coupon_domain.domain.port;
 
+import br.com.stoom.coupon_domain.domain.model.CatalogVersion;
 import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.model.CouponStatusCounts;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface CouponRepository {
 
     Coupon save(Coupon coupon);
 
+    List<Coupon> saveAll(List<Coupon> coupons);
+
     Optional<Coupon> findById(UUID id);
 
     Optional<Coupon> findByCode(String code);
 
     List<Coupon> findAll();
 
+    List<Coupon> findAllByCodes(Collection<String> codes);
+
     boolean existsByCode(String code);
+
+    Set<String> findExistingCodes(Collection<String> codes);
+
+    List<String> findCodesAfter(String afterCode, int limit);
+
+    List<CouponChange> findChangedSince(LocalDateTime since, UUID afterId, LocalDateTime until, int limit);
+
+    Optional<LocalDateTime> findUpdatedAtByCode(String code);
+
+    Map<String, LocalDateTime> findUpdatedAtByCodes(Collection<String> codes);
+
+    CatalogVersion findCatalogVersion();
+
+    long count();
+
+    CouponStatusCounts countByStatus(LocalDate today);
+
+    Map<String, UUID> archiveBatch(LocalDateTime deletedBefore, LocalDate expiredBefore, int limit);
+
+    Optional<Coupon> findArchivedByCode(String code);
 }
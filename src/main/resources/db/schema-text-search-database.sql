@@ -0,0 +1,11 @@
+-- Applied only with coupon.text-search.mode=database, on top of schema.sql or schema-partitioned.sql.
+
+-- unaccent() is only STABLE, so it is wrapped with a fixed dictionary to be usable in an index expression.
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+CREATE OR REPLACE FUNCTION coupon_search_vector(description TEXT) RETURNS tsvector
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE AS
+    'SELECT to_tsvector(''portuguese'', public.unaccent(''public.unaccent''::regdictionary, description))';
+
+CREATE INDEX IF NOT EXISTS idx_coupons_description_search
+    ON coupons USING GIN (coupon_search_vector(description)) WHERE deleted = false;
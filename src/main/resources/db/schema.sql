@@ -1,6 +1,6 @@
 CREATE TABLE IF NOT EXISTS coupons (
     id              UUID            PRIMARY KEY,
-    code            VARCHAR(6)      NOT NULL UNIQUE,
+    code            VARCHAR(6)      NOT NULL,
     description     VARCHAR(255)    NOT NULL,
     discount_value  NUMERIC(10, 2)  NOT NULL CHECK (discount_value >= 0.5),
     expiration_date DATE            NOT NULL,
@@ -10,3 +10,60 @@ CREATE TABLE IF NOT EXISTS coupons (
     created_at      TIMESTAMP       NOT NULL,
     updated_at      TIMESTAMP       NOT NULL
 );
+
+CREATE INDEX IF NOT EXISTS idx_coupons_updated_at_id ON coupons (updated_at, id);
+
+-- Unique on code and covering the CouponQueryResponse / version columns, so lookups by code
+-- are index-only scans. It replaces the inline UNIQUE constraint of older databases.
+CREATE UNIQUE INDEX IF NOT EXISTS idx_coupons_code_covering
+    ON coupons (code) INCLUDE (discount_value, expiration_date, deleted, updated_at);
+ALTER TABLE coupons DROP CONSTRAINT IF EXISTS coupons_code_key;
+
+CREATE INDEX IF NOT EXISTS idx_coupons_active_expiration
+    ON coupons (expiration_date) WHERE deleted = false AND published = true;
+
+CREATE INDEX IF NOT EXISTS idx_coupons_deleted_at
+    ON coupons (deleted_at) WHERE deleted = true;
+
+-- Bumped in the transaction of every create, delete, import and archive; the listing's ETag.
+CREATE TABLE IF NOT EXISTS coupon_catalog_version (
+    id              INTEGER         PRIMARY KEY,
+    sequence        BIGINT          NOT NULL
+);
+
+INSERT INTO coupon_catalog_version (id, sequence) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
+
+CREATE TABLE IF NOT EXISTS coupons_archive (
+    id              UUID            PRIMARY KEY,
+    code            VARCHAR(6)      NOT NULL,
+    description     VARCHAR(255)    NOT NULL,
+    discount_value  NUMERIC(10, 2)  NOT NULL,
+    expiration_date DATE            NOT NULL,
+    published       BOOLEAN         NOT NULL,
+    deleted         BOOLEAN         NOT NULL,
+    deleted_at      TIMESTAMP,
+    created_at      TIMESTAMP       NOT NULL,
+    updated_at      TIMESTAMP       NOT NULL,
+    archived_at     TIMESTAMP       NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_coupons_archive_code ON coupons_archive (code, archived_at);
+
+CREATE TABLE IF NOT EXISTS coupon_outbox (
+    id              BIGINT          GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    event_type      VARCHAR(50)     NOT NULL,
+    aggregate_id    UUID            NOT NULL,
+    coupon_code     VARCHAR(6)      NOT NULL,
+    payload         VARCHAR(2000)   NOT NULL,
+    occurred_at     TIMESTAMP       NOT NULL,
+    published_at    TIMESTAMP,
+    attempts        INTEGER         NOT NULL DEFAULT 0,
+    last_error      VARCHAR(500),
+    available_at    TIMESTAMP,
+    failed_at       TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_coupon_outbox_pending
+    ON coupon_outbox (id) WHERE published_at IS NULL AND failed_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_coupon_outbox_published_at
+    ON coupon_outbox (published_at) WHERE published_at IS NOT NULL;
@@ -1,22 +1,38 @@
 package br.com.stoom.coupon_domain;
 
+import br.com.stoom.coupon_domain.adapter.out.persistence.CouponOutboxEntity;
+import br.com.stoom.coupon_domain.adapter.out.persistence.CouponOutboxJpaRepository;
+import br.com.stoom.coupon_domain.application.usecase.CouponOutboxRelay;
+import br.com.stoom.coupon_domain.domain.model.CouponStatusCounts;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+// The change feed flows read their own writes right away, so the settle window is closed.
+@SpringBootTest(properties = "coupon.change-feed.settle-window=PT0S")
 @AutoConfigureMockMvc
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @DisplayName("Testes de integração - Fluxo completo")
@@ -25,6 +41,21 @@ class CouponIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponOutboxJpaRepository couponOutboxJpaRepository;
+
+    @Autowired
+    private CouponOutboxRelay couponOutboxRelay;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionOperations transactionOperations;
+
     private String createCouponRequestBody(String code, String description, double discount,
                                             LocalDate expirationDate, boolean published) {
         return String.format(Locale.US, """
@@ -277,4 +308,439 @@ class CouponIntegrationTest {
                     .andExpect(jsonPath("$.length()").value(0));
         }
     }
+
+    @Nested
+    @DisplayName("Fluxo de alterações incrementais")
+    class ChangesFlow {
+
+        @Test
+        @DisplayName("deve paginar alterações e refletir exclusões após a marca")
+        void shouldPageChangesAndReflectDeletions() throws Exception {
+            for (String code : new String[]{"CHG001", "CHG002", "CHG003"}) {
+                mockMvc.perform(post("/cupons")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(createCouponRequestBody(code, "Alteração", 10.00,
+                                        LocalDate.now().plusDays(30), true)))
+                        .andExpect(status().isCreated());
+            }
+
+            String firstPage = mockMvc.perform(get("/cupons/changes").param("limit", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.alteracoes.length()").value(2))
+                    .andExpect(jsonPath("$.temMais").value(true))
+                    .andReturn().getResponse().getContentAsString();
+
+            String since = JsonPath.read(firstPage, "$.proximoSince");
+            String afterId = JsonPath.read(firstPage, "$.proximoAfterId");
+
+            String secondPage = mockMvc.perform(get("/cupons/changes")
+                            .param("since", since)
+                            .param("afterId", afterId)
+                            .param("limit", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.alteracoes.length()").value(1))
+                    .andExpect(jsonPath("$.temMais").value(false))
+                    .andReturn().getResponse().getContentAsString();
+
+            mockMvc.perform(delete("/cupons/CHG001"))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/cupons/changes")
+                            .param("since", JsonPath.<String>read(secondPage, "$.proximoSince"))
+                            .param("afterId", JsonPath.<String>read(secondPage, "$.proximoAfterId")))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.alteracoes.length()").value(1))
+                    .andExpect(jsonPath("$.alteracoes[0].codigo").value("CHG001"))
+                    .andExpect(jsonPath("$.alteracoes[0].removido").value(true));
+        }
+    }
+
+    @Nested
+    @DisplayName("Fluxo de requisições condicionais")
+    class ConditionalFlow {
+
+        @Test
+        @DisplayName("deve responder 304 enquanto o cupom não muda e 200 após a exclusão")
+        void shouldReturn304UntilCouponChanges() throws Exception {
+            mockMvc.perform(post("/cupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createCouponRequestBody("ETG001", "ETag", 10.00,
+                                    LocalDate.now().plusDays(30), true)))
+                    .andExpect(status().isCreated());
+
+            String etag = mockMvc.perform(get("/cupons/ETG001"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get("/cupons/etg001").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+
+            String listEtag = mockMvc.perform(get("/cupons"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(delete("/cupons/ETG001"))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/cupons/ETG001").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.removido").value(true));
+
+            mockMvc.perform(get("/cupons").header(HttpHeaders.IF_NONE_MATCH, listEtag))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("deve mudar a ETag da listagem ao excluir cupom carimbado antes da última atualização")
+        void shouldChangeListingETagWhenEarlierStampedCouponIsDeleted() throws Exception {
+            for (String code : List.of("ETG002", "ETG003")) {
+                mockMvc.perform(post("/cupons")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(createCouponRequestBody(code, "ETag", 10.00,
+                                        LocalDate.now().plusDays(30), true)))
+                        .andExpect(status().isCreated());
+            }
+            // A row stamped ahead, as by a writer whose clock runs fast, holds MAX(updated_at) above the delete.
+            jdbcTemplate.update("UPDATE coupons SET updated_at = ? WHERE code = ?",
+                    LocalDateTime.now().plusDays(1), "ETG003");
+
+            String listEtag = mockMvc.perform(get("/cupons"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(delete("/cupons/ETG002"))
+                    .andExpect(status().isNoContent());
+
+            String changedEtag = mockMvc.perform(get("/cupons").header(HttpHeaders.IF_NONE_MATCH, listEtag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[?(@.codigo == 'ETG002')].removido").value(true))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertNotEquals(listEtag, changedEtag);
+        }
+    }
+
+    @Nested
+    @DisplayName("Fluxo de importação CSV")
+    class ImportFlow {
+
+        @Test
+        @DisplayName("deve importar CSV de forma assíncrona e reportar erros por linha")
+        void shouldImportCsvAsynchronously() throws Exception {
+            String csv = "code,description,discountValue,expirationDate,published\n"
+                    + "CSV001,Importado um,10.00," + LocalDate.now().plusDays(30) + ",true\n"
+                    + "CSV002,Importado dois,5.00," + LocalDate.now().plusDays(30) + ",false\n"
+                    + "CSV003,Data passada,5.00,2020-01-01,false\n";
+
+            String started = mockMvc.perform(multipart("/cupons/importacoes")
+                            .file(new MockMultipartFile("arquivo", "cupons.csv", "text/csv",
+                                    csv.getBytes(StandardCharsets.UTF_8))))
+                    .andExpect(status().isAccepted())
+                    .andReturn().getResponse().getContentAsString();
+            String id = JsonPath.read(started, "$.id");
+
+            String situacao = "PENDING";
+            for (int attempt = 0; attempt < 100 && !situacao.equals("COMPLETED"); attempt++) {
+                Thread.sleep(50);
+                situacao = JsonPath.read(mockMvc.perform(get("/cupons/importacoes/" + id))
+                        .andReturn().getResponse().getContentAsString(), "$.situacao");
+            }
+
+            mockMvc.perform(get("/cupons/importacoes/" + id))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.situacao").value("COMPLETED"))
+                    .andExpect(jsonPath("$.linhasImportadas").value(2))
+                    .andExpect(jsonPath("$.linhasComErro").value(1))
+                    .andExpect(jsonPath("$.erros[0].linha").value(4));
+
+            mockMvc.perform(get("/cupons/CSV002"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.codigo").value("CSV002"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Fluxo de geração de códigos")
+    class CodeGenerationFlow {
+
+        @Test
+        @DisplayName("deve gerar códigos que não colidem com cupons existentes e aceitá-los na criação")
+        void shouldGenerateCodesUsableForCreation() throws Exception {
+            mockMvc.perform(post("/cupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createCouponRequestBody("GEN001", "Existente", 10.00,
+                                    LocalDate.now().plusDays(30), false)))
+                    .andExpect(status().isCreated());
+
+            String response = mockMvc.perform(post("/cupons/codigos").param("quantidade", "50"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.codigos.length()").value(50))
+                    .andReturn().getResponse().getContentAsString();
+            List<String> codigos = JsonPath.read(response, "$.codigos");
+
+            assertFalse(codigos.contains("GEN001"));
+            assertEquals(50, new HashSet<>(codigos).size());
+
+            mockMvc.perform(post("/cupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createCouponRequestBody(codigos.get(0), "Gerado", 10.00,
+                                    LocalDate.now().plusDays(30), false)))
+                    .andExpect(status().isCreated());
+        }
+    }
+
+    @Nested
+    @DisplayName("Fluxo de consulta em lote")
+    class LookupFlow {
+
+        @Test
+        @DisplayName("deve resolver vários códigos em uma requisição")
+        void shouldResolveManyCodesInOneRequest() throws Exception {
+            mockMvc.perform(post("/cupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createCouponRequestBody("LOT001", "Lote", 10.00,
+                                    LocalDate.now().plusDays(30), true)))
+                    .andExpect(status().isCreated());
+
+            mockMvc.perform(post("/cupons/consulta")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {"codigos": ["lot001", "LOT999", "LOT001"]}
+                                    """))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.resultados.length()").value(2))
+                    .andExpect(jsonPath("$.resultados[0].codigo").value("LOT001"))
+                    .andExpect(jsonPath("$.resultados[0].encontrado").value(true))
+                    .andExpect(jsonPath("$.resultados[1].codigo").value("LOT999"))
+                    .andExpect(jsonPath("$.resultados[1].encontrado").value(false));
+        }
+    }
+
+    @Nested
+    @DisplayName("Fluxo de busca por prefixo")
+    class SearchFlow {
+
+        @Test
+        @DisplayName("deve encontrar códigos criados e deixar de listar os excluídos")
+        void shouldFindCreatedCodesAndSkipDeleted() throws Exception {
+            for (String code : List.of("PRE001", "PRE002", "PRX001")) {
+                mockMvc.perform(post("/cupons")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(createCouponRequestBody(code, "Prefixo", 10.00,
+                                        LocalDate.now().plusDays(30), true)))
+                        .andExpect(status().isCreated());
+            }
+
+            mockMvc.perform(get("/cupons/busca").param("prefixo", "pre"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.codigos.length()").value(2))
+                    .andExpect(jsonPath("$.codigos[0]").value("PRE001"))
+                    .andExpect(jsonPath("$.codigos[1]").value("PRE002"));
+
+            mockMvc.perform(delete("/cupons/PRE001"))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/cupons/busca").param("prefixo", "PR?0"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.codigos.length()").value(2))
+                    .andExpect(jsonPath("$.codigos[0]").value("PRE002"))
+                    .andExpect(jsonPath("$.codigos[1]").value("PRX001"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Fluxo de busca por descrição")
+    class DescriptionSearchFlow {
+
+        @Test
+        @DisplayName("deve encontrar cupons por palavras da descrição sem diferenciar acentos")
+        void shouldFindCouponsByDescriptionWords() throws Exception {
+            mockMvc.perform(post("/cupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createCouponRequestBody("TXT001", "Promoção de verão em calçados", 10.00,
+                                    LocalDate.now().plusDays(30), true)))
+                    .andExpect(status().isCreated());
+
+            mockMvc.perform(get("/cupons/busca/descricao").param("termos", "calcados verao"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(1))
+                    .andExpect(jsonPath("$.resultados[0].codigo").value("TXT001"));
+
+            mockMvc.perform(post("/cupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createCouponRequestBody("TXT002", "Calçados infantis", 10.00,
+                                    LocalDate.now().plusDays(30), true)))
+                    .andExpect(status().isCreated());
+            mockMvc.perform(delete("/cupons/TXT001"))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/cupons/busca/descricao").param("termos", "Calçados"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(1))
+                    .andExpect(jsonPath("$.resultados[0].codigo").value("TXT002"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Fluxo de estatísticas")
+    class StatisticsFlow {
+
+        @Test
+        @DisplayName("deve refletir criações e exclusões nas estatísticas")
+        void shouldReflectCreatesAndDeletes() throws Exception {
+            mockMvc.perform(get("/cupons/estatisticas"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(0));
+
+            mockMvc.perform(post("/cupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createCouponRequestBody("STA001", "Estatística", 10.00,
+                                    LocalDate.now().plusDays(3), true)))
+                    .andExpect(status().isCreated());
+            mockMvc.perform(post("/cupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createCouponRequestBody("STA002", "Estatística", 60.00,
+                                    LocalDate.now().plusDays(3), false)))
+                    .andExpect(status().isCreated());
+            mockMvc.perform(delete("/cupons/STA001"))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/cupons/estatisticas"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(2))
+                    .andExpect(jsonPath("$.ativos").value(1))
+                    .andExpect(jsonPath("$.excluidos").value(1))
+                    .andExpect(jsonPath("$.naoPublicados").value(1))
+                    .andExpect(jsonPath("$.valorDescontoAtivos").value(60.00))
+                    .andExpect(jsonPath("$.expirandoPorDia[0].quantidade").value(1));
+        }
+
+        @Test
+        @DisplayName("agregações do banco devem coincidir com as estatísticas em memória")
+        void databaseAggregatesShouldMatchInMemoryStatistics() throws Exception {
+            mockMvc.perform(post("/cupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createCouponRequestBody("STA003", "Estatística", 10.00,
+                                    LocalDate.now().plusDays(3), true)))
+                    .andExpect(status().isCreated());
+            mockMvc.perform(post("/cupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createCouponRequestBody("STA004", "Estatística", 10.00,
+                                    LocalDate.now().plusDays(3), true)))
+                    .andExpect(status().isCreated());
+            mockMvc.perform(delete("/cupons/STA004"))
+                    .andExpect(status().isNoContent());
+
+            assertEquals(new CouponStatusCounts(2, 1, 0, 1), couponRepository.countByStatus(LocalDate.now()));
+            mockMvc.perform(get("/cupons/estatisticas"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(2))
+                    .andExpect(jsonPath("$.excluidos").value(1))
+                    .andExpect(jsonPath("$.expirados").value(0))
+                    .andExpect(jsonPath("$.publicados").value(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Fluxo do outbox de eventos")
+    class OutboxFlow {
+
+        @Test
+        @DisplayName("deve gravar eventos no outbox e retransmiti-los")
+        void shouldRecordAndRelayEvents() throws Exception {
+            mockMvc.perform(post("/cupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createCouponRequestBody("OBX001", "Outbox", 10.00,
+                                    LocalDate.now().plusDays(3), true)))
+                    .andExpect(status().isCreated());
+            mockMvc.perform(delete("/cupons/OBX001"))
+                    .andExpect(status().isNoContent());
+
+            couponOutboxRelay.relay();
+
+            List<CouponOutboxEntity> rows = couponOutboxJpaRepository.findAll();
+            assertEquals(List.of("CouponCreated", "CouponDeleted"),
+                    rows.stream().map(CouponOutboxEntity::getEventType).toList());
+            assertTrue(rows.stream().allMatch(row -> row.getPublishedAt() != null));
+            assertTrue(rows.stream().allMatch(row -> row.getAttempts() == 1 && row.getFailedAt() == null));
+            assertTrue(rows.stream().allMatch(row -> row.getCouponCode().equals("OBX001")));
+        }
+
+        @Test
+        @DisplayName("não deve gravar evento quando a criação é rejeitada")
+        void shouldNotRecordEventWhenCreateIsRejected() throws Exception {
+            String body = createCouponRequestBody("OBX002", "Outbox", 10.00, LocalDate.now().plusDays(3), true);
+            mockMvc.perform(post("/cupons").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isCreated());
+            mockMvc.perform(post("/cupons").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isConflict());
+
+            assertEquals(1, couponOutboxJpaRepository.count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Fluxo de aplicação de cupons")
+    class ApplyFlow {
+
+        @Test
+        @DisplayName("deve calcular descontos de vários carrinhos em uma requisição")
+        void shouldApplyCouponsToManyCarts() throws Exception {
+            mockMvc.perform(post("/cupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createCouponRequestBody("APL010", "Dez reais", 10.00,
+                                    LocalDate.now().plusDays(30), true)))
+                    .andExpect(status().isCreated());
+            mockMvc.perform(delete("/cupons/APL010")).andExpect(status().isNoContent());
+            mockMvc.perform(post("/cupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createCouponRequestBody("APL005", "Cinco reais", 5.00,
+                                    LocalDate.now().plusDays(30), true)))
+                    .andExpect(status().isCreated());
+
+            mockMvc.perform(post("/cupons/aplicar")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {"carrinhos": [
+                                        {"id": "c1", "itens": [{"sku": "A", "quantidade": 2, "precoUnitario": 3.10}],
+                                         "codigos": ["apl005", "APL010"]},
+                                        {"id": "c2", "itens": [{"sku": "B", "quantidade": 1, "precoUnitario": 50.00}],
+                                         "codigos": ["APL005"]}
+                                    ]}
+                                    """))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.carrinhos[0].subtotal").value(6.20))
+                    .andExpect(jsonPath("$.carrinhos[0].desconto").value(5.00))
+                    .andExpect(jsonPath("$.carrinhos[0].total").value(1.20))
+                    .andExpect(jsonPath("$.carrinhos[0].cuponsRejeitados[0].codigo").value("APL010"))
+                    .andExpect(jsonPath("$.carrinhos[0].cuponsRejeitados[0].motivo").value("DELETED"))
+                    .andExpect(jsonPath("$.carrinhos[1].total").value(45.00));
+        }
+    }
+
+    @Nested
+    @DisplayName("Fluxo de arquivamento")
+    class ArchiveFlow {
+
+        @Test
+        @DisplayName("deve mover cupom excluído para o arquivo e consultá-lo apenas sob demanda")
+        void shouldArchiveDeletedCoupon() throws Exception {
+            mockMvc.perform(post("/cupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(createCouponRequestBody("ARQ001", "Arquivar", 10.00,
+                                    LocalDate.now().plusDays(30), true)))
+                    .andExpect(status().isCreated());
+            mockMvc.perform(delete("/cupons/ARQ001")).andExpect(status().isNoContent());
+
+            assertEquals(1, transactionOperations.execute(status -> couponRepository.archiveBatch(
+                    LocalDateTime.now().plusMinutes(1), LocalDate.now().minusDays(90), 10)).size());
+
+            mockMvc.perform(get("/cupons/ARQ001"))
+                    .andExpect(status().isNotFound());
+            mockMvc.perform(get("/cupons/ARQ001").param("incluirArquivados", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.codigo").value("ARQ001"))
+                    .andExpect(jsonPath("$.removido").value(true));
+        }
+    }
 }
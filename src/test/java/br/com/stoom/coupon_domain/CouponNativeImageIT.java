@@ -0,0 +1,123 @@
+package br.com.stoom.coupon_domain;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnabledIfSystemProperty(named = "native.image.path", matches = ".+")
+@DisplayName("Imagem nativa contra H2")
+class CouponNativeImageIT {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private static Process process;
+    private static RestClient client;
+
+    @BeforeAll
+    static void startNativeImage() throws Exception {
+        Path binary = Path.of(System.getProperty("native.image.path"));
+        int port = freePort();
+        process = new ProcessBuilder(binary.toString(),
+                "--server.port=" + port,
+                "--spring.profiles.active=dev,native")
+                .redirectErrorStream(true)
+                .redirectOutput(binary.resolveSibling("native-image-it.log").toFile())
+                .start();
+        client = RestClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .defaultStatusHandler(status -> true, (request, response) -> {
+                })
+                .build();
+        awaitReadiness();
+    }
+
+    @AfterAll
+    static void stopNativeImage() {
+        if (process != null) {
+            process.destroy();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void awaitReadiness() throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            assertTrue(process.isAlive(), "o binário nativo encerrou durante a partida");
+            try {
+                ResponseEntity<String> readiness = client.get().uri("/actuator/health/readiness")
+                        .retrieve().toEntity(String.class);
+                if (readiness.getStatusCode().is2xxSuccessful()) {
+                    return;
+                }
+            } catch (RuntimeException ex) {
+                // servidor ainda não aceita conexões
+            }
+            Thread.sleep(100);
+        }
+        fail("o binário nativo não ficou pronto em " + STARTUP_TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("deve criar e consultar cupom")
+    void shouldCreateAndFindCoupon() {
+        String body = String.format(Locale.US, """
+                {
+                    "code": "NAT001",
+                    "description": "Cupom nativo",
+                    "discountValue": %.2f,
+                    "expirationDate": "%s",
+                    "published": true
+                }
+                """, 12.5, LocalDate.now().plusDays(30));
+
+        ResponseEntity<String> created = client.post().uri("/cupons")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body)
+                .retrieve().toEntity(String.class);
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        assertEquals("NAT001", JsonPath.read(created.getBody(), "$.code"));
+
+        ResponseEntity<String> found = client.get().uri("/cupons/nat001").retrieve().toEntity(String.class);
+        assertEquals(HttpStatus.OK, found.getStatusCode());
+        assertEquals("NAT001", JsonPath.read(found.getBody(), "$.codigo"));
+        assertEquals(Boolean.FALSE, JsonPath.read(found.getBody(), "$.removido"));
+    }
+
+    @Test
+    @DisplayName("deve responder erro no formato padrão para cupom inexistente")
+    void shouldReturnErrorResponseForMissingCoupon() {
+        ResponseEntity<String> missing = client.get().uri("/cupons/XXX999").retrieve().toEntity(String.class);
+
+        assertEquals(HttpStatus.NOT_FOUND, missing.getStatusCode());
+        assertEquals(Integer.valueOf(404), JsonPath.read(missing.getBody(), "$.status"));
+    }
+
+    @Test
+    @DisplayName("não deve expor a documentação OpenAPI na imagem nativa")
+    void shouldNotExposeOpenApiDocs() {
+        ResponseEntity<String> docs = client.get().uri("/v3/api-docs").retrieve().toEntity(String.class);
+
+        assertEquals(HttpStatus.NOT_FOUND, docs.getStatusCode());
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ContentNegotiation")
+class ContentNegotiationTest {
+
+    private MediaType preferredFor(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (accept != null) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        return ContentNegotiation.preferredMediaType(new ServletWebRequest(request));
+    }
+
+    @Test
+    @DisplayName("deve usar JSON quando Accept não é informado")
+    void shouldDefaultToJsonWithoutAccept() {
+        assertEquals(MediaType.APPLICATION_JSON, preferredFor(null));
+    }
+
+    @Test
+    @DisplayName("deve usar JSON para */*")
+    void shouldUseJsonForWildcard() {
+        assertEquals(MediaType.APPLICATION_JSON, preferredFor("*/*"));
+    }
+
+    @Test
+    @DisplayName("deve usar CBOR quando solicitado explicitamente")
+    void shouldUseCborWhenRequested() {
+        assertEquals(MediaType.APPLICATION_CBOR, preferredFor("application/cbor"));
+    }
+
+    @Test
+    @DisplayName("deve respeitar o fator de qualidade do Accept")
+    void shouldHonourQualityValues() {
+        assertEquals(MediaType.APPLICATION_CBOR, preferredFor("application/json;q=0.5, application/cbor"));
+        assertEquals(MediaType.APPLICATION_JSON, preferredFor("application/cbor;q=0.2, */*;q=0.8"));
+    }
+
+    @Test
+    @DisplayName("não deve escolher tipo marcado com q=0")
+    void shouldNeverPickTypeWithZeroQuality() {
+        assertEquals(MediaType.APPLICATION_JSON, preferredFor("application/cbor;q=0"));
+        assertEquals(MediaType.APPLICATION_JSON, preferredFor("application/cbor;q=0, application/json;q=0.1"));
+        assertEquals(MediaType.APPLICATION_CBOR, preferredFor("application/json;q=0, application/cbor;q=0.1"));
+        assertEquals(MediaType.APPLICATION_CBOR, preferredFor("*/*;q=0, application/cbor"));
+    }
+
+    @Test
+    @DisplayName("deve usar JSON quando Accept é inválido")
+    void shouldFallBackToJsonOnInvalidAccept() {
+        assertEquals(MediaType.APPLICATION_JSON, preferredFor("not a media type"));
+    }
+}
@@ -1,21 +1,42 @@
 package br.com.stoom.coupon_domain.adapter.in.web;
 
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponQueryResponse;
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CreateCouponRequest;
+import br.com.stoom.coupon_domain.application.port.in.BuscarAlteracoesCuponsUseCase;
+import br.com.stoom.coupon_domain.application.port.in.BuscarAlteracoesCuponsUseCase.ChangesPage;
+import br.com.stoom.coupon_domain.application.port.in.BuscarCupomArquivadoUseCase;
 import br.com.stoom.coupon_domain.application.port.in.BuscarCupomPorCodigoUseCase;
+import br.com.stoom.coupon_domain.application.port.in.BuscarCuponsPorCodigosUseCase;
+import br.com.stoom.coupon_domain.application.port.in.BuscarCuponsPorCodigosUseCase.CouponLookup;
+import br.com.stoom.coupon_domain.application.port.in.BuscarCuponsPorDescricaoUseCase;
+import br.com.stoom.coupon_domain.application.port.in.BuscarCuponsPorPrefixoUseCase;
+import br.com.stoom.coupon_domain.application.port.in.BuscarCuponsPorPrefixoUseCase.SearchPage;
 import br.com.stoom.coupon_domain.application.port.in.BuscarTodosCuponsUseCase;
+import br.com.stoom.coupon_domain.application.port.in.BuscarVersaoCatalogoUseCase;
+import br.com.stoom.coupon_domain.application.port.in.BuscarVersaoCupomUseCase;
 import br.com.stoom.coupon_domain.application.port.in.CreateCouponUseCase;
 import br.com.stoom.coupon_domain.application.port.in.CreateCouponUseCase.CreateCouponCommand;
 import br.com.stoom.coupon_domain.application.port.in.DeleteCouponUseCase;
+import br.com.stoom.coupon_domain.application.port.in.GerarCodigosCuponsUseCase;
 import br.com.stoom.coupon_domain.domain.exception.CouponAlreadyDeletedException;
 import br.com.stoom.coupon_domain.domain.exception.CouponCodeAlreadyExistsException;
+import br.com.stoom.coupon_domain.domain.exception.CouponLookupTimeoutException;
 import br.com.stoom.coupon_domain.domain.exception.CouponNotFoundException;
+import br.com.stoom.coupon_domain.domain.exception.InvalidCodeQuantityException;
 import br.com.stoom.coupon_domain.domain.exception.InvalidCouponCodeException;
 import br.com.stoom.coupon_domain.domain.exception.InvalidDiscountValueException;
 import br.com.stoom.coupon_domain.domain.exception.InvalidExpirationDateException;
+import br.com.stoom.coupon_domain.domain.exception.InvalidSearchPatternException;
+import br.com.stoom.coupon_domain.domain.model.CatalogVersion;
 import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
 import br.com.stoom.coupon_domain.domain.model.CouponCode;
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatch;
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatches;
 import br.com.stoom.coupon_domain.domain.model.DiscountValue;
 import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +44,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -32,20 +55,29 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(CouponController.class)
+@Import(CouponQueryResponseCache.class)
 @DisplayName("CouponController")
 class CouponControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private CouponQueryResponseCache responseCache;
+
     @MockitoBean
     private CreateCouponUseCase createCouponUseCase;
 
@@ -55,15 +87,41 @@ class CouponControllerTest {
     @MockitoBean
     private BuscarCupomPorCodigoUseCase buscarCupomPorCodigoUseCase;
 
+    @MockitoBean
+    private BuscarCupomArquivadoUseCase buscarCupomArquivadoUseCase;
+
+    @MockitoBean
+    private BuscarCuponsPorCodigosUseCase buscarCuponsPorCodigosUseCase;
+
+    @MockitoBean
+    private BuscarCuponsPorPrefixoUseCase buscarCuponsPorPrefixoUseCase;
+
+    @MockitoBean
+    private BuscarCuponsPorDescricaoUseCase buscarCuponsPorDescricaoUseCase;
+
     @MockitoBean
     private BuscarTodosCuponsUseCase buscarTodosCuponsUseCase;
 
+    @MockitoBean
+    private BuscarAlteracoesCuponsUseCase buscarAlteracoesCuponsUseCase;
+
+    @MockitoBean
+    private BuscarVersaoCupomUseCase buscarVersaoCupomUseCase;
+
+    @MockitoBean
+    private BuscarVersaoCatalogoUseCase buscarVersaoCatalogoUseCase;
+
+    @MockitoBean
+    private GerarCodigosCuponsUseCase gerarCodigosCuponsUseCase;
+
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
+        when(buscarVersaoCatalogoUseCase.execute()).thenReturn(new CatalogVersion(0));
+        responseCache.evict("ABC123");
     }
 
     private Coupon createSampleCoupon() {
@@ -315,7 +373,8 @@ class CouponControllerTest {
         @DisplayName("deve retornar cupom e status 200")
         void shouldReturnCouponAndStatus200() throws Exception {
             Coupon coupon = createSampleCoupon();
-            when(buscarCupomPorCodigoUseCase.execute("ABC123")).thenReturn(coupon);
+            when(buscarVersaoCupomUseCase.execute("ABC123")).thenReturn(Optional.of(LocalDateTime.now()));
+            when(buscarCupomPorCodigoUseCase.find(eq("ABC123"), any())).thenReturn(Optional.of(coupon));
 
             mockMvc.perform(get("/cupons/ABC123"))
                     .andExpect(status().isOk())
@@ -324,7 +383,7 @@ class CouponControllerTest {
                     .andExpect(jsonPath("$.dataExpiracao").exists())
                     .andExpect(jsonPath("$.removido").value(false));
 
-            verify(buscarCupomPorCodigoUseCase).execute("ABC123");
+            verify(buscarCupomPorCodigoUseCase).find(eq("ABC123"), any());
         }
 
         @Test
@@ -338,6 +397,77 @@ class CouponControllerTest {
                     .andExpect(jsonPath("$.status").value(404))
                     .andExpect(jsonPath("$.mensagem").value("Cupom não encontrado com o código 'XYZ999'"));
         }
+
+        @Test
+        @DisplayName("deve retornar 404 sem lançar exceção nem carregar o cupom quando não há versão")
+        void shouldReturn404WithoutExceptionWhenVersionIsMissing() throws Exception {
+            when(buscarVersaoCupomUseCase.execute("XYZ999")).thenReturn(Optional.empty());
+
+            mockMvc.perform(get("/cupons/xyz999"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.status").value(404))
+                    .andExpect(jsonPath("$.mensagem").value("Cupom não encontrado com o código 'XYZ999'"))
+                    .andExpect(jsonPath("$.timestamp").exists());
+
+            verify(buscarCupomPorCodigoUseCase, never()).execute(any());
+            verify(buscarCupomPorCodigoUseCase, never()).find(any(), any());
+            verifyNoInteractions(buscarCupomArquivadoUseCase);
+        }
+
+        @Test
+        @DisplayName("deve consultar o arquivo quando incluirArquivados=true")
+        void shouldFallBackToArchiveWhenRequested() throws Exception {
+            Coupon archived = Coupon.reconstitute(
+                    UUID.randomUUID(),
+                    CouponCode.reconstitute("OLD123"),
+                    "Arquivado",
+                    DiscountValue.reconstitute(new BigDecimal("5.00")),
+                    ExpirationDate.reconstitute(LocalDate.now().minusDays(200)),
+                    true, true, LocalDateTime.now().minusDays(100), LocalDateTime.now().minusDays(300)
+            );
+            when(buscarVersaoCupomUseCase.execute("OLD123")).thenReturn(Optional.empty());
+            when(buscarCupomArquivadoUseCase.execute("OLD123")).thenReturn(Optional.of(archived));
+
+            mockMvc.perform(get("/cupons/old123").param("incluirArquivados", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.codigo").value("OLD123"))
+                    .andExpect(jsonPath("$.removido").value(true))
+                    .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        }
+
+        @Test
+        @DisplayName("deve retornar 404 quando o código não existe nem no arquivo")
+        void shouldReturn404WhenMissingFromArchive() throws Exception {
+            when(buscarVersaoCupomUseCase.execute("NOP123")).thenReturn(Optional.empty());
+            when(buscarCupomArquivadoUseCase.execute("NOP123")).thenReturn(Optional.empty());
+
+            mockMvc.perform(get("/cupons/NOP123").param("incluirArquivados", "true"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.mensagem").value("Cupom não encontrado com o código 'NOP123'"));
+        }
+
+        @Test
+        @DisplayName("deve retornar 404 quando o cupom some entre a versão e a leitura")
+        void shouldReturn404WhenCouponVanishesAfterVersionLookup() throws Exception {
+            when(buscarVersaoCupomUseCase.execute("XYZ999")).thenReturn(Optional.of(LocalDateTime.now()));
+            when(buscarCupomPorCodigoUseCase.find(eq("XYZ999"), any())).thenReturn(Optional.empty());
+
+            mockMvc.perform(get("/cupons/XYZ999"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.mensagem").value("Cupom não encontrado com o código 'XYZ999'"));
+        }
+
+        @Test
+        @DisplayName("deve retornar 503 quando a consulta compartilhada do código não termina a tempo")
+        void shouldReturn503WhenCoalescedLookupTimesOut() throws Exception {
+            when(buscarVersaoCupomUseCase.execute("HOT123"))
+                    .thenThrow(CouponLookupTimeoutException.forCode("HOT123"));
+
+            mockMvc.perform(get("/cupons/HOT123"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.status").value(503))
+                    .andExpect(jsonPath("$.mensagem").value("Tempo esgotado aguardando a consulta do cupom 'HOT123'"));
+        }
     }
 
     @Nested
@@ -356,7 +486,7 @@ class CouponControllerTest {
                     ExpirationDate.reconstitute(LocalDate.now().plusDays(60)),
                     true, false, null, LocalDateTime.now()
             );
-            when(buscarTodosCuponsUseCase.execute()).thenReturn(List.of(coupon1, coupon2));
+            when(buscarTodosCuponsUseCase.execute(new CatalogVersion(0))).thenReturn(List.of(coupon1, coupon2));
 
             mockMvc.perform(get("/cupons"))
                     .andExpect(status().isOk())
@@ -364,19 +494,379 @@ class CouponControllerTest {
                     .andExpect(jsonPath("$[0].codigo").value("ABC123"))
                     .andExpect(jsonPath("$[1].codigo").value("DEF456"));
 
-            verify(buscarTodosCuponsUseCase).execute();
+            verify(buscarTodosCuponsUseCase).execute(new CatalogVersion(0));
         }
 
         @Test
         @DisplayName("deve retornar lista vazia e status 200")
         void shouldReturnEmptyListAndStatus200() throws Exception {
-            when(buscarTodosCuponsUseCase.execute()).thenReturn(Collections.emptyList());
+            when(buscarTodosCuponsUseCase.execute(new CatalogVersion(0))).thenReturn(Collections.emptyList());
 
             mockMvc.perform(get("/cupons"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.length()").value(0));
 
-            verify(buscarTodosCuponsUseCase).execute();
+            verify(buscarTodosCuponsUseCase).execute(new CatalogVersion(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /cupons/changes")
+    class FindChanges {
+
+        @Test
+        @DisplayName("deve retornar alterações e a próxima marca")
+        void shouldReturnChangesAndNextWatermark() throws Exception {
+            Coupon coupon = createSampleCoupon();
+            LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 10, 12, 30, 15);
+            LocalDateTime since = LocalDateTime.of(2026, 1, 10, 0, 0);
+            when(buscarAlteracoesCuponsUseCase.execute(since, null, 1))
+                    .thenReturn(new ChangesPage(List.of(new CouponChange(coupon, updatedAt)), true));
+
+            mockMvc.perform(get("/cupons/changes")
+                            .param("since", "2026-01-10T00:00:00")
+                            .param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.alteracoes.length()").value(1))
+                    .andExpect(jsonPath("$.alteracoes[0].codigo").value("ABC123"))
+                    .andExpect(jsonPath("$.alteracoes[0].removido").value(false))
+                    .andExpect(jsonPath("$.proximoSince").value("2026-01-10T12:30:15"))
+                    .andExpect(jsonPath("$.proximoAfterId").value(coupon.getId().toString()))
+                    .andExpect(jsonPath("$.temMais").value(true));
+        }
+
+        @Test
+        @DisplayName("deve manter a marca recebida quando não há alterações")
+        void shouldKeepWatermarkWhenNoChanges() throws Exception {
+            UUID afterId = UUID.randomUUID();
+            when(buscarAlteracoesCuponsUseCase.execute(any(LocalDateTime.class), eq(afterId), isNull()))
+                    .thenReturn(new ChangesPage(Collections.emptyList(), false));
+
+            mockMvc.perform(get("/cupons/changes")
+                            .param("since", "2026-01-10T08:00:00")
+                            .param("afterId", afterId.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.alteracoes.length()").value(0))
+                    .andExpect(jsonPath("$.proximoSince").value("2026-01-10T08:00:00"))
+                    .andExpect(jsonPath("$.proximoAfterId").value(afterId.toString()))
+                    .andExpect(jsonPath("$.temMais").value(false));
+        }
+    }
+
+    @Nested
+    @DisplayName("ETag / If-None-Match")
+    class ConditionalRequests {
+
+        private final LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 10, 12, 0);
+
+        @Test
+        @DisplayName("deve retornar ETag ao consultar cupom por código")
+        void shouldReturnETagOnFindByCode() throws Exception {
+            when(buscarVersaoCupomUseCase.execute("ABC123")).thenReturn(Optional.of(updatedAt));
+            when(buscarCupomPorCodigoUseCase.find("ABC123", updatedAt)).thenReturn(Optional.of(createSampleCoupon()));
+
+            mockMvc.perform(get("/cupons/ABC123"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, CouponETags.of(updatedAt)))
+                    .andExpect(jsonPath("$.codigo").value("ABC123"));
+        }
+
+        @Test
+        @DisplayName("deve retornar 304 sem carregar o cupom quando a ETag confere")
+        void shouldReturn304WithoutLoadingCouponWhenETagMatches() throws Exception {
+            when(buscarVersaoCupomUseCase.execute("ABC123")).thenReturn(Optional.of(updatedAt));
+
+            mockMvc.perform(get("/cupons/ABC123")
+                            .header(HttpHeaders.IF_NONE_MATCH, CouponETags.of(updatedAt)))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, CouponETags.of(updatedAt)))
+                    .andExpect(content().string(""));
+
+            verify(buscarCupomPorCodigoUseCase, never()).find(any(), any());
+        }
+
+        @Test
+        @DisplayName("deve retornar 200 quando a ETag informada está desatualizada")
+        void shouldReturn200WhenETagIsStale() throws Exception {
+            when(buscarVersaoCupomUseCase.execute("ABC123")).thenReturn(Optional.of(updatedAt));
+            when(buscarCupomPorCodigoUseCase.find("ABC123", updatedAt)).thenReturn(Optional.of(createSampleCoupon()));
+
+            mockMvc.perform(get("/cupons/ABC123")
+                            .header(HttpHeaders.IF_NONE_MATCH, CouponETags.of(updatedAt.minusSeconds(1))))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, CouponETags.of(updatedAt)));
+        }
+
+        @Test
+        @DisplayName("deve retornar 304 na listagem sem consultar os cupons quando a ETag confere")
+        void shouldReturn304OnListingWhenETagMatches() throws Exception {
+            CatalogVersion version = new CatalogVersion(2);
+            when(buscarVersaoCatalogoUseCase.execute()).thenReturn(version);
+
+            mockMvc.perform(get("/cupons")
+                            .header(HttpHeaders.IF_NONE_MATCH, CouponETags.of(version)))
+                    .andExpect(status().isNotModified());
+
+            verify(buscarTodosCuponsUseCase, never()).execute(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Cache de respostas pré-serializadas")
+    class ResponseCache {
+
+        private final LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 10, 12, 0);
+
+        @Test
+        @DisplayName("deve servir bytes em cache sem executar o caso de uso na segunda consulta")
+        void shouldServeCachedBytesWithoutUseCase() throws Exception {
+            when(buscarVersaoCupomUseCase.execute("ABC123")).thenReturn(Optional.of(updatedAt));
+            when(buscarCupomPorCodigoUseCase.find("ABC123", updatedAt)).thenReturn(Optional.of(createSampleCoupon()));
+
+            mockMvc.perform(get("/cupons/ABC123"))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get("/cupons/ABC123"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.codigo").value("ABC123"))
+                    .andExpect(jsonPath("$.valorDesconto").value(10.00));
+
+            verify(buscarCupomPorCodigoUseCase, times(1)).find("ABC123", updatedAt);
+        }
+
+        @Test
+        @DisplayName("deve invalidar o cache ao excluir o cupom")
+        void shouldEvictCacheOnDelete() throws Exception {
+            when(buscarVersaoCupomUseCase.execute("ABC123")).thenReturn(Optional.of(updatedAt));
+            when(buscarCupomPorCodigoUseCase.find("ABC123", updatedAt)).thenReturn(Optional.of(createSampleCoupon()));
+
+            mockMvc.perform(get("/cupons/ABC123"))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(delete("/cupons/abc123"))
+                    .andExpect(status().isNoContent());
+
+            assertTrue(responseCache.get("ABC123", CouponETags.of(updatedAt)).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Negociação de conteúdo binário (CBOR)")
+    class BinaryContentNegotiation {
+
+        private final LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 10, 12, 0);
+
+        private ObjectMapper cborMapper() {
+            return CBORMapper.builder().addModule(new JavaTimeModule()).build();
+        }
+
+        @Test
+        @DisplayName("deve retornar cupom em CBOR quando solicitado")
+        void shouldReturnCouponAsCbor() throws Exception {
+            when(buscarVersaoCupomUseCase.execute("ABC123")).thenReturn(Optional.of(updatedAt));
+            when(buscarCupomPorCodigoUseCase.find("ABC123", updatedAt)).thenReturn(Optional.of(createSampleCoupon()));
+
+            byte[] body = mockMvc.perform(get("/cupons/ABC123").accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andExpect(header().string(HttpHeaders.ETAG,
+                            CouponETags.forRepresentation(CouponETags.of(updatedAt), MediaType.APPLICATION_CBOR)))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            CouponQueryResponse decoded = cborMapper().readValue(body, CouponQueryResponse.class);
+            assertEquals("ABC123", decoded.codigo());
+            assertEquals(0, new BigDecimal("10.00").compareTo(decoded.valorDesconto()));
+        }
+
+        @Test
+        @DisplayName("deve gerar payload CBOR menor que o JSON equivalente")
+        void shouldProduceSmallerCborPayloadThanJson() throws Exception {
+            when(buscarVersaoCupomUseCase.execute("ABC123")).thenReturn(Optional.of(updatedAt));
+            when(buscarCupomPorCodigoUseCase.find("ABC123", updatedAt)).thenReturn(Optional.of(createSampleCoupon()));
+
+            int jsonSize = mockMvc.perform(get("/cupons/ABC123").accept(MediaType.APPLICATION_JSON))
+                    .andReturn().getResponse().getContentAsByteArray().length;
+            int cborSize = mockMvc.perform(get("/cupons/ABC123").accept(MediaType.APPLICATION_CBOR))
+                    .andReturn().getResponse().getContentAsByteArray().length;
+
+            assertTrue(cborSize < jsonSize, "CBOR=" + cborSize + " JSON=" + jsonSize);
+        }
+
+        @Test
+        @DisplayName("deve listar cupons em CBOR quando solicitado")
+        void shouldListCouponsAsCbor() throws Exception {
+            when(buscarTodosCuponsUseCase.execute(new CatalogVersion(0))).thenReturn(List.of(createSampleCoupon()));
+
+            byte[] body = mockMvc.perform(get("/cupons").accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            CouponQueryResponse[] decoded = cborMapper().readValue(body, CouponQueryResponse[].class);
+            assertEquals(1, decoded.length);
+            assertEquals("ABC123", decoded[0].codigo());
+        }
+
+        @Test
+        @DisplayName("deve aceitar criação de cupom com corpo CBOR")
+        void shouldAcceptCborRequestBody() throws Exception {
+            when(createCouponUseCase.execute(any(CreateCouponCommand.class))).thenReturn(createSampleCoupon());
+            byte[] requestBody = cborMapper().writeValueAsBytes(new CreateCouponRequest(
+                    "ABC123", "Cupom de desconto", new BigDecimal("10.00"), LocalDate.now().plusDays(30), false));
+
+            mockMvc.perform(post("/cupons")
+                            .contentType(MediaType.APPLICATION_CBOR)
+                            .accept(MediaType.APPLICATION_JSON)
+                            .content(requestBody))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.code").value("ABC123"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /cupons/codigos")
+    class GenerateCodes {
+
+        @Test
+        @DisplayName("deve retornar os códigos gerados")
+        void shouldReturnGeneratedCodes() throws Exception {
+            when(gerarCodigosCuponsUseCase.execute(2)).thenReturn(List.of("AAA111", "BBB222"));
+
+            mockMvc.perform(post("/cupons/codigos").param("quantidade", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.codigos.length()").value(2))
+                    .andExpect(jsonPath("$.codigos[0]").value("AAA111"));
+        }
+
+        @Test
+        @DisplayName("deve retornar 400 para quantidade inválida")
+        void shouldReturn400ForInvalidQuantity() throws Exception {
+            when(gerarCodigosCuponsUseCase.execute(0))
+                    .thenThrow(new InvalidCodeQuantityException("A quantidade de códigos deve estar entre 1 e 10000, mas foi 0"));
+
+            mockMvc.perform(post("/cupons/codigos").param("quantidade", "0"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /cupons/consulta")
+    class Lookup {
+
+        @Test
+        @DisplayName("deve retornar encontrado e não encontrado por código")
+        void shouldReturnFoundAndNotFoundPerCode() throws Exception {
+            Coupon coupon = createSampleCoupon();
+            when(buscarCuponsPorCodigosUseCase.execute(List.of("abc123", "NOP999")))
+                    .thenReturn(List.of(new CouponLookup("ABC123", coupon), new CouponLookup("NOP999", null)));
+
+            mockMvc.perform(post("/cupons/consulta")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {"codigos": ["abc123", "NOP999"]}
+                                    """))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.resultados.length()").value(2))
+                    .andExpect(jsonPath("$.resultados[0].codigo").value("ABC123"))
+                    .andExpect(jsonPath("$.resultados[0].encontrado").value(true))
+                    .andExpect(jsonPath("$.resultados[0].cupom.valorDesconto").value(10.00))
+                    .andExpect(jsonPath("$.resultados[1].codigo").value("NOP999"))
+                    .andExpect(jsonPath("$.resultados[1].encontrado").value(false))
+                    .andExpect(jsonPath("$.resultados[1].cupom").isEmpty());
+        }
+
+        @Test
+        @DisplayName("deve retornar 400 para lista vazia")
+        void shouldReturn400ForEmptyList() throws Exception {
+            mockMvc.perform(post("/cupons/consulta")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {"codigos": []}
+                                    """))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400));
+
+            verifyNoInteractions(buscarCuponsPorCodigosUseCase);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /cupons/busca")
+    class Search {
+
+        @Test
+        @DisplayName("deve retornar a página de códigos e o cursor da próxima")
+        void shouldReturnPageWithCursor() throws Exception {
+            when(buscarCuponsPorPrefixoUseCase.execute("BF24", null, 2))
+                    .thenReturn(new SearchPage(List.of("BF2401", "BF2402"), true));
+
+            mockMvc.perform(get("/cupons/busca").param("prefixo", "BF24").param("limite", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.codigos.length()").value(2))
+                    .andExpect(jsonPath("$.codigos[0]").value("BF2401"))
+                    .andExpect(jsonPath("$.proximoApos").value("BF2402"))
+                    .andExpect(jsonPath("$.temMais").value(true));
+        }
+
+        @Test
+        @DisplayName("deve repassar o cursor informado")
+        void shouldPassCursor() throws Exception {
+            when(buscarCuponsPorPrefixoUseCase.execute("BF24", "BF2402", null))
+                    .thenReturn(new SearchPage(List.of(), false));
+
+            mockMvc.perform(get("/cupons/busca").param("prefixo", "BF24").param("apos", "BF2402"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.codigos.length()").value(0))
+                    .andExpect(jsonPath("$.proximoApos").isEmpty())
+                    .andExpect(jsonPath("$.temMais").value(false));
+        }
+
+        @Test
+        @DisplayName("deve retornar 400 para padrão inválido")
+        void shouldReturn400ForInvalidPattern() throws Exception {
+            when(buscarCuponsPorPrefixoUseCase.execute("BF-", null, null))
+                    .thenThrow(new InvalidSearchPatternException("O padrão de busca é inválido"));
+
+            mockMvc.perform(get("/cupons/busca").param("prefixo", "BF-"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /cupons/busca/descricao")
+    class SearchDescriptions {
+
+        @Test
+        @DisplayName("deve retornar os resultados ordenados com relevância e total")
+        void shouldReturnRankedResults() throws Exception {
+            when(buscarCuponsPorDescricaoUseCase.execute("black friday", 1, 10)).thenReturn(new DescriptionMatches(
+                    List.of(new DescriptionMatch("BF0001", "Black Friday sapatos", 1.5)), 11));
+
+            mockMvc.perform(get("/cupons/busca/descricao")
+                            .param("termos", "black friday")
+                            .param("pagina", "1")
+                            .param("tamanho", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.resultados.length()").value(1))
+                    .andExpect(jsonPath("$.resultados[0].codigo").value("BF0001"))
+                    .andExpect(jsonPath("$.resultados[0].descricao").value("Black Friday sapatos"))
+                    .andExpect(jsonPath("$.resultados[0].relevancia").value(1.5))
+                    .andExpect(jsonPath("$.pagina").value(1))
+                    .andExpect(jsonPath("$.total").value(11));
+        }
+
+        @Test
+        @DisplayName("deve retornar 400 para busca sem termos válidos")
+        void shouldReturn400ForInvalidQuery() throws Exception {
+            when(buscarCuponsPorDescricaoUseCase.execute("de", 0, null))
+                    .thenThrow(new InvalidSearchPatternException("A busca deve conter termos"));
+
+            mockMvc.perform(get("/cupons/busca/descricao").param("termos", "de"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400));
         }
     }
 }
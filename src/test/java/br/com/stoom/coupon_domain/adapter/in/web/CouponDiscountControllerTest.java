@@ -0,0 +1,75 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase;
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase.AppliedDiscount;
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase.Cart;
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase.CartLine;
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase.CartResult;
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase.RejectedCoupon;
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase.RejectionReason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CouponDiscountController.class)
+@DisplayName("CouponDiscountController")
+class CouponDiscountControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AplicarCuponsUseCase aplicarCuponsUseCase;
+
+    @Test
+    @DisplayName("deve converter preços para centavos e devolver os descontos por carrinho")
+    void shouldConvertAmountsAndReturnDiscounts() throws Exception {
+        Cart expected = new Cart("c1", List.of(new CartLine("A", 2, 310)), List.of("OFF005", "NOP001"));
+        when(aplicarCuponsUseCase.execute(List.of(expected))).thenReturn(List.of(new CartResult(
+                "c1", 620, 500, 120,
+                List.of(new AppliedDiscount("OFF005", 500)),
+                List.of(new RejectedCoupon("NOP001", RejectionReason.NOT_FOUND))
+        )));
+
+        mockMvc.perform(post("/cupons/aplicar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"carrinhos": [{"id": "c1",
+                                    "itens": [{"sku": "A", "quantidade": 2, "precoUnitario": 3.10}],
+                                    "codigos": ["OFF005", "NOP001"]}]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.carrinhos[0].id").value("c1"))
+                .andExpect(jsonPath("$.carrinhos[0].subtotal").value(6.20))
+                .andExpect(jsonPath("$.carrinhos[0].desconto").value(5.00))
+                .andExpect(jsonPath("$.carrinhos[0].total").value(1.20))
+                .andExpect(jsonPath("$.carrinhos[0].descontosAplicados[0].codigo").value("OFF005"))
+                .andExpect(jsonPath("$.carrinhos[0].cuponsRejeitados[0].motivo").value("NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("deve retornar 400 para preço com mais de duas casas decimais")
+    void shouldReturn400ForInvalidPrice() throws Exception {
+        mockMvc.perform(post("/cupons/aplicar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"carrinhos": [{"id": "c1",
+                                    "itens": [{"sku": "A", "quantidade": 1, "precoUnitario": 3.105}],
+                                    "codigos": []}]}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+
+        verifyNoInteractions(aplicarCuponsUseCase);
+    }
+}
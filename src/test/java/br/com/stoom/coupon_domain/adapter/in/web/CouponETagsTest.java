@@ -0,0 +1,49 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import br.com.stoom.coupon_domain.domain.model.CatalogVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CouponETags")
+class CouponETagsTest {
+
+    @Test
+    @DisplayName("deve gerar ETag forte a partir da data de atualização")
+    void shouldBuildStrongETagFromUpdatedAt() {
+        LocalDateTime updatedAt = LocalDateTime.of(1970, 1, 1, 0, 0, 1);
+
+        assertEquals("\"f4240\"", CouponETags.of(updatedAt));
+    }
+
+    @Test
+    @DisplayName("deve mudar a ETag quando a data de atualização muda em microssegundos")
+    void shouldChangeETagWhenUpdatedAtChanges() {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 10, 12, 0);
+
+        assertNotEquals(CouponETags.of(updatedAt), CouponETags.of(updatedAt.plusNanos(1_000)));
+    }
+
+    @Test
+    @DisplayName("deve gerar ETag do catálogo a partir da sequência da versão")
+    void shouldBuildCatalogETagFromSequence() {
+        assertEquals("\"1f\"", CouponETags.of(new CatalogVersion(31)));
+    }
+
+    @Test
+    @DisplayName("deve mudar a ETag do catálogo a cada nova versão")
+    void shouldChangeCatalogETagOnEveryVersion() {
+        assertNotEquals(CouponETags.of(new CatalogVersion(7)), CouponETags.of(new CatalogVersion(8)));
+    }
+
+    @Test
+    @DisplayName("deve diferenciar a ETag da representação CBOR")
+    void shouldDistinguishCborRepresentation() {
+        assertEquals("\"f4240-cbor\"", CouponETags.forRepresentation("\"f4240\"", MediaType.APPLICATION_CBOR));
+        assertEquals("\"f4240\"", CouponETags.forRepresentation("\"f4240\"", MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase;
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase.ImportSlot;
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase.ImportState;
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase.ImportStatus;
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase.RowError;
+import br.com.stoom.coupon_domain.domain.exception.CouponImportRejectedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CouponImportController.class)
+@DisplayName("CouponImportController")
+class CouponImportControllerTest {
+
+    private static final String CSV = "code,description,discountValue,expirationDate\nIMP001,Um,10.00,2099-12-31\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ImportarCuponsUseCase importarCuponsUseCase;
+
+    private ImportStatus pendingStatus(UUID id) {
+        return new ImportStatus(id, ImportState.PENDING, 0, 0, 0, List.of(), LocalDateTime.now(), null);
+    }
+
+    @Nested
+    @DisplayName("POST /cupons/importacoes")
+    class StartImport {
+
+        @Test
+        @DisplayName("deve aceitar arquivo multipart e retornar 202 com Location")
+        void shouldAcceptMultipartAndReturn202() throws Exception {
+            UUID id = UUID.randomUUID();
+            ImportSlot slot = mock(ImportSlot.class);
+            when(importarCuponsUseCase.reserve()).thenReturn(slot);
+            when(importarCuponsUseCase.start(eq(slot), any(Path.class))).thenAnswer(invocation -> {
+                Path source = invocation.getArgument(1);
+                assertEquals(CSV, Files.readString(source, StandardCharsets.UTF_8));
+                return pendingStatus(id);
+            });
+
+            mockMvc.perform(multipart("/cupons/importacoes")
+                            .file(new MockMultipartFile("arquivo", "cupons.csv", "text/csv",
+                                    CSV.getBytes(StandardCharsets.UTF_8))))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string(HttpHeaders.LOCATION, "/cupons/importacoes/" + id))
+                    .andExpect(jsonPath("$.id").value(id.toString()))
+                    .andExpect(jsonPath("$.situacao").value("PENDING"));
+            verify(slot).close();
+        }
+
+        @Test
+        @DisplayName("deve aceitar CSV no corpo da requisição")
+        void shouldAcceptCsvBody() throws Exception {
+            UUID id = UUID.randomUUID();
+            when(importarCuponsUseCase.reserve()).thenReturn(mock(ImportSlot.class));
+            when(importarCuponsUseCase.start(any(ImportSlot.class), any(Path.class))).thenReturn(pendingStatus(id));
+
+            mockMvc.perform(post("/cupons/importacoes")
+                            .contentType("text/csv")
+                            .content(CSV))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.id").value(id.toString()));
+
+            verify(importarCuponsUseCase).start(any(ImportSlot.class), any(Path.class));
+        }
+
+        @Test
+        @DisplayName("deve retornar 429 sem ler o envio quando a fila de importação está cheia")
+        void shouldReturn429WhenQueueIsFull() throws Exception {
+            when(importarCuponsUseCase.reserve())
+                    .thenThrow(new CouponImportRejectedException("A fila de importação está cheia, tente novamente mais tarde"));
+
+            mockMvc.perform(post("/cupons/importacoes")
+                            .contentType("text/csv")
+                            .content(CSV))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(jsonPath("$.status").value(429));
+            mockMvc.perform(multipart("/cupons/importacoes")
+                            .file(new MockMultipartFile("arquivo", "cupons.csv", "text/csv",
+                                    CSV.getBytes(StandardCharsets.UTF_8))))
+                    .andExpect(status().isTooManyRequests());
+
+            verify(importarCuponsUseCase, never()).start(any(), any());
+        }
+
+        @Test
+        @DisplayName("deve retornar 400 e liberar a vaga quando falta a parte do arquivo")
+        void shouldReturn400WhenFilePartIsMissing() throws Exception {
+            ImportSlot slot = mock(ImportSlot.class);
+            when(importarCuponsUseCase.reserve()).thenReturn(slot);
+
+            mockMvc.perform(multipart("/cupons/importacoes")
+                            .file(new MockMultipartFile("outro", "cupons.csv", "text/csv",
+                                    CSV.getBytes(StandardCharsets.UTF_8))))
+                    .andExpect(status().isBadRequest());
+
+            verify(slot).close();
+            verify(importarCuponsUseCase, never()).start(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /cupons/importacoes/{id}")
+    class ImportStatusQuery {
+
+        @Test
+        @DisplayName("deve retornar progresso e erros por linha")
+        void shouldReturnProgressAndRowErrors() throws Exception {
+            UUID id = UUID.randomUUID();
+            ImportStatus status = new ImportStatus(id, ImportState.COMPLETED, 3, 2, 1,
+                    List.of(new RowError(3, "Valor de desconto inválido: 'abc'")),
+                    LocalDateTime.now().minusSeconds(5), LocalDateTime.now());
+            when(importarCuponsUseCase.status(id)).thenReturn(Optional.of(status));
+
+            mockMvc.perform(get("/cupons/importacoes/" + id))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.situacao").value("COMPLETED"))
+                    .andExpect(jsonPath("$.linhasProcessadas").value(3))
+                    .andExpect(jsonPath("$.linhasImportadas").value(2))
+                    .andExpect(jsonPath("$.linhasComErro").value(1))
+                    .andExpect(jsonPath("$.erros[0].linha").value(3))
+                    .andExpect(jsonPath("$.erros[0].mensagem").value("Valor de desconto inválido: 'abc'"))
+                    .andExpect(jsonPath("$.concluidoEm").exists());
+        }
+
+        @Test
+        @DisplayName("deve retornar 404 para importação desconhecida")
+        void shouldReturn404ForUnknownImport() throws Exception {
+            UUID id = UUID.randomUUID();
+            when(importarCuponsUseCase.status(id)).thenReturn(Optional.empty());
+
+            mockMvc.perform(get("/cupons/importacoes/" + id))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.status").value(404));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponQueryResponse;
+import br.com.stoom.coupon_domain.domain.model.CouponExpiredEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CouponQueryResponseCache")
+class CouponQueryResponseCacheTest {
+
+    private final CouponQueryResponse response = new CouponQueryResponse(
+            "ABC123", new BigDecimal("10.00"), LocalDate.of(2026, 12, 31), false);
+
+    private ObjectMapper objectMapper;
+    private MutableClock clock;
+    private CouponQueryResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        clock = new MutableClock(Instant.parse("2026-01-10T10:00:00Z"));
+        cache = new CouponQueryResponseCache(objectMapper, clock, 2);
+    }
+
+    @Nested
+    @DisplayName("get / put")
+    class GetAndPut {
+
+        @Test
+        @DisplayName("deve retornar os bytes JSON pré-serializados quando a ETag confere")
+        void shouldReturnEncodedBytesWhenETagMatches() throws Exception {
+            byte[] body = cache.put("ABC123", "\"1\"", response);
+
+            Optional<byte[]> cached = cache.get("ABC123", "\"1\"");
+
+            assertTrue(cached.isPresent());
+            assertSame(body, cached.get());
+            assertArrayEquals(objectMapper.writeValueAsBytes(response), body);
+            assertTrue(new String(body, StandardCharsets.UTF_8).contains("\"dataExpiracao\":\"2026-12-31\""));
+        }
+
+        @Test
+        @DisplayName("não deve retornar entrada quando a ETag mudou")
+        void shouldMissWhenETagChanged() {
+            cache.put("ABC123", "\"1\"", response);
+
+            assertTrue(cache.get("ABC123", "\"2\"").isEmpty());
+        }
+
+        @Test
+        @DisplayName("não deve retornar entrada construída em outro dia")
+        void shouldMissAfterMidnightRollover() {
+            cache.put("ABC123", "\"1\"", response);
+
+            clock.instant = Instant.parse("2026-01-11T00:00:01Z");
+
+            assertTrue(cache.get("ABC123", "\"1\"").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidação e limite")
+    class EvictionAndBounds {
+
+        @Test
+        @DisplayName("deve remover entrada ao invalidar o código")
+        void shouldRemoveEntryOnEvict() {
+            cache.put("ABC123", "\"1\"", response);
+
+            cache.evict("ABC123");
+
+            assertTrue(cache.get("ABC123", "\"1\"").isEmpty());
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        @DisplayName("não deve exceder o número máximo de entradas")
+        void shouldNotExceedMaxEntries() {
+            cache.put("AAA111", "\"1\"", response);
+            cache.put("BBB222", "\"1\"", response);
+            cache.put("CCC333", "\"1\"", response);
+
+            assertEquals(2, cache.size());
+            assertTrue(cache.get("CCC333", "\"1\"").isPresent());
+        }
+
+        @Test
+        @DisplayName("não deve armazenar quando o cache está desabilitado")
+        void shouldNotStoreWhenDisabled() {
+            CouponQueryResponseCache disabled = new CouponQueryResponseCache(objectMapper, clock, 0);
+
+            byte[] body = disabled.put("ABC123", "\"1\"", response);
+
+            assertTrue(body.length > 0);
+            assertEquals(0, disabled.size());
+        }
+
+        @Test
+        @DisplayName("deve remover entrada quando o cupom expira")
+        void shouldEvictOnCouponExpired() {
+            cache.put("ABC123", "\"1\"", response);
+
+            cache.onCouponExpired(new CouponExpiredEvent("ABC123", LocalDate.of(2026, 1, 9)));
+
+            assertEquals(0, cache.size());
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
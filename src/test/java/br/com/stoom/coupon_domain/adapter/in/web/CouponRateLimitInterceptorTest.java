@@ -0,0 +1,219 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CouponRateLimitInterceptor")
+class CouponRateLimitInterceptorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private MutableClock clock;
+    private CouponRateLimitInterceptor interceptor;
+    private HandlerMethod limited;
+    private HandlerMethod unlimited;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        clock = new MutableClock(Instant.parse("2026-01-10T10:00:00Z"));
+        interceptor = new CouponRateLimitInterceptor(objectMapper, clock, true, "X-Client-Id", 3, 1, 2);
+        limited = new HandlerMethod(new Handlers(), Handlers.class.getMethod("lookup"));
+        unlimited = new HandlerMethod(new Handlers(), Handlers.class.getMethod("listing"));
+    }
+
+    private boolean send(String client, HandlerMethod handler) throws Exception {
+        return interceptor.preHandle(request(client), new MockHttpServletResponse(), handler);
+    }
+
+    private MockHttpServletRequest request(String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cupons/ABC123");
+        request.setRemoteAddr("10.0.0.1");
+        if (client != null) {
+            request.addHeader("X-Client-Id", client);
+        }
+        return request;
+    }
+
+    @Nested
+    @DisplayName("limite por cliente")
+    class PerClient {
+
+        @Test
+        @DisplayName("deve responder 429 com Retry-After após esgotar a capacidade do cliente")
+        void shouldRejectWhenBucketIsEmpty() throws Exception {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(send("bot", limited));
+            }
+
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            assertFalse(interceptor.preHandle(request("bot"), response, limited));
+
+            assertEquals(429, response.getStatus());
+            assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+            JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+            assertEquals(429, body.get("status").asInt());
+            assertTrue(body.get("mensagem").asText().startsWith("Limite de requisições excedido"));
+        }
+
+        @Test
+        @DisplayName("não deve afetar outros clientes")
+        void shouldKeepBucketsPerClient() throws Exception {
+            for (int i = 0; i < 3; i++) {
+                send("bot", limited);
+            }
+
+            assertFalse(send("bot", limited));
+            assertTrue(send("loja", limited));
+        }
+
+        @Test
+        @DisplayName("deve usar o endereço remoto quando o cabeçalho do cliente não vem")
+        void shouldFallBackToRemoteAddress() throws Exception {
+            for (int i = 0; i < 3; i++) {
+                send(null, limited);
+            }
+
+            assertFalse(send(null, limited));
+            assertTrue(send("10.0.0.2", limited));
+        }
+
+        @Test
+        @DisplayName("deve repor fichas com o passar do tempo")
+        void shouldRefillOverTime() throws Exception {
+            for (int i = 0; i < 3; i++) {
+                send("bot", limited);
+            }
+            assertFalse(send("bot", limited));
+
+            clock.instant = clock.instant.plusSeconds(1);
+
+            assertTrue(send("bot", limited));
+            assertFalse(send("bot", limited));
+        }
+    }
+
+    @Nested
+    @DisplayName("escopo")
+    class Scope {
+
+        @Test
+        @DisplayName("não deve limitar handlers sem @RateLimited")
+        void shouldIgnoreUnannotatedHandlers() throws Exception {
+            for (int i = 0; i < 10; i++) {
+                assertTrue(send("bot", unlimited));
+            }
+            assertEquals(0, interceptor.size());
+        }
+
+        @Test
+        @DisplayName("deve liberar as requisições do aquecimento com o token do processo")
+        void shouldBypassWarmUpRequests() throws Exception {
+            for (int i = 0; i < 10; i++) {
+                MockHttpServletRequest request = request("bot");
+                request.addHeader(CouponRateLimitInterceptor.BYPASS_HEADER, interceptor.bypassToken());
+                assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), limited));
+            }
+        }
+
+        @Test
+        @DisplayName("não deve limitar quando desabilitado")
+        void shouldAllowEverythingWhenDisabled() throws Exception {
+            interceptor = new CouponRateLimitInterceptor(objectMapper, clock, false, "", 1, 1, 2);
+
+            assertTrue(send("bot", limited));
+            assertTrue(send("bot", limited));
+        }
+    }
+
+    @Nested
+    @DisplayName("memória")
+    class Memory {
+
+        @Test
+        @DisplayName("deve descartar buckets ociosos")
+        void shouldEvictIdleBuckets() throws Exception {
+            send("bot", limited);
+            send("loja", limited);
+            clock.instant = clock.instant.plusMillis(500);
+            send("loja", limited);
+
+            clock.instant = clock.instant.plusMillis(600);
+            interceptor.evictIdleBuckets();
+
+            assertEquals(1, interceptor.size());
+        }
+
+        @Test
+        @DisplayName("deve manter o número de clientes dentro do limite sem descartar clientes limitados")
+        void shouldBoundNumberOfClients() throws Exception {
+            for (int i = 0; i < 3; i++) {
+                send("a", limited);
+            }
+            send("b", limited);
+
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            assertFalse(interceptor.preHandle(request("c"), response, limited));
+            assertEquals(429, response.getStatus());
+            assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+            assertFalse(send("d", limited));
+            assertEquals(2, interceptor.size());
+
+            clock.instant = clock.instant.plusMillis(1100);
+
+            assertTrue(send("c", limited));
+            assertEquals(2, interceptor.size());
+            assertTrue(send("a", limited));
+            assertFalse(send("a", limited));
+        }
+    }
+
+    static class Handlers {
+
+        @RateLimited
+        public void lookup() {
+        }
+
+        public void listing() {
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import br.com.stoom.coupon_domain.application.port.in.BuscarEstatisticasCuponsUseCase;
+import br.com.stoom.coupon_domain.domain.model.CouponStatistics;
+import br.com.stoom.coupon_domain.domain.model.CouponStatistics.DiscountBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CouponStatisticsController.class)
+@DisplayName("CouponStatisticsController")
+class CouponStatisticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BuscarEstatisticasCuponsUseCase buscarEstatisticasCuponsUseCase;
+
+    @Test
+    @DisplayName("deve retornar contagens, histograma e expirações por dia")
+    void shouldReturnStatistics() throws Exception {
+        TreeMap<LocalDate, Long> expiring = new TreeMap<>();
+        expiring.put(LocalDate.of(2026, 1, 10), 2L);
+        when(buscarEstatisticasCuponsUseCase.execute()).thenReturn(new CouponStatistics(
+                10, 5, 2, 3, 4, 3, new BigDecimal("55.50"),
+                List.of(new DiscountBucket(new BigDecimal("0.00"), new BigDecimal("5.00"), 1),
+                        new DiscountBucket(new BigDecimal("100.00"), null, 4)),
+                expiring,
+                LocalDateTime.of(2026, 1, 9, 12, 0)
+        ));
+
+        mockMvc.perform(get("/cupons/estatisticas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(10))
+                .andExpect(jsonPath("$.ativos").value(5))
+                .andExpect(jsonPath("$.expirados").value(2))
+                .andExpect(jsonPath("$.excluidos").value(3))
+                .andExpect(jsonPath("$.publicados").value(4))
+                .andExpect(jsonPath("$.naoPublicados").value(3))
+                .andExpect(jsonPath("$.valorDescontoAtivos").value(55.50))
+                .andExpect(jsonPath("$.histogramaDesconto[0].ate").value(5.00))
+                .andExpect(jsonPath("$.histogramaDesconto[1].ate").isEmpty())
+                .andExpect(jsonPath("$.histogramaDesconto[1].quantidade").value(4))
+                .andExpect(jsonPath("$.expirandoPorDia[0].data").value("2026-01-10"))
+                .andExpect(jsonPath("$.expirandoPorDia[0].quantidade").value(2));
+    }
+}
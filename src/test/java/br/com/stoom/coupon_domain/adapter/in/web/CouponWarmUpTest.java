@@ -0,0 +1,114 @@
+package br.com.stoom.coupon_domain.adapter.in.web;
+
+import br.com.stoom.coupon_domain.application.port.in.AquecerCachesUseCase;
+import br.com.stoom.coupon_domain.application.port.in.AquecerCachesUseCase.WarmUpResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponWarmUp")
+class CouponWarmUpTest {
+
+    @Mock
+    private AquecerCachesUseCase aquecerCachesUseCase;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    private final CouponRateLimitInterceptor rateLimitInterceptor =
+            new CouponRateLimitInterceptor(new ObjectMapper(), Clock.systemUTC(), true, "", 100, 20, 1000);
+
+    private CouponWarmUp warmUp(RestClient.Builder builder, boolean enabled, int requests) {
+        return new CouponWarmUp(aquecerCachesUseCase, dataSource, builder, rateLimitInterceptor, enabled, 50,
+                requests, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("deve manter a prontidão fora de serviço até concluir o aquecimento")
+    void shouldReportOutOfServiceUntilDone() throws SQLException {
+        when(aquecerCachesUseCase.execute(50)).thenReturn(new WarmUpResult(1, List.of("ABC123")));
+        when(dataSource.getConnection()).thenReturn(connection);
+        CouponWarmUp warmUp = warmUp(RestClient.builder(), true, 0);
+        WarmUpHealthIndicator indicator = new WarmUpHealthIndicator(warmUp);
+
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+
+        warmUp.run(null);
+
+        assertEquals(Status.UP, indicator.health().getStatus());
+        assertEquals(1, indicator.health().getDetails().get("cuponsCarregados"));
+        assertEquals(1, indicator.health().getDetails().get("conexoes"));
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("deve reproduzir a mistura de requisições contra o servidor local")
+    void shouldReplayRequestMixAgainstLocalServer() throws SQLException {
+        when(aquecerCachesUseCase.execute(50)).thenReturn(new WarmUpResult(2, List.of("ABC123", "XYZ789")));
+        when(dataSource.getConnection()).thenReturn(connection);
+        RestClient.Builder builder = RestClient.builder();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).ignoreExpectOrder(true).build();
+        server.expect(ExpectedCount.times(4), requestTo("http://localhost:8080/cupons/ABC123"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header(CouponRateLimitInterceptor.BYPASS_HEADER, rateLimitInterceptor.bypassToken()))
+                .andRespond(withSuccess());
+        server.expect(ExpectedCount.times(4), requestTo("http://localhost:8080/cupons/XYZ789"))
+                .andExpect(method(HttpMethod.GET)).andRespond(withSuccess());
+        server.expect(ExpectedCount.manyTimes(), anything()).andRespond(withSuccess());
+        CouponWarmUp warmUp = warmUp(builder, true, 20);
+
+        warmUp.run(8080);
+
+        assertEquals(20, warmUp.details().get("requisicoes"));
+        assertEquals("concluido", warmUp.details().get("estado"));
+    }
+
+    @Test
+    @DisplayName("deve liberar a prontidão mesmo quando o aquecimento falha")
+    void shouldBecomeReadyWhenWarmUpFails() {
+        when(aquecerCachesUseCase.execute(anyInt())).thenThrow(new IllegalStateException("banco indisponível"));
+        CouponWarmUp warmUp = warmUp(RestClient.builder(), true, 10);
+
+        warmUp.run(8080);
+
+        assertTrue(warmUp.isDone());
+        assertEquals("falhou", warmUp.details().get("estado"));
+        assertEquals("banco indisponível", warmUp.details().get("erro"));
+    }
+
+    @Test
+    @DisplayName("não deve aquecer quando desabilitado")
+    void shouldSkipWhenDisabled() {
+        CouponWarmUp warmUp = warmUp(RestClient.builder(), false, 10);
+
+        warmUp.run(8080);
+
+        assertTrue(warmUp.isDone());
+        verifyNoInteractions(aquecerCachesUseCase, dataSource);
+    }
+}
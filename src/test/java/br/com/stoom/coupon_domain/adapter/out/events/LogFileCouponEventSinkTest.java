@@ -0,0 +1,47 @@
+package br.com.stoom.coupon_domain.adapter.out.events;
+
+import br.com.stoom.coupon_domain.domain.model.OutboxMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LogFileCouponEventSink")
+class LogFileCouponEventSinkTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    @DisplayName("deve acrescentar uma linha JSON por mensagem entre entregas")
+    void shouldAppendOneJsonLinePerMessage() throws Exception {
+        Path file = dir.resolve("events.jsonl");
+        LogFileCouponEventSink sink = new LogFileCouponEventSink(objectMapper, file);
+        LocalDateTime at = LocalDateTime.of(2026, 6, 30, 12, 0);
+
+        sink.deliver(List.of(new OutboxMessage(1, "CouponCreated", UUID.randomUUID(), "ABC123",
+                "{\"code\":\"ABC123\"}", at)));
+        sink.deliver(List.of(new OutboxMessage(2, "CouponDeleted", UUID.randomUUID(), "ABC123",
+                "{\"code\":\"ABC123\"}", at)));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertEquals(2, second.get("sequence").asLong());
+        assertEquals("CouponDeleted", second.get("type").asText());
+        assertEquals("ABC123", second.get("payload").get("code").asText());
+        assertEquals("2026-06-30T12:00", second.get("occurredAt").asText());
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.stoom.coupon_domain.adapter.out.events;
+
+import br.com.stoom.coupon_domain.domain.model.OutboxMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+@DisplayName("WebhookCouponEventSink")
+class WebhookCouponEventSinkTest {
+
+    private static final String URL = "http://hooks.local/coupons";
+
+    private final List<OutboxMessage> batch = List.of(new OutboxMessage(7, "CouponCreated", UUID.randomUUID(),
+            "ABC123", "{}", LocalDateTime.of(2026, 6, 30, 12, 0)));
+
+    @Test
+    @DisplayName("deve enviar o lote inteiro em um único POST")
+    void shouldPostWholeBatch() {
+        RestClient.Builder builder = RestClient.builder();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        server.expect(requestTo(URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$[0].sequence").value(7))
+                .andExpect(jsonPath("$[0].code").value("ABC123"))
+                .andRespond(withSuccess());
+
+        new WebhookCouponEventSink(builder, URL).deliver(batch);
+
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("deve falhar quando o webhook responde com erro")
+    void shouldFailOnErrorResponse() {
+        RestClient.Builder builder = RestClient.builder();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        server.expect(requestTo(URL)).andRespond(withServerError().contentType(MediaType.TEXT_PLAIN));
+
+        WebhookCouponEventSink sink = new WebhookCouponEventSink(builder, URL);
+
+        assertThrows(RestClientException.class, () -> sink.deliver(batch));
+    }
+}
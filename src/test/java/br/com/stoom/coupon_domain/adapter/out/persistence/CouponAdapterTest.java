@@ -1,27 +1,37 @@
 package br.com.stoom.coupon_domain.adapter.out.persistence;
 
+import br.com.stoom.coupon_domain.adapter.out.persistence.CouponJpaRepository.CouponVersionView;
+import br.com.stoom.coupon_domain.adapter.out.persistence.CouponJpaRepository.StatusCountsView;
+import br.com.stoom.coupon_domain.domain.model.CatalogVersion;
 import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
 import br.com.stoom.coupon_domain.domain.model.CouponCode;
+import br.com.stoom.coupon_domain.domain.model.CouponStatusCounts;
 import br.com.stoom.coupon_domain.domain.model.DiscountValue;
 import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +41,12 @@ class CouponAdapterTest {
     @Mock
     private CouponJpaRepository couponJpaRepository;
 
+    @Mock
+    private ArchivedCouponJpaRepository archivedCouponJpaRepository;
+
+    @Mock
+    private CatalogVersionJpaRepository catalogVersionJpaRepository;
+
     @InjectMocks
     private CouponAdapter couponAdapter;
 
@@ -69,6 +85,39 @@ class CouponAdapterTest {
             assertEquals("ABC123", result.getCode().value());
             verify(couponJpaRepository).save(any(CouponEntity.class));
         }
+
+        @Test
+        @DisplayName("deve incrementar a versão do catálogo depois de gravar as linhas")
+        void shouldBumpCatalogVersionAfterFlushingRows() {
+            when(couponJpaRepository.saveAll(any())).thenReturn(List.of(createEntity(UUID.randomUUID(), "ABC123")));
+            when(catalogVersionJpaRepository.increment(CatalogVersionEntity.SINGLETON_ID)).thenReturn(1);
+
+            couponAdapter.saveAll(List.of());
+
+            InOrder inOrder = inOrder(couponJpaRepository, catalogVersionJpaRepository);
+            inOrder.verify(couponJpaRepository).saveAll(any());
+            inOrder.verify(couponJpaRepository).flush();
+            inOrder.verify(catalogVersionJpaRepository).increment(CatalogVersionEntity.SINGLETON_ID);
+            verify(catalogVersionJpaRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("deve criar a linha da versão do catálogo na primeira gravação")
+        void shouldCreateCatalogVersionRowOnFirstWrite() {
+            when(couponJpaRepository.save(any(CouponEntity.class))).thenReturn(createEntity(UUID.randomUUID(), "ABC123"));
+
+            couponAdapter.save(Coupon.reconstitute(
+                    UUID.randomUUID(),
+                    CouponCode.reconstitute("ABC123"),
+                    "Descrição",
+                    DiscountValue.reconstitute(new BigDecimal("10.00")),
+                    ExpirationDate.reconstitute(LocalDate.now().plusDays(30)),
+                    true, false, null, LocalDateTime.now().minusDays(5)
+            ));
+
+            verify(catalogVersionJpaRepository).save(argThat(version ->
+                    version.getId() == CatalogVersionEntity.SINGLETON_ID && version.getSequence() == 1));
+        }
     }
 
     @Nested
@@ -164,6 +213,32 @@ class CouponAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("findAllByCodes")
+    class FindAllByCodes {
+
+        @Test
+        @DisplayName("deve buscar todos os códigos em uma única consulta")
+        void shouldFetchAllCodesInSingleQuery() {
+            List<String> codes = List.of("ABC123", "XYZ789");
+            when(couponJpaRepository.findByCodeIn(codes))
+                    .thenReturn(List.of(createEntity(UUID.randomUUID(), "ABC123")));
+
+            List<Coupon> result = couponAdapter.findAllByCodes(codes);
+
+            assertEquals(1, result.size());
+            assertEquals("ABC123", result.get(0).getCode().value());
+            verify(couponJpaRepository).findByCodeIn(codes);
+        }
+
+        @Test
+        @DisplayName("não deve consultar o banco para lista vazia")
+        void shouldSkipQueryForEmptyList() {
+            assertTrue(couponAdapter.findAllByCodes(List.of()).isEmpty());
+            verifyNoInteractions(couponJpaRepository);
+        }
+    }
+
     @Nested
     @DisplayName("existsByCode")
     class ExistsByCode {
@@ -184,4 +259,154 @@ class CouponAdapterTest {
             assertFalse(couponAdapter.existsByCode("ZZZ999"));
         }
     }
+
+    @Nested
+    @DisplayName("findChangedSince")
+    class FindChangedSince {
+
+        @Test
+        @DisplayName("deve retornar alterações com a data de atualização da entidade")
+        void shouldReturnChangesWithUpdatedAt() {
+            LocalDateTime since = LocalDateTime.now().minusHours(1);
+            LocalDateTime until = LocalDateTime.now().minusSeconds(5);
+            UUID afterId = UUID.randomUUID();
+            CouponEntity entity = createEntity(UUID.randomUUID(), "CHG001");
+            when(couponJpaRepository.findChangedSince(since, afterId, until, Limit.of(10))).thenReturn(List.of(entity));
+
+            List<CouponChange> result = couponAdapter.findChangedSince(since, afterId, until, 10);
+
+            assertEquals(1, result.size());
+            assertEquals("CHG001", result.get(0).coupon().getCode().value());
+            assertEquals(entity.getUpdatedAt(), result.get(0).updatedAt());
+            verify(couponJpaRepository).findChangedSince(since, afterId, until, Limit.of(10));
+        }
+    }
+
+    @Nested
+    @DisplayName("versões")
+    class Versions {
+
+        @Test
+        @DisplayName("deve retornar data de atualização por código")
+        void shouldReturnUpdatedAtByCode() {
+            LocalDateTime updatedAt = LocalDateTime.now();
+            when(couponJpaRepository.findUpdatedAtByCode("VER001")).thenReturn(Optional.of(updatedAt));
+
+            assertEquals(Optional.of(updatedAt), couponAdapter.findUpdatedAtByCode("VER001"));
+        }
+
+        @Test
+        @DisplayName("deve retornar datas de atualização de vários códigos em uma consulta")
+        void shouldReturnUpdatedAtByCodes() {
+            LocalDateTime updatedAt = LocalDateTime.now();
+            CouponVersionView view = mock(CouponVersionView.class);
+            when(view.getCode()).thenReturn("VER001");
+            when(view.getUpdatedAt()).thenReturn(updatedAt);
+            when(couponJpaRepository.findUpdatedAtByCodeIn(List.of("VER001", "VER002"))).thenReturn(List.of(view));
+
+            assertEquals(Map.of("VER001", updatedAt), couponAdapter.findUpdatedAtByCodes(List.of("VER001", "VER002")));
+        }
+
+        @Test
+        @DisplayName("não deve consultar o banco para lista vazia de códigos")
+        void shouldSkipQueryForEmptyCodes() {
+            assertTrue(couponAdapter.findUpdatedAtByCodes(List.of()).isEmpty());
+            verifyNoInteractions(couponJpaRepository);
+        }
+
+        @Test
+        @DisplayName("deve ler a sequência da versão do catálogo")
+        void shouldReadCatalogVersionSequence() {
+            when(catalogVersionJpaRepository.findSequence(CatalogVersionEntity.SINGLETON_ID))
+                    .thenReturn(Optional.of(5L));
+
+            assertEquals(new CatalogVersion(5), couponAdapter.findCatalogVersion());
+        }
+
+        @Test
+        @DisplayName("deve considerar a versão zero antes da primeira gravação")
+        void shouldStartCatalogVersionAtZero() {
+            when(catalogVersionJpaRepository.findSequence(CatalogVersionEntity.SINGLETON_ID))
+                    .thenReturn(Optional.empty());
+
+            assertEquals(new CatalogVersion(0), couponAdapter.findCatalogVersion());
+        }
+
+        @Test
+        @DisplayName("deve converter projeção das contagens por situação")
+        void shouldConvertStatusCountsProjection() {
+            LocalDate today = LocalDate.now();
+            StatusCountsView view = mock(StatusCountsView.class);
+            when(view.getTotal()).thenReturn(10L);
+            when(view.getDeleted()).thenReturn(3L);
+            when(view.getExpired()).thenReturn(2L);
+            when(view.getPublished()).thenReturn(4L);
+            when(couponJpaRepository.countByStatus(today)).thenReturn(view);
+
+            assertEquals(new CouponStatusCounts(10, 3, 2, 4), couponAdapter.countByStatus(today));
+        }
+    }
+
+    @Nested
+    @DisplayName("Arquivamento")
+    class Archive {
+
+        @Test
+        @DisplayName("deve copiar o lote para o arquivo e removê-lo da tabela principal")
+        void shouldCopyBatchToArchiveAndDelete() {
+            LocalDateTime deletedBefore = LocalDateTime.now().minusDays(30);
+            LocalDate expiredBefore = LocalDate.now().minusDays(90);
+            CouponEntity expired = createEntity(UUID.randomUUID(), "OLD001");
+            CouponEntity deleted = createEntity(UUID.randomUUID(), "DEL001");
+            when(couponJpaRepository.lockExpiredBefore(expiredBefore, Limit.of(10))).thenReturn(List.of(expired));
+            when(couponJpaRepository.lockDeletedBefore(deletedBefore, Limit.of(9))).thenReturn(List.of(expired, deleted));
+
+            assertEquals(Map.of("OLD001", expired.getId(), "DEL001", deleted.getId()),
+                    couponAdapter.archiveBatch(deletedBefore, expiredBefore, 10));
+
+            verify(archivedCouponJpaRepository).saveAll(argThat((List<ArchivedCouponEntity> archived) ->
+                    archived.size() == 2 && archived.get(0).getCode().equals("OLD001")
+                            && archived.get(1).getCode().equals("DEL001")
+                            && archived.get(0).getArchivedAt() != null));
+            verify(couponJpaRepository).deleteAllInBatch(List.of(expired, deleted));
+            verify(catalogVersionJpaRepository).increment(CatalogVersionEntity.SINGLETON_ID);
+        }
+
+        @Test
+        @DisplayName("não deve escrever quando não há linhas elegíveis")
+        void shouldNotWriteWhenNothingToArchive() {
+            when(couponJpaRepository.lockExpiredBefore(any(), any())).thenReturn(List.of());
+            when(couponJpaRepository.lockDeletedBefore(any(), any())).thenReturn(List.of());
+
+            assertTrue(couponAdapter.archiveBatch(LocalDateTime.now(), LocalDate.now(), 10).isEmpty());
+
+            verifyNoInteractions(archivedCouponJpaRepository, catalogVersionJpaRepository);
+            verify(couponJpaRepository, never()).deleteAllInBatch(any());
+        }
+
+        @Test
+        @DisplayName("não deve consultar excluídos quando o lote de expirados está cheio")
+        void shouldSkipDeletedQueryWhenBatchIsFull() {
+            when(couponJpaRepository.lockExpiredBefore(any(), eq(Limit.of(1))))
+                    .thenReturn(List.of(createEntity(UUID.randomUUID(), "OLD001")));
+
+            assertEquals(1, couponAdapter.archiveBatch(LocalDateTime.now(), LocalDate.now(), 1).size());
+
+            verify(couponJpaRepository, never()).lockDeletedBefore(any(), any());
+        }
+
+        @Test
+        @DisplayName("deve buscar a cópia arquivada mais recente do código")
+        void shouldFindLatestArchivedCopy() {
+            ArchivedCouponEntity archived = CouponMapper.toArchiveEntity(
+                    createEntity(UUID.randomUUID(), "OLD001"), LocalDateTime.now());
+            when(archivedCouponJpaRepository.findFirstByCodeOrderByArchivedAtDesc("OLD001"))
+                    .thenReturn(Optional.of(archived));
+
+            Optional<Coupon> result = couponAdapter.findArchivedByCode("OLD001");
+
+            assertTrue(result.isPresent());
+            assertEquals("OLD001", result.get().getCode().value());
+        }
+    }
 }
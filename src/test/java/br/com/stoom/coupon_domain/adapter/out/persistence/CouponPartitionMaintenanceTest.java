@@ -0,0 +1,107 @@
+package br.com.stoom.coupon_domain.adapter.out.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponPartitionMaintenance")
+class CouponPartitionMaintenanceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-15T02:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CouponPartitionMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        maintenance = new CouponPartitionMaintenance(jdbcTemplate, TransactionOperations.withoutTransaction(),
+                eventPublisher, CLOCK, 1, 6);
+    }
+
+    @Test
+    @DisplayName("deve nomear partições por ano e mês")
+    void shouldNamePartitionsByMonth() {
+        assertEquals("coupons_2026_03", CouponPartitionMaintenance.partitionName(LocalDate.of(2026, 3, 1)));
+        assertEquals(LocalDate.of(2025, 11, 1), CouponPartitionMaintenance.monthOf("coupons_2025_11"));
+    }
+
+    @Nested
+    @DisplayName("Criação")
+    class Creation {
+
+        @Test
+        @DisplayName("deve criar apenas as partições mensais ausentes")
+        void shouldCreateMissingPartitions() {
+            when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq("coupons_2026_03"))).thenReturn(true);
+            when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq("coupons_2026_04"))).thenReturn(false);
+            when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class))).thenReturn(false);
+
+            assertEquals(1, maintenance.createUpcomingPartitions());
+
+            verify(jdbcTemplate).execute("CREATE TABLE coupons_2026_04 PARTITION OF coupons "
+                    + "FOR VALUES FROM ('2026-04-01') TO ('2026-05-01')");
+        }
+
+        @Test
+        @DisplayName("deve mover linhas da partição default antes de anexar a nova partição")
+        void shouldMoveRowsParkedInDefaultPartition() {
+            when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq("coupons_2026_03"))).thenReturn(true);
+            when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq("coupons_2026_04"))).thenReturn(false);
+            when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class))).thenReturn(true);
+
+            maintenance.createUpcomingPartitions();
+
+            InOrder inOrder = inOrder(jdbcTemplate);
+            inOrder.verify(jdbcTemplate).execute(startsWith("CREATE TABLE coupons_2026_04 (LIKE coupons"));
+            inOrder.verify(jdbcTemplate).execute(startsWith("WITH moved AS (DELETE FROM coupons_default"));
+            inOrder.verify(jdbcTemplate).execute(startsWith("INSERT INTO coupon_codes"));
+            inOrder.verify(jdbcTemplate).execute("ALTER TABLE coupons ATTACH PARTITION coupons_2026_04 "
+                    + "FOR VALUES FROM ('2026-04-01') TO ('2026-05-01')");
+        }
+    }
+
+    @Nested
+    @DisplayName("Remoção")
+    class Removal {
+
+        @Test
+        @DisplayName("deve desanexar, arquivar e remover partições além da retenção")
+        void shouldDetachArchiveAndDropOldPartitions() {
+            when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                    .thenReturn(List.of("coupons_2025_08", "coupons_2025_09", "coupons_2026_03"));
+
+            assertEquals(1, maintenance.dropExpiredPartitions());
+
+            InOrder inOrder = inOrder(jdbcTemplate);
+            inOrder.verify(jdbcTemplate).execute("ALTER TABLE coupons DETACH PARTITION coupons_2025_08");
+            inOrder.verify(jdbcTemplate).execute(startsWith("INSERT INTO coupons_archive"));
+            inOrder.verify(jdbcTemplate).execute(startsWith("DELETE FROM coupon_codes"));
+            inOrder.verify(jdbcTemplate).execute("DROP TABLE coupons_2025_08");
+            verify(jdbcTemplate, never()).execute("DROP TABLE coupons_2025_09");
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package br.com.stoom.coupon_domain.adapter.out.persistence;
+
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatches;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Planos de consulta (Postgres)")
+class CouponQueryPlanPostgresTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    private static SingleConnectionDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword(), true);
+        new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql"),
+                new ClassPathResource("db/schema-text-search-database.sql")).execute(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                INSERT INTO coupons (id, code, description, discount_value, expiration_date,
+                                     published, deleted, deleted_at, created_at, updated_at)
+                SELECT gen_random_uuid(),
+                       upper(lpad(to_hex(n), 6, '0')),
+                       'Cupom ' || n,
+                       10.00,
+                       DATE '2026-01-01' + (n % 365),
+                       n % 3 <> 0,
+                       n % 10 = 0,
+                       CASE WHEN n % 10 = 0 THEN TIMESTAMP '2026-01-01' + n * INTERVAL '1 minute' END,
+                       TIMESTAMP '2026-01-01' + n * INTERVAL '1 minute',
+                       TIMESTAMP '2026-01-01' + n * INTERVAL '1 minute'
+                FROM generate_series(1, 20000) AS n
+                """);
+        jdbcTemplate.execute("VACUUM ANALYZE coupons");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.destroy();
+    }
+
+    private String explain(String sql) {
+        List<String> lines = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        return String.join("\n", lines);
+    }
+
+    @Test
+    @DisplayName("versão por código deve ser index-only scan no índice de cobertura")
+    void versionByCodeShouldBeIndexOnly() {
+        String plan = explain("SELECT updated_at FROM coupons WHERE code = '0000FF'");
+
+        assertTrue(plan.contains("Index Only Scan using idx_coupons_code_covering"), plan);
+    }
+
+    @Test
+    @DisplayName("colunas de CouponQueryResponse por código devem ser index-only scan")
+    void queryResponseByCodeShouldBeIndexOnly() {
+        String plan = explain("""
+                SELECT code, discount_value, expiration_date, deleted
+                FROM coupons WHERE code IN ('0000FF', '000100')
+                """);
+
+        assertTrue(plan.contains("Index Only Scan using idx_coupons_code_covering"), plan);
+    }
+
+    @Test
+    @DisplayName("cupons ativos por validade devem usar o índice parcial")
+    void activeByExpirationShouldUsePartialIndex() {
+        String plan = explain("""
+                SELECT id FROM coupons
+                WHERE deleted = false AND published = true AND expiration_date >= DATE '2026-12-20'
+                """);
+
+        assertTrue(plan.contains("idx_coupons_active_expiration"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    @DisplayName("feed de alterações deve usar idx_coupons_updated_at_id sem ordenação extra")
+    void changeFeedShouldUseUpdatedAtIdIndex() {
+        String plan = explain("""
+                SELECT * FROM coupons
+                WHERE (updated_at > TIMESTAMP '2026-01-10'
+                       OR (updated_at = TIMESTAMP '2026-01-10' AND id > '00000000-0000-0000-0000-000000000000'))
+                  AND updated_at <= TIMESTAMP '2026-01-11'
+                ORDER BY updated_at, id
+                LIMIT 100
+                """);
+
+        assertTrue(plan.contains("idx_coupons_updated_at_id"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+        assertFalse(plan.contains("Sort"), plan);
+    }
+
+    @Test
+    @DisplayName("expurgo de excluídos deve usar o índice parcial de deleted_at")
+    void deletedPurgeShouldUsePartialIndex() {
+        String plan = explain("""
+                SELECT id FROM coupons
+                WHERE deleted = true AND deleted_at < TIMESTAMP '2026-01-02'
+                """);
+
+        assertTrue(plan.contains("idx_coupons_deleted_at"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    @DisplayName("busca textual deve usar o índice GIN de descrição")
+    void descriptionSearchShouldUseGinIndex() {
+        String plan = explain("""
+                SELECT code FROM coupons
+                WHERE deleted = false
+                  AND coupon_search_vector(description) @@ plainto_tsquery('portuguese', unaccent('Cupom 1234'))
+                """);
+
+        assertTrue(plan.contains("idx_coupons_description_search"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    @DisplayName("busca textual deve informar o total mesmo numa página além do fim")
+    void descriptionSearchShouldReportTotalPastLastPage() {
+        PostgresCouponDescriptionSearch search = new PostgresCouponDescriptionSearch(jdbcTemplate,
+                Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC));
+
+        DescriptionMatches first = search.search("Cupom", 0, 10);
+        DescriptionMatches pastEnd = search.search("Cupom", 100_000, 10);
+
+        assertEquals(10, first.matches().size());
+        assertEquals(18_000, first.total());
+        assertTrue(pastEnd.matches().isEmpty());
+        assertEquals(first.total(), pastEnd.total());
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.stoom.coupon_domain.adapter.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@DisplayName("Planos de consulta (H2)")
+class CouponQueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+    private void assertUsesIndex(String plan, String index) {
+        assertTrue(plan.toLowerCase().contains(index.toLowerCase()), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    @DisplayName("busca por código deve usar o índice único de code")
+    void lookupByCodeShouldUseCodeIndex() {
+        String plan = explain("SELECT updated_at FROM coupons WHERE code = 'ABC123'");
+
+        assertFalse(plan.contains("tableScan"), plan);
+        assertTrue(plan.contains("CODE = 'ABC123'"), plan);
+    }
+
+    @Test
+    @DisplayName("busca em lote por códigos deve usar o índice único de code")
+    void lookupByCodesShouldUseCodeIndex() {
+        String plan = explain("SELECT * FROM coupons WHERE code IN ('ABC123', 'XYZ789')");
+
+        assertFalse(plan.contains("tableScan"), plan);
+        assertTrue(plan.contains("CODE IN('ABC123', 'XYZ789')"), plan);
+    }
+
+    @Test
+    @DisplayName("feed de alterações deve percorrer idx_coupons_updated_at_id já ordenado")
+    void changeFeedShouldUseUpdatedAtIdIndex() {
+        String plan = explain("""
+                SELECT * FROM coupons
+                WHERE (updated_at > TIMESTAMP '2026-01-01 00:00:00'
+                       OR (updated_at = TIMESTAMP '2026-01-01 00:00:00'
+                           AND id > '00000000-0000-0000-0000-000000000000'))
+                  AND updated_at <= TIMESTAMP '2026-01-02 00:00:00'
+                ORDER BY updated_at, id
+                FETCH FIRST 100 ROWS ONLY
+                """);
+
+        assertUsesIndex(plan, "idx_coupons_updated_at_id");
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    @DisplayName("cupons ativos por validade devem usar idx_coupons_active_expiration")
+    void activeByExpirationShouldUseExpirationIndex() {
+        String plan = explain("""
+                SELECT * FROM coupons
+                WHERE deleted = false AND published = true AND expiration_date >= DATE '2026-01-01'
+                """);
+
+        assertUsesIndex(plan, "idx_coupons_active_expiration");
+    }
+
+    @Test
+    @DisplayName("expurgo de excluídos deve usar idx_coupons_deleted_at")
+    void deletedPurgeShouldUseDeletedAtIndex() {
+        String plan = explain("""
+                SELECT * FROM coupons
+                WHERE deleted = true AND deleted_at < TIMESTAMP '2026-01-01 00:00:00'
+                """);
+
+        assertUsesIndex(plan, "idx_coupons_deleted_at");
+    }
+}
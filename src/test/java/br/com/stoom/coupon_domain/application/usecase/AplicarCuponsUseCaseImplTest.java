@@ -0,0 +1,130 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase.AppliedDiscount;
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase.Cart;
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase.CartLine;
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase.CartResult;
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase.RejectedCoupon;
+import br.com.stoom.coupon_domain.application.port.in.AplicarCuponsUseCase.RejectionReason;
+import br.com.stoom.coupon_domain.domain.exception.InvalidCartException;
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponCode;
+import br.com.stoom.coupon_domain.domain.model.DiscountValue;
+import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AplicarCuponsUseCase")
+class AplicarCuponsUseCaseImplTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @InjectMocks
+    private AplicarCuponsUseCaseImpl aplicarCuponsUseCase;
+
+    private Coupon coupon(String code, String value, LocalDate expiration, boolean deleted) {
+        return coupon(code, value, expiration, true, deleted);
+    }
+
+    private Coupon coupon(String code, String value, LocalDate expiration, boolean published, boolean deleted) {
+        return Coupon.reconstitute(
+                UUID.randomUUID(),
+                CouponCode.reconstitute(code),
+                "Cupom",
+                DiscountValue.reconstitute(new BigDecimal(value)),
+                ExpirationDate.reconstitute(expiration),
+                published, deleted, deleted ? LocalDateTime.now() : null, LocalDateTime.now()
+        );
+    }
+
+    private Cart cart(String id, long unitPriceCents, String... codes) {
+        return new Cart(id, List.of(new CartLine("SKU", 2, unitPriceCents)), List.of(codes));
+    }
+
+    @Test
+    @DisplayName("deve aplicar cupons em sequência limitando ao subtotal")
+    void shouldApplyCouponsSequentiallyCappedAtSubtotal() {
+        when(couponRepository.findAllByCodes(Set.of("OFF010", "OFF005"))).thenReturn(List.of(
+                coupon("OFF010", "10.00", LocalDate.now().plusDays(1), false),
+                coupon("OFF005", "5.00", LocalDate.now().plusDays(1), false)
+        ));
+
+        CartResult result = aplicarCuponsUseCase.execute(List.of(cart("c1", 600, "off010", "OFF005"))).get(0);
+
+        assertEquals(1200, result.subtotalCents());
+        assertEquals(1200, result.discountCents());
+        assertEquals(0, result.totalCents());
+        assertEquals(List.of(new AppliedDiscount("OFF010", 1000), new AppliedDiscount("OFF005", 200)),
+                result.applied());
+        assertTrue(result.rejected().isEmpty());
+    }
+
+    @Test
+    @DisplayName("deve rejeitar cupons inexistentes, excluídos, não publicados, expirados e repetidos")
+    void shouldRejectInvalidCoupons() {
+        when(couponRepository.findAllByCodes(any())).thenReturn(List.of(
+                coupon("DEL001", "5.00", LocalDate.now().plusDays(1), true),
+                coupon("UNP001", "5.00", LocalDate.now().plusDays(1), false, false),
+                coupon("EXP001", "5.00", LocalDate.now().minusDays(1), false),
+                coupon("OK0001", "1.00", LocalDate.now().plusDays(1), false)
+        ));
+
+        CartResult result = aplicarCuponsUseCase.execute(List.of(
+                cart("c1", 5000, "NOP001", "DEL001", "UNP001", "EXP001", "OK0001", "ok0001"))).get(0);
+
+        assertEquals(List.of(
+                new RejectedCoupon("NOP001", RejectionReason.NOT_FOUND),
+                new RejectedCoupon("DEL001", RejectionReason.DELETED),
+                new RejectedCoupon("UNP001", RejectionReason.NOT_PUBLISHED),
+                new RejectedCoupon("EXP001", RejectionReason.EXPIRED),
+                new RejectedCoupon("OK0001", RejectionReason.ALREADY_APPLIED)
+        ), result.rejected());
+        assertEquals(100, result.discountCents());
+        assertEquals(9900, result.totalCents());
+    }
+
+    @Test
+    @DisplayName("deve buscar os cupons de todos os carrinhos em uma única consulta")
+    void shouldFetchCouponsOnceForAllCarts() {
+        when(couponRepository.findAllByCodes(Set.of("OFF010"))).thenReturn(List.of(
+                coupon("OFF010", "10.00", LocalDate.now().plusDays(1), false)));
+
+        List<CartResult> results = aplicarCuponsUseCase.execute(List.of(
+                cart("c1", 1000, "OFF010"),
+                cart("c2", 250, "OFF010")
+        ));
+
+        assertEquals(2, results.size());
+        assertEquals(1000, results.get(0).totalCents());
+        assertEquals(0, results.get(1).totalCents());
+        verify(couponRepository, times(1)).findAllByCodes(any());
+    }
+
+    @Test
+    @DisplayName("deve rejeitar carrinho cujo valor excede o limite")
+    void shouldRejectOverflowingCart() {
+        when(couponRepository.findAllByCodes(any())).thenReturn(List.of());
+
+        Cart cart = new Cart("big", List.of(new CartLine("SKU", Long.MAX_VALUE, 2)), List.of());
+
+        assertThrows(InvalidCartException.class, () -> aplicarCuponsUseCase.execute(List.of(cart)));
+    }
+}
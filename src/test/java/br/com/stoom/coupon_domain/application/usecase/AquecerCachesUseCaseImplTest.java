@@ -0,0 +1,63 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.AquecerCachesUseCase.WarmUpResult;
+import br.com.stoom.coupon_domain.domain.port.CouponDescriptionSearch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AquecerCachesUseCase")
+class AquecerCachesUseCaseImplTest {
+
+    @Mock
+    private CouponReadModel couponReadModel;
+
+    @Mock
+    private CouponCodeIndex couponCodeIndex;
+
+    @Mock
+    private CouponDescriptionIndex couponDescriptionIndex;
+
+    @Mock
+    private CouponStatisticsTracker couponStatisticsTracker;
+
+    @Mock
+    private CouponDescriptionSearch databaseSearch;
+
+    @Test
+    @DisplayName("deve carregar os caches em memória e devolver uma amostra de cupons ativos")
+    void shouldLoadCachesAndSampleActiveCoupons() {
+        when(couponReadModel.size()).thenReturn(3);
+        when(couponReadModel.activeCodes(2)).thenReturn(List.of("AAA001", "BBB002"));
+        AquecerCachesUseCaseImpl useCase = new AquecerCachesUseCaseImpl(couponReadModel, couponCodeIndex,
+                couponDescriptionIndex, couponStatisticsTracker, Optional.empty());
+
+        WarmUpResult result = useCase.execute(2);
+
+        assertEquals(new WarmUpResult(3, List.of("AAA001", "BBB002")), result);
+        verify(couponReadModel).refresh();
+        verify(couponCodeIndex).refresh();
+        verify(couponDescriptionIndex).refresh();
+        verify(couponStatisticsTracker).refresh();
+    }
+
+    @Test
+    @DisplayName("não deve carregar o índice de descrições quando a busca usa o banco")
+    void shouldSkipDescriptionIndexWhenSearchUsesDatabase() {
+        AquecerCachesUseCaseImpl useCase = new AquecerCachesUseCaseImpl(couponReadModel, couponCodeIndex,
+                couponDescriptionIndex, couponStatisticsTracker, Optional.of(databaseSearch));
+
+        useCase.execute(10);
+
+        verifyNoInteractions(couponDescriptionIndex);
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.CouponsArchivedEvent;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArchiveCouponsUseCase")
+class ArchiveCouponsUseCaseImplTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-06-30T03:30:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ArchiveCouponsUseCaseImpl useCase(int batchSize, int maxBatches) {
+        return new ArchiveCouponsUseCaseImpl(couponRepository, TransactionOperations.withoutTransaction(),
+                eventPublisher, CLOCK,
+                Duration.ofDays(30), Duration.ofDays(90), batchSize, maxBatches, Duration.ZERO);
+    }
+
+    private static Map<String, UUID> archived(int count) {
+        Map<String, UUID> archived = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            archived.put("ARQ%03d".formatted(i), UUID.randomUUID());
+        }
+        return archived;
+    }
+
+    @Test
+    @DisplayName("deve arquivar em lotes até encontrar um lote incompleto")
+    void shouldArchiveUntilPartialBatch() {
+        when(couponRepository.archiveBatch(any(), any(), eq(10))).thenReturn(archived(10), archived(10), archived(3));
+
+        assertEquals(23, useCase(10, 100).execute());
+
+        verify(couponRepository, times(3)).archiveBatch(
+                LocalDateTime.of(2026, 5, 31, 3, 30), LocalDate.of(2026, 4, 1), 10);
+    }
+
+    @Test
+    @DisplayName("deve respeitar o limite de lotes por execução")
+    void shouldRespectMaxBatchesPerRun() {
+        when(couponRepository.archiveBatch(any(), any(), eq(5))).thenReturn(archived(5));
+
+        assertEquals(10, useCase(5, 2).execute());
+
+        verify(couponRepository, times(2)).archiveBatch(any(), any(), eq(5));
+    }
+
+    @Test
+    @DisplayName("não deve repetir quando não há linhas elegíveis")
+    void shouldStopWhenNothingToArchive() {
+        when(couponRepository.archiveBatch(any(), any(), anyInt())).thenReturn(Map.of());
+
+        assertEquals(0, useCase(10, 100).execute());
+
+        verify(couponRepository, times(1)).archiveBatch(any(), any(), anyInt());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("deve publicar os códigos arquivados de cada lote")
+    void shouldPublishArchivedCodesPerBatch() {
+        Map<String, UUID> first = archived(2);
+        when(couponRepository.archiveBatch(any(), any(), eq(2))).thenReturn(first, Map.of());
+
+        assertEquals(2, useCase(2, 100).execute());
+
+        verify(eventPublisher).publishEvent(new CouponsArchivedEvent(first));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.BuscarAlteracoesCuponsUseCase.ChangesPage;
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.model.CouponCode;
+import br.com.stoom.coupon_domain.domain.model.DiscountValue;
+import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BuscarAlteracoesCuponsUseCase")
+class BuscarAlteracoesCuponsUseCaseImplTest {
+
+    @Mock
+    private CouponChangeFeed changeFeed;
+
+    @InjectMocks
+    private BuscarAlteracoesCuponsUseCaseImpl buscarAlteracoesCuponsUseCase;
+
+    private CouponChange createChange(String code, LocalDateTime updatedAt) {
+        Coupon coupon = Coupon.reconstitute(
+                UUID.randomUUID(),
+                CouponCode.reconstitute(code),
+                "Cupom " + code,
+                DiscountValue.reconstitute(new BigDecimal("10.00")),
+                ExpirationDate.reconstitute(LocalDate.now().plusDays(30)),
+                true, false, null, LocalDateTime.now().minusDays(5)
+        );
+        return new CouponChange(coupon, updatedAt);
+    }
+
+    @Nested
+    @DisplayName("Cenários de sucesso")
+    class SuccessScenarios {
+
+        @Test
+        @DisplayName("deve consultar a partir da marca informada buscando um item a mais")
+        void shouldQueryFromWatermarkFetchingOneExtra() {
+            LocalDateTime since = LocalDateTime.now().minusHours(1);
+            UUID afterId = UUID.randomUUID();
+            when(changeFeed.findChangedSince(since, afterId, 11)).thenReturn(Collections.emptyList());
+
+            ChangesPage page = buscarAlteracoesCuponsUseCase.execute(since, afterId, 10);
+
+            assertTrue(page.changes().isEmpty());
+            assertFalse(page.hasMore());
+            verify(changeFeed).findChangedSince(since, afterId, 11);
+        }
+
+        @Test
+        @DisplayName("deve indicar que há mais alterações quando o limite é excedido")
+        void shouldFlagHasMoreWhenLimitExceeded() {
+            LocalDateTime now = LocalDateTime.now();
+            List<CouponChange> changes = List.of(
+                    createChange("CHG001", now.minusMinutes(3)),
+                    createChange("CHG002", now.minusMinutes(2)),
+                    createChange("CHG003", now.minusMinutes(1))
+            );
+            when(changeFeed.findChangedSince(any(), any(), eq(3))).thenReturn(changes);
+
+            ChangesPage page = buscarAlteracoesCuponsUseCase.execute(now.minusDays(1), null, 2);
+
+            assertEquals(2, page.changes().size());
+            assertEquals("CHG002", page.changes().get(1).coupon().getCode().value());
+            assertTrue(page.hasMore());
+        }
+
+        @Test
+        @DisplayName("deve usar marca inicial e limite padrão quando parâmetros são omitidos")
+        void shouldUseInitialWatermarkAndDefaultLimit() {
+            when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(Collections.emptyList());
+
+            buscarAlteracoesCuponsUseCase.execute(null, null, null);
+
+            verify(changeFeed).findChangedSince(
+                    LocalDateTime.of(1970, 1, 1, 0, 0),
+                    new UUID(0L, 0L),
+                    BuscarAlteracoesCuponsUseCaseImpl.DEFAULT_LIMIT + 1
+            );
+        }
+
+        @Test
+        @DisplayName("deve limitar o tamanho da página ao máximo permitido")
+        void shouldClampLimitToMaximum() {
+            when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(Collections.emptyList());
+
+            buscarAlteracoesCuponsUseCase.execute(null, null, 50_000);
+
+            verify(changeFeed).findChangedSince(any(), any(),
+                    eq(BuscarAlteracoesCuponsUseCaseImpl.MAX_LIMIT + 1));
+        }
+    }
+}
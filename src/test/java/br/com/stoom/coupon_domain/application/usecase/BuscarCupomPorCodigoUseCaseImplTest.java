@@ -5,7 +5,6 @@ import br.com.stoom.coupon_domain.domain.model.Coupon;
 import br.com.stoom.coupon_domain.domain.model.CouponCode;
 import br.com.stoom.coupon_domain.domain.model.DiscountValue;
 import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
-import br.com.stoom.coupon_domain.domain.port.CouponRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -27,8 +26,13 @@ import static org.mockito.Mockito.*;
 @DisplayName("BuscarCupomPorCodigoUseCase")
 class BuscarCupomPorCodigoUseCaseImplTest {
 
+    private static final LocalDateTime VERSION = LocalDateTime.of(2026, 6, 1, 10, 0);
+
+    @Mock
+    private CouponReadModel couponReadModel;
+
     @Mock
-    private CouponRepository couponRepository;
+    private CouponLookupCoalescer couponLookupCoalescer;
 
     @InjectMocks
     private BuscarCupomPorCodigoUseCaseImpl buscarCupomPorCodigoUseCase;
@@ -52,24 +56,24 @@ class BuscarCupomPorCodigoUseCaseImplTest {
         @DisplayName("deve retornar cupom quando encontrado pelo código")
         void shouldReturnCouponWhenFoundByCode() {
             Coupon coupon = createCoupon("ABC123");
-            when(couponRepository.findByCode("ABC123")).thenReturn(Optional.of(coupon));
+            when(couponLookupCoalescer.findByCode("ABC123")).thenReturn(Optional.of(coupon));
 
             Coupon result = buscarCupomPorCodigoUseCase.execute("ABC123");
 
             assertEquals("ABC123", result.getCode().value());
-            verify(couponRepository).findByCode("ABC123");
+            verify(couponLookupCoalescer).findByCode("ABC123");
         }
 
         @Test
         @DisplayName("deve normalizar código para uppercase antes de buscar")
         void shouldNormalizeCodeToUppercase() {
             Coupon coupon = createCoupon("ABC123");
-            when(couponRepository.findByCode("ABC123")).thenReturn(Optional.of(coupon));
+            when(couponLookupCoalescer.findByCode("ABC123")).thenReturn(Optional.of(coupon));
 
             Coupon result = buscarCupomPorCodigoUseCase.execute("abc123");
 
             assertEquals("ABC123", result.getCode().value());
-            verify(couponRepository).findByCode("ABC123");
+            verify(couponLookupCoalescer).findByCode("ABC123");
         }
     }
 
@@ -80,7 +84,7 @@ class BuscarCupomPorCodigoUseCaseImplTest {
         @Test
         @DisplayName("deve lançar exceção quando cupom não é encontrado")
         void shouldThrowWhenCouponNotFound() {
-            when(couponRepository.findByCode("XYZ999")).thenReturn(Optional.empty());
+            when(couponLookupCoalescer.findByCode("XYZ999")).thenReturn(Optional.empty());
 
             CouponNotFoundException ex = assertThrows(
                     CouponNotFoundException.class,
@@ -88,6 +92,52 @@ class BuscarCupomPorCodigoUseCaseImplTest {
             );
 
             assertTrue(ex.getMessage().contains("XYZ999"));
+            assertEquals(0, ex.getStackTrace().length);
+        }
+    }
+
+    @Nested
+    @DisplayName("Consulta sem exceção")
+    class FindScenarios {
+
+        @Test
+        @DisplayName("deve retornar cupom normalizando o código")
+        void shouldReturnCouponWithNormalizedCode() {
+            Coupon coupon = createCoupon("ABC123");
+            when(couponLookupCoalescer.findByCode("ABC123")).thenReturn(Optional.of(coupon));
+
+            Optional<Coupon> result = buscarCupomPorCodigoUseCase.find("abc123", VERSION);
+
+            assertEquals(Optional.of(coupon), result);
+        }
+
+        @Test
+        @DisplayName("deve servir o cupom pelo modelo de leitura sem consultar o banco")
+        void shouldServeFromReadModel() {
+            Coupon coupon = createCoupon("ABC123");
+            when(couponReadModel.find("ABC123", VERSION)).thenReturn(Optional.of(coupon));
+
+            assertEquals(Optional.of(coupon), buscarCupomPorCodigoUseCase.find("abc123", VERSION));
+
+            verifyNoInteractions(couponLookupCoalescer);
+        }
+
+        @Test
+        @DisplayName("deve recorrer ao banco quando o modelo de leitura não tem a versão pedida")
+        void shouldFallBackToDatabaseWhenReadModelMissesVersion() {
+            Coupon coupon = createCoupon("NEW001");
+            when(couponReadModel.find("NEW001", VERSION)).thenReturn(Optional.empty());
+            when(couponLookupCoalescer.findByCode("NEW001")).thenReturn(Optional.of(coupon));
+
+            assertEquals(Optional.of(coupon), buscarCupomPorCodigoUseCase.find("NEW001", VERSION));
+        }
+
+        @Test
+        @DisplayName("deve retornar vazio quando cupom não é encontrado")
+        void shouldReturnEmptyWhenCouponNotFound() {
+            when(couponLookupCoalescer.findByCode("XYZ999")).thenReturn(Optional.empty());
+
+            assertTrue(buscarCupomPorCodigoUseCase.find("XYZ999", VERSION).isEmpty());
         }
     }
 }
@@ -0,0 +1,72 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.BuscarCuponsPorCodigosUseCase.CouponLookup;
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponCode;
+import br.com.stoom.coupon_domain.domain.model.DiscountValue;
+import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BuscarCuponsPorCodigosUseCase")
+class BuscarCuponsPorCodigosUseCaseImplTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @InjectMocks
+    private BuscarCuponsPorCodigosUseCaseImpl buscarCuponsPorCodigosUseCase;
+
+    private Coupon couponWithCode(String code) {
+        return Coupon.reconstitute(
+                UUID.randomUUID(),
+                CouponCode.reconstitute(code),
+                "Cupom",
+                DiscountValue.reconstitute(new BigDecimal("10.00")),
+                ExpirationDate.reconstitute(LocalDate.now().plusDays(30)),
+                true, false, null, LocalDateTime.now()
+        );
+    }
+
+    @Test
+    @DisplayName("deve retornar encontrado e não encontrado na ordem solicitada")
+    void shouldReturnLookupsInRequestedOrder() {
+        Coupon coupon = couponWithCode("XYZ789");
+        when(couponRepository.findAllByCodes(Set.of("ABC123", "XYZ789"))).thenReturn(List.of(coupon));
+
+        List<CouponLookup> result = buscarCuponsPorCodigosUseCase.execute(List.of("abc123", "XYZ789"));
+
+        assertEquals(2, result.size());
+        assertEquals("ABC123", result.get(0).code());
+        assertFalse(result.get(0).found());
+        assertEquals("XYZ789", result.get(1).code());
+        assertSame(coupon, result.get(1).coupon());
+    }
+
+    @Test
+    @DisplayName("deve consultar cada código normalizado uma única vez")
+    void shouldDeduplicateNormalizedCodes() {
+        when(couponRepository.findAllByCodes(Set.of("ABC123"))).thenReturn(List.of());
+
+        List<CouponLookup> result = buscarCuponsPorCodigosUseCase.execute(List.of("abc123", "ABC123"));
+
+        assertEquals(1, result.size());
+        verify(couponRepository, times(1)).findAllByCodes(Set.of("ABC123"));
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.exception.InvalidSearchPatternException;
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatch;
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatches;
+import br.com.stoom.coupon_domain.domain.port.CouponDescriptionSearch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BuscarCuponsPorDescricaoUseCase")
+class BuscarCuponsPorDescricaoUseCaseImplTest {
+
+    @Mock
+    private CouponDescriptionIndex couponDescriptionIndex;
+
+    @Mock
+    private CouponDescriptionSearch databaseSearch;
+
+    private static final DescriptionMatches RESULT =
+            new DescriptionMatches(List.of(new DescriptionMatch("BF0001", "Black Friday", 1.0)), 1);
+
+    @Test
+    @DisplayName("deve buscar no índice em memória com termos normalizados e sem repetição")
+    void shouldSearchInMemoryIndex() {
+        BuscarCuponsPorDescricaoUseCaseImpl useCase =
+                new BuscarCuponsPorDescricaoUseCaseImpl(couponDescriptionIndex, Optional.empty());
+        when(couponDescriptionIndex.search(List.of("black", "friday"), 40, 20)).thenReturn(RESULT);
+
+        assertEquals(RESULT, useCase.execute("Black FRIDAY de black", 2, null));
+    }
+
+    @Test
+    @DisplayName("deve delegar ao banco quando a busca no banco estiver habilitada")
+    void shouldDelegateToDatabaseSearch() {
+        BuscarCuponsPorDescricaoUseCaseImpl useCase =
+                new BuscarCuponsPorDescricaoUseCaseImpl(couponDescriptionIndex, Optional.of(databaseSearch));
+        when(databaseSearch.search("promocao verao", 0, BuscarCuponsPorDescricaoUseCaseImpl.MAX_SIZE))
+                .thenReturn(RESULT);
+
+        assertEquals(RESULT, useCase.execute("Promoção de verão", -1, 1000));
+        verifyNoInteractions(couponDescriptionIndex);
+    }
+
+    @Test
+    @DisplayName("deve limitar o deslocamento de páginas muito altas em vez de estourar")
+    void shouldClampOffsetOfHugePages() {
+        BuscarCuponsPorDescricaoUseCaseImpl useCase =
+                new BuscarCuponsPorDescricaoUseCaseImpl(couponDescriptionIndex, Optional.empty());
+        DescriptionMatches empty = new DescriptionMatches(List.of(), 1);
+        when(couponDescriptionIndex.search(List.of("black"), Integer.MAX_VALUE, 100)).thenReturn(empty);
+
+        assertEquals(empty, useCase.execute("black", Integer.MAX_VALUE / 50, 100));
+    }
+
+    @Test
+    @DisplayName("deve rejeitar busca sem termos válidos")
+    void shouldRejectQueryWithoutTerms() {
+        BuscarCuponsPorDescricaoUseCaseImpl useCase =
+                new BuscarCuponsPorDescricaoUseCaseImpl(couponDescriptionIndex, Optional.empty());
+
+        assertThrows(InvalidSearchPatternException.class, () -> useCase.execute("de a x", null, null));
+        assertThrows(InvalidSearchPatternException.class, () -> useCase.execute(null, null, null));
+        verify(couponDescriptionIndex, never()).search(anyList(), anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.BuscarCuponsPorPrefixoUseCase.SearchPage;
+import br.com.stoom.coupon_domain.domain.exception.InvalidSearchPatternException;
+import br.com.stoom.coupon_domain.domain.model.CouponCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BuscarCuponsPorPrefixoUseCase")
+class BuscarCuponsPorPrefixoUseCaseImplTest {
+
+    @Mock
+    private CouponChangeFeed changeFeed;
+
+    private BuscarCuponsPorPrefixoUseCaseImpl buscarCuponsPorPrefixoUseCase;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of());
+        CouponCodeIndex index = new CouponCodeIndex(changeFeed);
+        List.of("BF2401", "BF2402", "BF2411", "BF2501", "XY2401")
+                .forEach(code -> index.onCouponCreated(new CouponCreatedEvent(UUID.randomUUID(), code, "Cupom",
+                        new BigDecimal("10.00"), LocalDate.now().plusDays(30), true, LocalDateTime.now())));
+        buscarCuponsPorPrefixoUseCase = new BuscarCuponsPorPrefixoUseCaseImpl(index);
+    }
+
+    @Test
+    @DisplayName("deve retornar os códigos com o prefixo em ordem")
+    void shouldReturnCodesWithPrefixInOrder() {
+        SearchPage page = buscarCuponsPorPrefixoUseCase.execute("bf24", null, null);
+
+        assertEquals(List.of("BF2401", "BF2402", "BF2411"), page.codes());
+        assertFalse(page.hasMore());
+    }
+
+    @Test
+    @DisplayName("deve indicar que há mais resultados além do limite")
+    void shouldFlagMoreResultsBeyondLimit() {
+        SearchPage first = buscarCuponsPorPrefixoUseCase.execute("BF24", null, 2);
+        SearchPage second = buscarCuponsPorPrefixoUseCase.execute("BF24", "BF2402", 2);
+
+        assertEquals(List.of("BF2401", "BF2402"), first.codes());
+        assertTrue(first.hasMore());
+        assertEquals(List.of("BF2411"), second.codes());
+        assertFalse(second.hasMore());
+    }
+
+    @Test
+    @DisplayName("deve aceitar curingas '?' e '*'")
+    void shouldSupportWildcards() {
+        assertEquals(List.of("BF2401", "BF2411", "BF2501"),
+                buscarCuponsPorPrefixoUseCase.execute("BF2??1", null, null).codes());
+        assertEquals(List.of("BF2401", "BF2411", "BF2501", "XY2401"),
+                buscarCuponsPorPrefixoUseCase.execute("*1", null, null).codes());
+        assertEquals(List.of("BF2401", "XY2401"),
+                buscarCuponsPorPrefixoUseCase.execute("*2401", null, null).codes());
+    }
+
+    @Test
+    @DisplayName("deve limitar o tamanho da página ao máximo permitido")
+    void shouldClampPageSize() {
+        SearchPage page = buscarCuponsPorPrefixoUseCase.execute("BF", null, 0);
+
+        assertEquals(List.of("BF2401"), page.codes());
+        assertTrue(page.hasMore());
+    }
+
+    @Test
+    @DisplayName("deve rejeitar padrões inválidos")
+    void shouldRejectInvalidPatterns() {
+        assertThrows(InvalidSearchPatternException.class, () -> buscarCuponsPorPrefixoUseCase.execute("", null, null));
+        assertThrows(InvalidSearchPatternException.class, () -> buscarCuponsPorPrefixoUseCase.execute("BF-24", null, null));
+        assertThrows(InvalidSearchPatternException.class, () -> buscarCuponsPorPrefixoUseCase.execute("ABCDEFG", null, null));
+        assertThrows(InvalidSearchPatternException.class, () -> buscarCuponsPorPrefixoUseCase.execute(null, null, null));
+    }
+}
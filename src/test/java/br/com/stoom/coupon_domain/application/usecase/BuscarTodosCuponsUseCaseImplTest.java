@@ -1,5 +1,6 @@
 package br.com.stoom.coupon_domain.application.usecase;
 
+import br.com.stoom.coupon_domain.domain.model.CatalogVersion;
 import br.com.stoom.coupon_domain.domain.model.Coupon;
 import br.com.stoom.coupon_domain.domain.model.CouponCode;
 import br.com.stoom.coupon_domain.domain.model.DiscountValue;
@@ -18,6 +19,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,6 +29,9 @@ import static org.mockito.Mockito.*;
 @DisplayName("BuscarTodosCuponsUseCase")
 class BuscarTodosCuponsUseCaseImplTest {
 
+    @Mock
+    private CouponReadModel couponReadModel;
+
     @Mock
     private CouponRepository couponRepository;
 
@@ -49,26 +54,42 @@ class BuscarTodosCuponsUseCaseImplTest {
     class SuccessScenarios {
 
         @Test
-        @DisplayName("deve retornar lista de cupons")
-        void shouldReturnCouponList() {
+        @DisplayName("deve retornar a lista do snapshot sem consultar o banco")
+        void shouldReturnCouponListFromReadModel() {
             List<Coupon> coupons = List.of(createCoupon("CUP001"), createCoupon("CUP002"));
-            when(couponRepository.findAll()).thenReturn(coupons);
+            CatalogVersion version = new CatalogVersion(2);
+            when(couponReadModel.findAll(version)).thenReturn(Optional.of(coupons));
 
-            List<Coupon> result = buscarTodosCuponsUseCase.execute();
+            List<Coupon> result = buscarTodosCuponsUseCase.execute(version);
 
             assertEquals(2, result.size());
-            verify(couponRepository).findAll();
+            verifyNoInteractions(couponRepository);
+        }
+
+        @Test
+        @DisplayName("deve ler do banco uma única vez quando o snapshot está atrás da versão")
+        void shouldFallBackToDatabaseWhenSnapshotIsBehindVersion() {
+            CatalogVersion version = new CatalogVersion(3);
+            when(couponReadModel.findAll(version)).thenReturn(Optional.empty());
+            when(couponRepository.findAll()).thenReturn(List.of(createCoupon("CUP001")));
+
+            List<Coupon> result = buscarTodosCuponsUseCase.execute(version);
+
+            assertEquals(1, result.size());
+            verify(couponRepository, times(1)).findAll();
+            verify(couponRepository, never()).findCatalogVersion();
         }
 
         @Test
         @DisplayName("deve retornar lista vazia quando não há cupons")
         void shouldReturnEmptyListWhenNoCoupons() {
-            when(couponRepository.findAll()).thenReturn(Collections.emptyList());
+            CatalogVersion version = new CatalogVersion(0);
+            when(couponReadModel.findAll(version)).thenReturn(Optional.of(Collections.emptyList()));
 
-            List<Coupon> result = buscarTodosCuponsUseCase.execute();
+            List<Coupon> result = buscarTodosCuponsUseCase.execute(version);
 
             assertTrue(result.isEmpty());
-            verify(couponRepository).findAll();
+            verify(couponReadModel).findAll(version);
         }
     }
 }
@@ -0,0 +1,34 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.CatalogVersion;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BuscarVersaoCatalogoUseCase")
+class BuscarVersaoCatalogoUseCaseImplTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @InjectMocks
+    private BuscarVersaoCatalogoUseCaseImpl buscarVersaoCatalogoUseCase;
+
+    @Test
+    @DisplayName("deve retornar a versão do catálogo do repositório")
+    void shouldReturnCatalogVersionFromRepository() {
+        CatalogVersion version = new CatalogVersion(3);
+        when(couponRepository.findCatalogVersion()).thenReturn(version);
+
+        assertEquals(version, buscarVersaoCatalogoUseCase.execute());
+        verify(couponRepository).findCatalogVersion();
+    }
+}
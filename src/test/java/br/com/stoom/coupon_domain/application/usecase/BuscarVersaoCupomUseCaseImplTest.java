@@ -0,0 +1,62 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BuscarVersaoCupomUseCase")
+class BuscarVersaoCupomUseCaseImplTest {
+
+    @Mock
+    private CouponReadModel couponReadModel;
+
+    @Mock
+    private CouponLookupCoalescer couponLookupCoalescer;
+
+    @InjectMocks
+    private BuscarVersaoCupomUseCaseImpl buscarVersaoCupomUseCase;
+
+    @Test
+    @DisplayName("deve retornar a versão do snapshot sem consultar o banco")
+    void shouldReturnSnapshotVersionWithoutQueryingDatabase() {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        when(couponReadModel.findVersion("ABC123")).thenReturn(Optional.of(updatedAt));
+
+        Optional<LocalDateTime> result = buscarVersaoCupomUseCase.execute("abc123");
+
+        assertEquals(Optional.of(updatedAt), result);
+        verifyNoInteractions(couponLookupCoalescer);
+    }
+
+    @Test
+    @DisplayName("deve retornar a data de atualização normalizando o código")
+    void shouldReturnUpdatedAtWithNormalizedCode() {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        when(couponReadModel.findVersion("ABC123")).thenReturn(Optional.empty());
+        when(couponLookupCoalescer.findUpdatedAtByCode("ABC123")).thenReturn(Optional.of(updatedAt));
+
+        Optional<LocalDateTime> result = buscarVersaoCupomUseCase.execute("abc123");
+
+        assertEquals(Optional.of(updatedAt), result);
+        verify(couponLookupCoalescer).findUpdatedAtByCode("ABC123");
+    }
+
+    @Test
+    @DisplayName("deve retornar vazio quando cupom não existe")
+    void shouldReturnEmptyWhenCouponDoesNotExist() {
+        when(couponReadModel.findVersion("XYZ999")).thenReturn(Optional.empty());
+        when(couponLookupCoalescer.findUpdatedAtByCode("XYZ999")).thenReturn(Optional.empty());
+
+        assertTrue(buscarVersaoCupomUseCase.execute("XYZ999").isEmpty());
+    }
+}
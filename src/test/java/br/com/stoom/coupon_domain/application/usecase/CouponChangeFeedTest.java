@@ -0,0 +1,120 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.adapter.out.persistence.CouponAdapter;
+import br.com.stoom.coupon_domain.adapter.out.persistence.CouponEntity;
+import br.com.stoom.coupon_domain.adapter.out.persistence.CouponJpaRepository;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(CouponAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CouponChangeFeed")
+class CouponChangeFeedTest {
+
+    private static final Duration SETTLE_WINDOW = Duration.ofSeconds(5);
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID INITIAL_ID = new UUID(0L, 0L);
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponJpaRepository couponJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService writers = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        writers.shutdownNow();
+        couponJpaRepository.deleteAllInBatch();
+    }
+
+    private CouponChangeFeed feedAt(LocalDateTime now) {
+        ZoneId zone = ZoneId.systemDefault();
+        return new CouponChangeFeed(couponRepository, Clock.fixed(now.atZone(zone).toInstant(), zone), SETTLE_WINDOW);
+    }
+
+    private static CouponEntity entity(String code) {
+        return new CouponEntity(UUID.randomUUID(), code, "Cupom " + code, new BigDecimal("10.00"),
+                LocalDate.now().plusDays(30), true, false, null, LocalDateTime.now());
+    }
+
+    private static List<String> codes(List<CouponChange> changes) {
+        return changes.stream().map(change -> change.coupon().getCode().value()).toList();
+    }
+
+    @Test
+    @DisplayName("não deve pular a transação confirmada depois de outra carimbada mais tarde")
+    void shouldNotSkipTransactionCommittedAfterLaterStampedOne() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch flushed = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        Future<?> slow = writers.submit(() -> transaction.executeWithoutResult(status -> {
+            couponJpaRepository.saveAndFlush(entity("SLOW01"));
+            flushed.countDown();
+            try {
+                commit.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        Thread.sleep(2);
+        transaction.executeWithoutResult(status -> couponJpaRepository.saveAndFlush(entity("FAST01")));
+        LocalDateTime fastStamp = couponRepository.findUpdatedAtByCode("FAST01").orElseThrow();
+
+        // Read right after FAST01 commits: a plain watermark would move past SLOW01 for good.
+        assertEquals(List.of("FAST01"),
+                codes(couponRepository.findChangedSince(INITIAL_WATERMARK, INITIAL_ID, fastStamp, 100)));
+        assertTrue(feedAt(fastStamp).findChangedSince(INITIAL_WATERMARK, INITIAL_ID, 100).isEmpty());
+
+        commit.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("SLOW01", "FAST01"),
+                codes(feedAt(fastStamp.plus(SETTLE_WINDOW)).findChangedSince(INITIAL_WATERMARK, INITIAL_ID, 100)));
+    }
+
+    @Test
+    @DisplayName("deve entregar só as alterações mais antigas que a janela de assentamento")
+    void shouldOnlyServeSettledChanges() {
+        couponJpaRepository.saveAndFlush(entity("OLD001"));
+        LocalDateTime stamp = couponRepository.findUpdatedAtByCode("OLD001").orElseThrow();
+
+        assertTrue(feedAt(stamp.plus(SETTLE_WINDOW).minusNanos(1000))
+                .findChangedSince(INITIAL_WATERMARK, INITIAL_ID, 100).isEmpty());
+        assertEquals(List.of("OLD001"),
+                codes(feedAt(stamp.plus(SETTLE_WINDOW)).findChangedSince(INITIAL_WATERMARK, INITIAL_ID, 100)));
+    }
+}
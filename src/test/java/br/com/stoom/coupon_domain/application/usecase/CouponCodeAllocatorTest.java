@@ -0,0 +1,177 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.model.CouponCode;
+import br.com.stoom.coupon_domain.domain.model.CouponsArchivedEvent;
+import br.com.stoom.coupon_domain.domain.model.DiscountValue;
+import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponCodeAllocator")
+class CouponCodeAllocatorTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponChangeFeed changeFeed;
+
+    private Coupon couponWithCode(String code) {
+        return Coupon.reconstitute(
+                UUID.randomUUID(),
+                CouponCode.reconstitute(code),
+                "Cupom",
+                DiscountValue.reconstitute(new BigDecimal("10.00")),
+                ExpirationDate.reconstitute(LocalDate.now().plusDays(30)),
+                false, false, null, LocalDateTime.now()
+        );
+    }
+
+    private static RandomGenerator fixedRandom(long value) {
+        return new RandomGenerator() {
+            @Override
+            public long nextLong() {
+                return value;
+            }
+
+            @Override
+            public long nextLong(long bound) {
+                return value;
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("Empacotamento")
+    class Packing {
+
+        @Test
+        @DisplayName("deve empacotar e desempacotar códigos em base 36")
+        void shouldRoundTripCodes() {
+            assertEquals(0, CouponCodeAllocator.pack("000000"));
+            assertEquals(CouponCodeAllocator.CODE_SPACE - 1, CouponCodeAllocator.pack("ZZZZZZ"));
+            assertEquals("ABC123", CouponCodeAllocator.unpack(CouponCodeAllocator.pack("ABC123")));
+            assertEquals(CouponCodeAllocator.pack("ABC123"), CouponCodeAllocator.pack("abc123"));
+        }
+
+        @Test
+        @DisplayName("deve ignorar códigos fora do formato")
+        void shouldRejectMalformedCodes() {
+            assertEquals(-1, CouponCodeAllocator.pack("ABC12"));
+            assertEquals(-1, CouponCodeAllocator.pack("ABC-12"));
+            assertEquals(-1, CouponCodeAllocator.pack(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Alocação")
+    class Allocation {
+
+        @BeforeEach
+        void setUp() {
+            lenient().when(changeFeed.settledBefore()).thenReturn(LocalDateTime.now().minusSeconds(5));
+            lenient().when(couponRepository.findCodesAfter(anyString(), anyInt())).thenReturn(List.of());
+            lenient().when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of());
+        }
+
+        @Test
+        @DisplayName("deve gerar códigos únicos e válidos")
+        void shouldGenerateUniqueValidCodes() {
+            CouponCodeAllocator allocator = new CouponCodeAllocator(couponRepository, changeFeed);
+
+            List<String> codes = allocator.allocate(1000);
+
+            assertEquals(1000, new HashSet<>(codes).size());
+            codes.forEach(code -> assertEquals(code, CouponCode.of(code).value()));
+            assertEquals(1000, allocator.allocatedCount());
+        }
+
+        @Test
+        @DisplayName("deve carregar códigos existentes uma única vez")
+        void shouldLoadExistingCodesOnce() {
+            when(couponRepository.findCodesAfter("", 10_000)).thenReturn(List.of("ABC123", "XYZ789"));
+            CouponCodeAllocator allocator = new CouponCodeAllocator(couponRepository, changeFeed);
+
+            allocator.allocate(1);
+            allocator.allocate(1);
+
+            assertTrue(allocator.isAllocated("ABC123"));
+            assertTrue(allocator.isAllocated("XYZ789"));
+            assertEquals(4, allocator.allocatedCount());
+            verify(couponRepository, times(1)).findCodesAfter(anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("deve pular para o próximo código livre quando o sorteado já existe")
+        void shouldSkipAllocatedCandidate() {
+            when(couponRepository.findCodesAfter("", 10_000)).thenReturn(List.of("ABC123"));
+            CouponCodeAllocator allocator = new CouponCodeAllocator(couponRepository, changeFeed,
+                    fixedRandom(CouponCodeAllocator.pack("ABC123")));
+
+            assertEquals(List.of("ABC124", "ABC125"), allocator.allocate(2));
+        }
+
+        @Test
+        @DisplayName("deve voltar ao início do espaço quando não há códigos livres acima do sorteado")
+        void shouldWrapAroundCodeSpace() {
+            when(couponRepository.findCodesAfter("", 10_000)).thenReturn(List.of("ZZZZZZ"));
+            CouponCodeAllocator allocator = new CouponCodeAllocator(couponRepository, changeFeed,
+                    fixedRandom(CouponCodeAllocator.CODE_SPACE - 1));
+
+            assertEquals(List.of("000000"), allocator.allocate(1));
+        }
+
+        @Test
+        @DisplayName("deve liberar códigos arquivados")
+        void shouldReleaseArchivedCodes() {
+            when(couponRepository.findCodesAfter("", 10_000)).thenReturn(List.of("ABC123", "XYZ789"));
+            CouponCodeAllocator allocator = new CouponCodeAllocator(couponRepository, changeFeed);
+            allocator.allocate(1);
+
+            allocator.onCouponsArchived(new CouponsArchivedEvent(Map.of("ABC123", UUID.randomUUID())));
+
+            assertFalse(allocator.isAllocated("ABC123"));
+            assertTrue(allocator.isAllocated("XYZ789"));
+            assertEquals(2, allocator.allocatedCount());
+        }
+
+        @Test
+        @DisplayName("deve incorporar cupons criados após a carga inicial")
+        void shouldApplyChangesCreatedAfterLoad() {
+            Coupon created = couponWithCode("NEW001");
+            when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                    .thenReturn(List.of())
+                    .thenReturn(List.of(new CouponChange(created, LocalDateTime.now())))
+                    .thenReturn(List.of());
+            CouponCodeAllocator allocator = new CouponCodeAllocator(couponRepository, changeFeed);
+
+            allocator.allocate(1);
+            assertFalse(allocator.isAllocated("NEW001"));
+
+            allocator.allocate(1);
+            assertTrue(allocator.isAllocated("NEW001"));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.model.CouponCode;
+import br.com.stoom.coupon_domain.domain.model.CouponCreatedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponDeletedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponExpiredEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponsArchivedEvent;
+import br.com.stoom.coupon_domain.domain.model.DiscountValue;
+import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponCodeIndex")
+class CouponCodeIndexTest {
+
+    @Mock
+    private CouponChangeFeed changeFeed;
+
+    private CouponCodeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CouponCodeIndex(changeFeed);
+    }
+
+    private CouponChange change(String code, boolean deleted) {
+        return change(code, LocalDate.now().plusDays(30), deleted);
+    }
+
+    private CouponChange change(String code, LocalDate expiration, boolean deleted) {
+        Coupon coupon = Coupon.reconstitute(
+                UUID.randomUUID(),
+                CouponCode.reconstitute(code),
+                "Cupom",
+                DiscountValue.reconstitute(new BigDecimal("10.00")),
+                ExpirationDate.reconstitute(expiration),
+                true, deleted, deleted ? LocalDateTime.now() : null, LocalDateTime.now()
+        );
+        return new CouponChange(coupon, LocalDateTime.now());
+    }
+
+    private static CouponCreatedEvent created(String code) {
+        return created(code, LocalDate.now().plusDays(30));
+    }
+
+    private static CouponCreatedEvent created(String code, LocalDate expiration) {
+        return new CouponCreatedEvent(UUID.randomUUID(), code, "Cupom", new BigDecimal("10.00"),
+                expiration, true, LocalDateTime.now());
+    }
+
+    private static CouponDeletedEvent deleted(String code) {
+        return new CouponDeletedEvent(UUID.randomUUID(), code, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("deve carregar o índice pelo feed de alterações na primeira busca")
+    void shouldLoadFromChangeFeedOnFirstSearch() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("BF2402", false), change("BF2401", false), change("XY0001", false)));
+
+        assertEquals(List.of("BF2401", "BF2402"), index.search("BF24", code -> true, null, 10));
+        index.search("BF24", code -> true, null, 10);
+
+        verify(changeFeed, times(1)).findChangedSince(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("deve remover do índice cupons excluídos no feed")
+    void shouldRemoveDeletedCouponsFromChangeFeed() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("BF2401", false), change("BF2402", false)))
+                .thenReturn(List.of(change("BF2401", true)));
+
+        index.refresh();
+        index.refresh();
+
+        assertEquals(List.of("BF2402"), index.search("BF", code -> true, null, 10));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("deve refletir criações e exclusões imediatamente")
+    void shouldApplyCreatesAndDeletesImmediately() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of());
+        index.refresh();
+
+        index.onCouponCreated(created("BF2401"));
+        index.onCouponCreated(created("BF2402"));
+        index.onCouponDeleted(deleted("BF2401"));
+
+        assertEquals(List.of("BF2402"), index.search("BF24", code -> true, null, 10));
+    }
+
+    @Test
+    @DisplayName("deve retirar do índice códigos que expiraram")
+    void shouldRemoveExpiredCodes() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("BF2401", false), change("BF2402", false)));
+        index.refresh();
+
+        index.onCouponExpired(new CouponExpiredEvent("BF2401", LocalDate.now().minusDays(1)));
+
+        assertEquals(List.of("BF2402"), index.search("BF24", code -> true, null, 10));
+    }
+
+    @Test
+    @DisplayName("não deve retornar códigos expirados")
+    void shouldNotReturnExpiredCodes() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of(
+                change("BF2401", LocalDate.now().minusDays(1), false),
+                change("BF2402", LocalDate.now(), false)));
+        index.refresh();
+        // Indexed while still valid and expired before the scheduler evicted it.
+        index.onCouponCreated(created("BF2403", LocalDate.now().minusDays(1)));
+
+        assertEquals(List.of("BF2402"), index.search("BF24", code -> true, null, 10));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("deve retirar do índice códigos arquivados")
+    void shouldRemoveArchivedCodes() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("BF2401", true), change("BF2402", false)));
+        index.refresh();
+        index.onCouponCreated(created("BF2403"));
+
+        index.onCouponsArchived(new CouponsArchivedEvent(Map.of(
+                "BF2401", UUID.randomUUID(), "BF2403", UUID.randomUUID())));
+
+        assertEquals(List.of("BF2402"), index.search("BF24", code -> true, null, 10));
+    }
+
+    @Test
+    @DisplayName("deve paginar a partir do código informado e respeitar o limite")
+    void shouldPageFromCursorAndRespectLimit() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of());
+        index.refresh();
+        List.of("BF2401", "BF2402", "BF2403", "BF2501", "BF2399")
+                .forEach(code -> index.onCouponCreated(created(code)));
+
+        assertEquals(List.of("BF2401", "BF2402"), index.search("BF24", code -> true, null, 2));
+        assertEquals(List.of("BF2403"), index.search("BF24", code -> true, "BF2402", 2));
+        assertEquals(List.of("BF2401"), index.search("BF24", code -> true, "AAAAAA", 1));
+    }
+
+    @Test
+    @DisplayName("deve aplicar o filtro dentro do intervalo do prefixo")
+    void shouldApplyFilterWithinPrefixRange() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of());
+        index.refresh();
+        List.of("BF2401", "BF2412", "BF2421")
+                .forEach(code -> index.onCouponCreated(created(code)));
+
+        assertEquals(List.of("BF2401", "BF2421"), index.search("BF24", code -> code.endsWith("1"), null, 10));
+    }
+}
@@ -0,0 +1,181 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.model.CouponCode;
+import br.com.stoom.coupon_domain.domain.model.CouponCreatedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponDeletedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponExpiredEvent;
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatch;
+import br.com.stoom.coupon_domain.domain.model.DescriptionMatches;
+import br.com.stoom.coupon_domain.domain.model.DiscountValue;
+import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponDescriptionIndex")
+class CouponDescriptionIndexTest {
+
+    @Mock
+    private CouponChangeFeed changeFeed;
+
+    private CouponDescriptionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CouponDescriptionIndex(changeFeed);
+    }
+
+    private Coupon coupon(String code, String description, boolean deleted) {
+        return coupon(code, description, LocalDate.now().plusDays(30), deleted);
+    }
+
+    private Coupon coupon(String code, String description, LocalDate expiration, boolean deleted) {
+        return Coupon.reconstitute(
+                UUID.randomUUID(),
+                CouponCode.reconstitute(code),
+                description,
+                DiscountValue.reconstitute(new BigDecimal("10.00")),
+                ExpirationDate.reconstitute(expiration),
+                true, deleted, deleted ? LocalDateTime.now() : null, LocalDateTime.now()
+        );
+    }
+
+    private CouponChange change(String code, String description, boolean deleted) {
+        return new CouponChange(coupon(code, description, deleted), LocalDateTime.now());
+    }
+
+    private static List<String> codes(DescriptionMatches matches) {
+        return matches.matches().stream().map(DescriptionMatch::code).toList();
+    }
+
+    @Test
+    @DisplayName("deve exigir todos os termos e ordenar por relevância")
+    void shouldRequireAllTermsAndRankByRelevance() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of(
+                change("BF0001", "Black Friday 20 off sapatos", false),
+                change("BF0002", "Black Friday sapatos sapatos", false),
+                change("BF0003", "Black Friday eletrônicos", false),
+                change("NT0001", "Natal sapatos", false)
+        )).thenReturn(List.of());
+
+        DescriptionMatches matches = index.search(List.of("black", "sapatos"), 0, 10);
+
+        assertEquals(List.of("BF0002", "BF0001"), codes(matches));
+        assertEquals(2, matches.total());
+        assertTrue(matches.matches().get(0).score() > matches.matches().get(1).score());
+        assertEquals("Black Friday sapatos sapatos", matches.matches().get(0).description());
+    }
+
+    @Test
+    @DisplayName("deve encontrar termos independentemente de acentos")
+    void shouldMatchRegardlessOfAccents() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("VR0001", "Promoção de verão", false)))
+                .thenReturn(List.of());
+
+        assertEquals(List.of("VR0001"), codes(index.search(DescriptionTokenizer.tokenize("PROMOCAO Verão"), 0, 10)));
+    }
+
+    @Test
+    @DisplayName("deve paginar os resultados mantendo o total")
+    void shouldPageResults() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of(
+                change("AA0001", "Cupom frete", false),
+                change("AA0002", "Cupom frete", false),
+                change("AA0003", "Cupom frete", false)
+        )).thenReturn(List.of());
+
+        DescriptionMatches second = index.search(List.of("frete"), 2, 2);
+
+        assertEquals(List.of("AA0003"), codes(second));
+        assertEquals(3, second.total());
+        assertEquals(List.of(), index.search(List.of("frete"), 10, 2).matches());
+    }
+
+    @Test
+    @DisplayName("deve retirar do índice cupons excluídos")
+    void shouldDropDeletedCoupons() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("AA0001", "Cupom frete", false), change("AA0002", "Cupom frete", false)))
+                .thenReturn(List.of(change("AA0001", "Cupom frete", true)));
+
+        index.refresh();
+        index.refresh();
+
+        assertEquals(List.of("AA0002"), codes(index.search(List.of("frete"), 0, 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("não deve retornar cupons expirados")
+    void shouldNotReturnExpiredCoupons() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of(
+                new CouponChange(coupon("AA0001", "Cupom frete", LocalDate.now().minusDays(1), false),
+                        LocalDateTime.now()),
+                change("AA0002", "Cupom frete", false)
+        ));
+        index.refresh();
+        // Indexed while still valid and expired before the scheduler evicted it.
+        index.onCouponCreated(CouponCreatedEvent.from(
+                coupon("AA0003", "Cupom frete", LocalDate.now().minusDays(1), false)));
+
+        DescriptionMatches matches = index.search(List.of("frete"), 0, 10);
+
+        assertEquals(List.of("AA0002"), codes(matches));
+        assertEquals(1, matches.total());
+    }
+
+    @Test
+    @DisplayName("deve retirar do índice cupons que expiraram")
+    void shouldDropExpiredCoupons() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("AA0001", "Cupom frete", false), change("AA0002", "Cupom frete", false)));
+        index.refresh();
+
+        index.onCouponExpired(new CouponExpiredEvent("AA0001", LocalDate.now().minusDays(1)));
+
+        assertEquals(List.of("AA0002"), codes(index.search(List.of("frete"), 0, 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("deve aplicar criações e exclusões somente após o índice carregado")
+    void shouldApplyHooksOnlyOnceLoaded() {
+        index.onCouponCreated(CouponCreatedEvent.from(coupon("AA0001", "Cupom frete", false)));
+        assertEquals(0, index.size());
+
+        when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of());
+        index.refresh();
+        index.onCouponCreated(CouponCreatedEvent.from(coupon("AA0002", "Cupom frete grátis", false)));
+        index.onCouponCreated(CouponCreatedEvent.from(coupon("AA0003", "Cupom frete", false)));
+        index.onCouponDeleted(CouponDeletedEvent.from(coupon("AA0003", "Cupom frete", true)));
+
+        assertEquals(List.of("AA0002"), codes(index.search(List.of("frete", "gratis"), 0, 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("não deve carregar o índice no agendamento antes da primeira busca")
+    void shouldNotLoadOnScheduleBeforeFirstSearch() {
+        index.refreshIfLoaded();
+
+        verifyNoInteractions(changeFeed);
+    }
+}
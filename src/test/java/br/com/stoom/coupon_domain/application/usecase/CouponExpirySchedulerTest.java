@@ -0,0 +1,138 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.model.CouponCode;
+import br.com.stoom.coupon_domain.domain.model.CouponExpiredEvent;
+import br.com.stoom.coupon_domain.domain.model.DiscountValue;
+import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponExpiryScheduler")
+class CouponExpirySchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 10);
+
+    @Mock
+    private CouponChangeFeed changeFeed;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MutableClock clock;
+    private CouponExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC));
+        scheduler = new CouponExpiryScheduler(changeFeed, eventPublisher, clock);
+    }
+
+    private CouponChange change(String code, LocalDate expiration, boolean deleted) {
+        Coupon coupon = Coupon.reconstitute(
+                UUID.randomUUID(),
+                CouponCode.reconstitute(code),
+                "Cupom",
+                DiscountValue.reconstitute(new BigDecimal("10.00")),
+                ExpirationDate.reconstitute(expiration),
+                true, deleted, deleted ? LocalDateTime.now() : null, LocalDateTime.now()
+        );
+        return new CouponChange(coupon, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("deve publicar evento no dia seguinte à data de expiração")
+    void shouldPublishEventAfterExpirationDate() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("EXP001", TODAY, false), change("EXP002", TODAY.plusDays(40), false)))
+                .thenReturn(List.of());
+
+        scheduler.tick();
+        assertEquals(2, scheduler.scheduledCount());
+        verifyNoInteractions(eventPublisher);
+
+        clock.setInstant(TODAY.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC));
+        scheduler.tick();
+
+        verify(eventPublisher).publishEvent(new CouponExpiredEvent("EXP001", TODAY));
+        assertEquals(1, scheduler.scheduledCount());
+    }
+
+    @Test
+    @DisplayName("deve cancelar agendamento de cupom excluído")
+    void shouldCancelDeletedCoupon() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("DEL001", TODAY, false)))
+                .thenReturn(List.of(change("DEL001", TODAY, true)));
+
+        scheduler.tick();
+        scheduler.tick();
+        clock.setInstant(TODAY.plusDays(2).atStartOfDay().toInstant(ZoneOffset.UTC));
+        scheduler.tick();
+
+        assertEquals(0, scheduler.scheduledCount());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("não deve agendar cupons já expirados")
+    void shouldIgnoreAlreadyExpiredCoupons() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("OLD001", TODAY.minusDays(1), false)))
+                .thenReturn(List.of());
+
+        scheduler.tick();
+
+        assertEquals(0, scheduler.scheduledCount());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void setInstant(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
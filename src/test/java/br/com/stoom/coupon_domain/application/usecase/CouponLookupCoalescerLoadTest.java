@@ -0,0 +1,109 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+// Every repository call borrows one pooled connection, so the calls counted here are the connections the
+// lookup path takes from Hikari for the same burst of GETs.
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponLookupCoalescer sob carga")
+class CouponLookupCoalescerLoadTest {
+
+    private static final int CLIENTS = 64;
+    private static final int LOOKUPS = 2_000;
+    private static final int CODES = 200;
+    private static final int WORKERS = 4;
+    private static final LocalDateTime VERSION = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private final ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+    private final ThreadPoolTaskExecutor workers = new ThreadPoolTaskExecutor();
+    private final AtomicInteger queries = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        clients.shutdownNow();
+        workers.shutdown();
+    }
+
+    private CouponLookupCoalescer coalescer(int maxBatchSize) {
+        workers.setCorePoolSize(WORKERS);
+        workers.setMaxPoolSize(WORKERS);
+        workers.setQueueCapacity(256);
+        workers.initialize();
+        when(couponRepository.findUpdatedAtByCodes(anyCollection())).thenAnswer(invocation -> {
+            queries.incrementAndGet();
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(2);
+                Map<String, LocalDateTime> versions = new HashMap<>();
+                for (String code : invocation.<Collection<String>>getArgument(0)) {
+                    versions.put(code, VERSION);
+                }
+                return versions;
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+        return new CouponLookupCoalescer(couponRepository, workers, Duration.ofSeconds(30), maxBatchSize,
+                Duration.ZERO);
+    }
+
+    private int burst(CouponLookupCoalescer coalescer) throws Exception {
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < LOOKUPS; i++) {
+            String code = String.format("C%05d", i % CODES);
+            results.add(clients.submit(() ->
+                    assertEquals(VERSION, coalescer.findUpdatedAtByCode(code).orElseThrow())));
+        }
+        for (Future<?> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+        return queries.get();
+    }
+
+    @Test
+    @DisplayName("deve consultar uma conexão por código sem agrupamento")
+    void shouldQueryOncePerLoadWithoutBatching() throws Exception {
+        int used = burst(coalescer(1));
+
+        assertTrue(used > LOOKUPS / 2, "consultas: " + used);
+        assertTrue(maxRunning.get() <= WORKERS);
+    }
+
+    @Test
+    @DisplayName("deve usar uma fração das conexões agrupando as consultas de versão")
+    void shouldUseFractionOfConnectionsWhenBatching() throws Exception {
+        int used = burst(coalescer(64));
+
+        assertTrue(used < LOOKUPS / 5, "consultas: " + used);
+        assertTrue(maxRunning.get() <= WORKERS);
+    }
+}
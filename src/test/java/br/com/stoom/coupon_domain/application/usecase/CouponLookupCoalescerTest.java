@@ -0,0 +1,179 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.exception.CouponLookupTimeoutException;
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponCode;
+import br.com.stoom.coupon_domain.domain.model.DiscountValue;
+import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponLookupCoalescer")
+class CouponLookupCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+    private final ExecutorService loaders = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        loaders.shutdownNow();
+    }
+
+    private CouponLookupCoalescer coalescer(Duration timeout, Duration window) {
+        return new CouponLookupCoalescer(couponRepository, loaders, timeout, 64, window);
+    }
+
+    private Coupon createCoupon(String code) {
+        return Coupon.reconstitute(
+                UUID.randomUUID(),
+                CouponCode.reconstitute(code),
+                "Cupom teste",
+                DiscountValue.reconstitute(new BigDecimal("10.00")),
+                ExpirationDate.reconstitute(LocalDate.now().plusDays(30)),
+                true, false, null, LocalDateTime.now().minusDays(5)
+        );
+    }
+
+    private List<Future<Optional<Coupon>>> startCallers(CouponLookupCoalescer coalescer, List<String> codes) {
+        List<Future<Optional<Coupon>>> results = new ArrayList<>();
+        for (String code : codes) {
+            results.add(callers.submit(() -> coalescer.findByCode(code)));
+        }
+        return results;
+    }
+
+    @Test
+    @DisplayName("deve compartilhar uma única consulta entre chamadas concorrentes do mesmo código")
+    void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        when(couponRepository.findAllByCodes(anyCollection())).thenReturn(List.of(createCoupon("ABC123")));
+        CouponLookupCoalescer coalescer = coalescer(Duration.ofSeconds(5), Duration.ofMillis(200));
+
+        List<Future<Optional<Coupon>>> results = startCallers(coalescer, List.of(
+                "ABC123", "ABC123", "ABC123", "ABC123", "ABC123", "ABC123", "ABC123", "ABC123"));
+
+        for (Future<Optional<Coupon>> result : results) {
+            assertEquals("ABC123", result.get(5, TimeUnit.SECONDS).orElseThrow().getCode().value());
+        }
+        verify(couponRepository, times(1)).findAllByCodes(Set.of("ABC123"));
+        verify(couponRepository, never()).findByCode(any());
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    @DisplayName("deve resolver códigos diferentes da mesma janela com uma consulta IN")
+    void shouldBatchDifferentCodesIntoOneQuery() throws Exception {
+        when(couponRepository.findAllByCodes(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> codes = invocation.getArgument(0);
+            return codes.stream().filter(code -> !code.equals("NOP000")).map(this::createCoupon).toList();
+        });
+        CouponLookupCoalescer coalescer = coalescer(Duration.ofSeconds(5), Duration.ofMillis(200));
+
+        List<Future<Optional<Coupon>>> results = startCallers(coalescer, List.of("AAA111", "BBB222", "NOP000"));
+
+        assertEquals("AAA111", results.get(0).get(5, TimeUnit.SECONDS).orElseThrow().getCode().value());
+        assertEquals("BBB222", results.get(1).get(5, TimeUnit.SECONDS).orElseThrow().getCode().value());
+        assertTrue(results.get(2).get(5, TimeUnit.SECONDS).isEmpty());
+        verify(couponRepository, times(1)).findAllByCodes(Set.of("AAA111", "BBB222", "NOP000"));
+    }
+
+    @Test
+    @DisplayName("deve propagar a falha da consulta para todas as chamadas em espera")
+    void shouldPropagateFailureToWaitingCallers() throws Exception {
+        when(couponRepository.findAllByCodes(anyCollection())).thenThrow(new IllegalStateException("banco indisponível"));
+        CouponLookupCoalescer coalescer = coalescer(Duration.ofSeconds(5), Duration.ofMillis(100));
+
+        List<Future<Optional<Coupon>>> results = startCallers(coalescer, List.of("ABC123", "ABC123", "XYZ789"));
+
+        for (Future<Optional<Coupon>> result : results) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, ex.getCause());
+        }
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    @DisplayName("deve desistir de esperar após o timeout sem cancelar a consulta em andamento")
+    void shouldTimeOutWaitingCallers() throws Exception {
+        CountDownLatch loaded = new CountDownLatch(1);
+        when(couponRepository.findAllByCodes(anyCollection())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            loaded.countDown();
+            return List.of(createCoupon("ABC123"));
+        });
+        CouponLookupCoalescer coalescer = coalescer(Duration.ofMillis(50), Duration.ZERO);
+
+        List<Future<Optional<Coupon>>> results = startCallers(coalescer, List.of("ABC123", "ABC123"));
+
+        for (Future<Optional<Coupon>> result : results) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(CouponLookupTimeoutException.class, ex.getCause());
+        }
+        release.countDown();
+        assertTrue(loaded.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("não deve reaproveitar o resultado depois que a consulta termina")
+    void shouldNotCacheCompletedLoads() {
+        when(couponRepository.findUpdatedAtByCodes(anyCollection()))
+                .thenReturn(Map.of("ABC123", LocalDateTime.of(2026, 1, 1, 10, 0)))
+                .thenReturn(Map.of("ABC123", LocalDateTime.of(2026, 1, 1, 11, 0)))
+                .thenReturn(Map.of());
+        CouponLookupCoalescer coalescer = coalescer(Duration.ofSeconds(1), Duration.ZERO);
+
+        assertEquals(10, coalescer.findUpdatedAtByCode("ABC123").orElseThrow().getHour());
+        assertEquals(11, coalescer.findUpdatedAtByCode("ABC123").orElseThrow().getHour());
+        assertTrue(coalescer.findUpdatedAtByCode("ABC123").isEmpty());
+        verify(couponRepository, times(3)).findUpdatedAtByCodes(Set.of("ABC123"));
+    }
+
+    @Test
+    @DisplayName("deve responder indisponível e liberar a consulta quando o pool recusa o lote")
+    void shouldReleaseLoadWhenExecutorRejects() {
+        CouponLookupCoalescer coalescer = new CouponLookupCoalescer(couponRepository, task -> {
+            throw new TaskRejectedException("fila cheia");
+        }, Duration.ofSeconds(5), 64, Duration.ZERO);
+
+        assertThrows(CouponLookupTimeoutException.class, () -> coalescer.findUpdatedAtByCode("ABC123"));
+
+        assertEquals(0, coalescer.inFlight());
+        verifyNoInteractions(couponRepository);
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.CouponCreatedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponDeletedEvent;
+import br.com.stoom.coupon_domain.domain.port.CouponEventOutbox;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponOutboxRecorder")
+class CouponOutboxRecorderTest {
+
+    private static final UUID ID = UUID.fromString("7f1c1d2e-0000-4000-8000-000000000001");
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 6, 30, 12, 0);
+
+    @Mock
+    private CouponEventOutbox couponEventOutbox;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    @DisplayName("deve gravar a criação do cupom no outbox com o evento serializado")
+    void shouldAppendCreatedEvent() throws Exception {
+        CouponOutboxRecorder recorder = new CouponOutboxRecorder(couponEventOutbox, objectMapper);
+        CouponCreatedEvent event = new CouponCreatedEvent(ID, "ABC123", "Desconto", new BigDecimal("10.00"),
+                LocalDate.of(2026, 12, 31), true, AT);
+
+        recorder.onCouponCreated(event);
+
+        verify(couponEventOutbox).append(eq("CouponCreated"), eq(ID), eq("ABC123"),
+                argThat(payload -> readEquals(payload, CouponCreatedEvent.class, event)), eq(AT));
+    }
+
+    @Test
+    @DisplayName("deve gravar a exclusão do cupom no outbox")
+    void shouldAppendDeletedEvent() {
+        CouponOutboxRecorder recorder = new CouponOutboxRecorder(couponEventOutbox, objectMapper);
+        CouponDeletedEvent event = new CouponDeletedEvent(ID, "ABC123", AT);
+
+        recorder.onCouponDeleted(event);
+
+        verify(couponEventOutbox).append(eq("CouponDeleted"), eq(ID), eq("ABC123"),
+                argThat(payload -> readEquals(payload, CouponDeletedEvent.class, event)), eq(AT));
+    }
+
+    private <T> boolean readEquals(String payload, Class<T> type, T expected) {
+        try {
+            return objectMapper.readValue(payload, type).equals(expected);
+        } catch (Exception ex) {
+            return fail(ex);
+        }
+    }
+}
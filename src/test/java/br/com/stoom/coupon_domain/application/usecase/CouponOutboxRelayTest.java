@@ -0,0 +1,199 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.OutboxBatch;
+import br.com.stoom.coupon_domain.domain.model.OutboxMessage;
+import br.com.stoom.coupon_domain.domain.port.CouponEventOutbox;
+import br.com.stoom.coupon_domain.domain.port.CouponEventSink;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponOutboxRelay")
+class CouponOutboxRelayTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-06-30T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    @Mock
+    private CouponEventOutbox couponEventOutbox;
+
+    @Mock
+    private CouponEventSink firstSink;
+
+    @Mock
+    private CouponEventSink secondSink;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CouponOutboxRelay relay(int batchSize, int maxBatches) {
+        return new CouponOutboxRelay(couponEventOutbox, List.of(firstSink, secondSink),
+                TransactionOperations.withoutTransaction(), meterRegistry, CLOCK,
+                batchSize, maxBatches, Duration.ofDays(7),
+                Duration.ofMinutes(1), 3, Duration.ofSeconds(1), Duration.ofSeconds(3));
+    }
+
+    private static OutboxBatch batch(long from, long to) {
+        return batch(from, to, 1);
+    }
+
+    private static OutboxBatch batch(long from, long to, int attempts) {
+        return new OutboxBatch(messages(from, to), attempts);
+    }
+
+    private static List<OutboxMessage> messages(long from, long to) {
+        return LongStream.range(from, to)
+                .mapToObj(sequence -> new OutboxMessage(sequence, "CouponCreated", UUID.randomUUID(),
+                        "ABC123", "{}", NOW.minusSeconds(2)))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("deve entregar os lotes a todos os sinks e marcá-los como publicados")
+    void shouldDeliverBatchesToAllSinks() {
+        when(firstSink.name()).thenReturn("first");
+        when(secondSink.name()).thenReturn("second");
+        OutboxBatch full = batch(1, 3);
+        OutboxBatch partial = batch(3, 4);
+        when(couponEventOutbox.claimPending(2, NOW, NOW.plusMinutes(1))).thenReturn(full, partial);
+
+        assertEquals(3, relay(2, 10).relay());
+
+        verify(firstSink).deliver(full.messages());
+        verify(secondSink).deliver(full.messages());
+        verify(firstSink).deliver(partial.messages());
+        verify(couponEventOutbox).markPublished(List.of(1L, 2L), NOW);
+        verify(couponEventOutbox).markPublished(List.of(3L), NOW);
+        assertEquals(3, meterRegistry.counter("coupon.outbox.relay.delivered", "sink", "first").count());
+        assertEquals(3, meterRegistry.counter("coupon.outbox.relay.delivered", "sink", "second").count());
+        assertEquals(3, meterRegistry.timer("coupon.outbox.relay.lag").count());
+        assertEquals(2, meterRegistry.timer("coupon.outbox.relay.batch").count());
+    }
+
+    @Test
+    @DisplayName("deve entregar fora da transação que reserva o lote")
+    void shouldDeliverOutsideClaimTransaction() {
+        when(firstSink.name()).thenReturn("first");
+        List<String> steps = new ArrayList<>();
+        TransactionOperations transactions = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                steps.add("begin");
+                T result = action.doInTransaction(new SimpleTransactionStatus());
+                steps.add("commit");
+                return result;
+            }
+        };
+        when(couponEventOutbox.claimPending(anyInt(), any(), any())).thenAnswer(invocation -> {
+            steps.add("claim");
+            return batch(1, 2);
+        });
+        doAnswer(invocation -> steps.add("deliver")).when(firstSink).deliver(any());
+        doAnswer(invocation -> steps.add("mark")).when(couponEventOutbox).markPublished(any(), any());
+        CouponOutboxRelay relay = new CouponOutboxRelay(couponEventOutbox, List.of(firstSink), transactions,
+                meterRegistry, CLOCK, 2, 10, Duration.ofDays(7),
+                Duration.ofMinutes(1), 3, Duration.ofSeconds(1), Duration.ofSeconds(3));
+
+        assertEquals(1, relay.relay());
+
+        assertEquals(List.of("begin", "claim", "commit", "deliver", "begin", "mark", "commit"), steps);
+    }
+
+    @Test
+    @DisplayName("deve adiar o lote e interromper a execução quando um sink falha")
+    void shouldBackOffBatchWhenSinkFails() {
+        when(firstSink.name()).thenReturn("first");
+        when(secondSink.name()).thenReturn("second");
+        OutboxBatch batch = batch(1, 3, 2);
+        when(couponEventOutbox.claimPending(2, NOW, NOW.plusMinutes(1))).thenReturn(batch);
+        doThrow(new IllegalStateException("indisponível")).when(secondSink).deliver(batch.messages());
+
+        assertEquals(0, relay(2, 10).relay());
+
+        verify(firstSink).deliver(batch.messages());
+        verify(couponEventOutbox).recordFailure(List.of(1L, 2L), "second: indisponível", NOW.plusSeconds(2));
+        verify(couponEventOutbox).parkExhausted(List.of(1L, 2L), 3, NOW);
+        verify(couponEventOutbox, never()).markPublished(any(), any());
+        verify(couponEventOutbox, times(1)).claimPending(anyInt(), any(), any());
+        assertEquals(1, meterRegistry.counter("coupon.outbox.relay.failures", "sink", "second").count());
+        assertEquals(0, meterRegistry.counter("coupon.outbox.relay.parked").count());
+    }
+
+    @Test
+    @DisplayName("deve contar as linhas estacionadas após esgotar as tentativas")
+    void shouldCountParkedRowsWhenAttemptsAreExhausted() {
+        when(firstSink.name()).thenReturn("first");
+        OutboxBatch batch = batch(1, 3, 3);
+        when(couponEventOutbox.claimPending(2, NOW, NOW.plusMinutes(1))).thenReturn(batch);
+        doThrow(new IllegalStateException("payload inválido")).when(firstSink).deliver(batch.messages());
+        when(couponEventOutbox.parkExhausted(List.of(1L, 2L), 3, NOW)).thenReturn(2);
+
+        assertEquals(0, relay(2, 10).relay());
+
+        verify(couponEventOutbox).recordFailure(List.of(1L, 2L), "first: payload inválido", NOW.plusSeconds(3));
+        verifyNoInteractions(secondSink);
+        assertEquals(2, meterRegistry.counter("coupon.outbox.relay.parked").count());
+    }
+
+    @Test
+    @DisplayName("deve dobrar o intervalo entre tentativas até o limite")
+    void shouldDoubleBackoffUpToLimit() {
+        CouponOutboxRelay relay = relay(2, 10);
+
+        assertEquals(Duration.ofSeconds(1), relay.backoffFor(1));
+        assertEquals(Duration.ofSeconds(2), relay.backoffFor(2));
+        assertEquals(Duration.ofSeconds(3), relay.backoffFor(3));
+        assertEquals(Duration.ofSeconds(3), relay.backoffFor(Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("deve respeitar o limite de lotes por execução")
+    void shouldRespectMaxBatchesPerRun() {
+        when(firstSink.name()).thenReturn("first");
+        when(secondSink.name()).thenReturn("second");
+        when(couponEventOutbox.claimPending(2, NOW, NOW.plusMinutes(1))).thenReturn(batch(1, 3));
+
+        assertEquals(4, relay(2, 2).relay());
+
+        verify(couponEventOutbox, times(2)).claimPending(2, NOW, NOW.plusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("não deve acionar os sinks quando não há mensagens pendentes")
+    void shouldSkipSinksWhenNothingPending() {
+        when(couponEventOutbox.claimPending(anyInt(), any(), any())).thenReturn(OutboxBatch.empty());
+
+        assertEquals(0, relay(2, 10).relay());
+
+        verifyNoInteractions(firstSink, secondSink);
+        verify(couponEventOutbox, never()).markPublished(any(), any());
+    }
+
+    @Test
+    @DisplayName("deve expurgar mensagens publicadas além da retenção")
+    void shouldPurgePublishedMessagesPastRetention() {
+        when(couponEventOutbox.purgePublishedBefore(NOW.minusDays(7))).thenReturn(12);
+
+        assertEquals(12, relay(2, 10).purge());
+    }
+}
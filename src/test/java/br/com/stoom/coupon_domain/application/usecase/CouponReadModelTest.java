@@ -0,0 +1,312 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.CatalogVersion;
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.model.CouponCode;
+import br.com.stoom.coupon_domain.domain.model.CouponCreatedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponDeletedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponsArchivedEvent;
+import br.com.stoom.coupon_domain.domain.model.DiscountValue;
+import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponReadModel")
+class CouponReadModelTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 6, 1, 10, 0);
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponChangeFeed changeFeed;
+
+    private MutableClock clock;
+    private CouponReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-06-01T10:00:00Z"));
+        readModel = new CouponReadModel(couponRepository, changeFeed, clock, Duration.ofSeconds(30));
+        lenient().when(couponRepository.findCatalogVersion()).thenReturn(new CatalogVersion(1));
+        lenient().when(couponRepository.count()).thenReturn(100L);
+    }
+
+    private static Coupon coupon(String code, boolean deleted) {
+        return Coupon.reconstitute(
+                UUID.randomUUID(),
+                CouponCode.reconstitute(code),
+                "Cupom " + code,
+                DiscountValue.reconstitute(new BigDecimal("12.50")),
+                ExpirationDate.reconstitute(LocalDate.of(2026, 12, 31)),
+                true, deleted, deleted ? T0 : null, T0.minusDays(1)
+        );
+    }
+
+    private static CouponChange change(String code, boolean deleted, int second) {
+        return new CouponChange(coupon(code, deleted), T0.plusSeconds(second));
+    }
+
+    @Test
+    @DisplayName("não deve sincronizar na thread de leitura antes do primeiro snapshot")
+    void shouldNotCatchUpOnReadBeforeFirstSnapshot() {
+        assertTrue(readModel.find("AAA001").isEmpty());
+        assertTrue(readModel.findVersion("AAA001").isEmpty());
+        assertTrue(readModel.find("AAA001", T0).isEmpty());
+        assertTrue(readModel.findAll(new CatalogVersion(0)).isEmpty());
+        verifyNoInteractions(changeFeed, couponRepository);
+    }
+
+    @Test
+    @DisplayName("deve carregar o snapshot pelo feed de alterações")
+    void shouldLoadSnapshotFromChangeFeed() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("BBB002", false, 1), change("AAA001", true, 2)));
+        readModel.refresh();
+
+        Coupon found = readModel.find("BBB002").orElseThrow();
+
+        assertEquals("Cupom BBB002", found.getDescription());
+        assertEquals(new BigDecimal("12.50"), found.getDiscountValue().value());
+        assertEquals(LocalDate.of(2026, 12, 31), found.getExpirationDate().value());
+        assertEquals(List.of("AAA001", "BBB002"),
+                codes(readModel.findAll(new CatalogVersion(1)).orElseThrow()));
+        assertTrue(readModel.find("AAA001").orElseThrow().isDeleted());
+        verify(changeFeed, times(1)).findChangedSince(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("deve aplicar criações e exclusões sem consultar o banco")
+    void shouldApplyWritesWithoutQueryingDatabase() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of());
+        readModel.refresh();
+        int before = readModel.size();
+
+        readModel.onCouponCreated(new CouponCreatedEvent(UUID.randomUUID(), "NEW001", "Novo",
+                new BigDecimal("5.00"), LocalDate.of(2026, 12, 31), false, T0));
+        readModel.onCouponDeleted(new CouponDeletedEvent(UUID.randomUUID(), "NEW001", T0.plusMinutes(1)));
+
+        Coupon deleted = readModel.find("NEW001").orElseThrow();
+        assertTrue(deleted.isDeleted());
+        assertEquals(T0.plusMinutes(1), deleted.getDeletedAt());
+        assertEquals(0, before);
+        verify(changeFeed, times(1)).findChangedSince(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("deve remover cupons arquivados sem consultar o banco")
+    void shouldRemoveArchivedCouponsWithoutQueryingDatabase() {
+        CouponChange archived = change("AAA001", true, 1);
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(archived, change("BBB002", false, 2)));
+        readModel.refresh();
+
+        readModel.onCouponsArchived(new CouponsArchivedEvent(Map.of(
+                "AAA001", archived.coupon().getId(), "BBB002", UUID.randomUUID())));
+
+        assertTrue(readModel.find("AAA001").isEmpty());
+        assertTrue(readModel.find("BBB002").isPresent());
+        verify(changeFeed, times(1)).findChangedSince(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("deve servir pela versão só a linha carimbada com a mesma versão")
+    void shouldOnlyServeRowStampedWithRequestedVersion() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("AAA001", false, 1), change("BBB002", false, 2)));
+        readModel.refresh();
+
+        readModel.onCouponDeleted(new CouponDeletedEvent(UUID.randomUUID(), "BBB002", T0.plusMinutes(1)));
+
+        assertTrue(readModel.find("AAA001", T0.plusSeconds(1)).isPresent());
+        assertTrue(readModel.find("AAA001", T0.plusSeconds(3)).isEmpty());
+        assertTrue(readModel.find("BBB002", T0.plusSeconds(2)).isEmpty());
+        assertTrue(readModel.find("ZZZ999", T0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("deve informar a versão só de linhas carimbadas pelo banco")
+    void shouldOnlyReportVersionOfStampedRows() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("AAA001", false, 1), change("BBB002", false, 2)));
+        readModel.refresh();
+
+        readModel.onCouponDeleted(new CouponDeletedEvent(UUID.randomUUID(), "BBB002", T0.plusMinutes(1)));
+
+        assertEquals(T0.plusSeconds(1), readModel.findVersion("AAA001").orElseThrow());
+        assertTrue(readModel.findVersion("BBB002").isEmpty());
+        assertTrue(readModel.findVersion("ZZZ999").isEmpty());
+    }
+
+    @Test
+    @DisplayName("deve continuar o feed a partir da última marca")
+    void shouldResumeChangeFeedFromWatermark() {
+        CouponChange first = change("AAA001", false, 1);
+        when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of(first), List.of());
+
+        readModel.refresh();
+        readModel.refresh();
+
+        verify(changeFeed).findChangedSince(eq(first.updatedAt()), eq(first.coupon().getId()), anyInt());
+        assertEquals(1, readModel.size());
+    }
+
+    @Test
+    @DisplayName("deve deixar as leituras para o banco quando o snapshot excede a defasagem máxima")
+    void shouldMissWithoutCatchingUpWhenSnapshotIsTooStale() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("AAA001", false, 1)), List.of(change("LATE01", false, 5)));
+        readModel.refresh();
+
+        clock.advance(Duration.ofSeconds(20));
+        assertTrue(readModel.find("AAA001").isPresent());
+
+        clock.advance(Duration.ofSeconds(20));
+        assertTrue(readModel.find("AAA001").isEmpty());
+        assertTrue(readModel.findVersion("AAA001").isEmpty());
+        assertTrue(readModel.find("AAA001", T0.plusSeconds(1)).isPresent());
+        verify(changeFeed, times(1)).findChangedSince(any(), any(), anyInt());
+
+        readModel.refresh();
+        assertTrue(readModel.find("LATE01").isPresent());
+    }
+
+    @Test
+    @DisplayName("não deve listar o snapshot enquanto estiver atrás da versão do catálogo")
+    void shouldNotListSnapshotBehindCatalogVersion() {
+        when(couponRepository.findCatalogVersion()).thenReturn(new CatalogVersion(1), new CatalogVersion(2));
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("AAA001", false, 1)), List.of(change("IMP001", false, 9)));
+        readModel.refresh();
+
+        assertTrue(readModel.findAll(new CatalogVersion(2)).isEmpty());
+        verify(changeFeed, times(1)).findChangedSince(any(), any(), anyInt());
+
+        readModel.refresh();
+        assertEquals(List.of("AAA001", "IMP001"), codes(readModel.findAll(new CatalogVersion(2)).orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("deve listar o snapshot sem consultar o banco quando já está na versão do catálogo")
+    void shouldListSnapshotWithoutQueryingDatabaseWhenAtCatalogVersion() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of(change("AAA001", false, 1)));
+        readModel.refresh();
+
+        assertEquals(List.of("AAA001"), codes(readModel.findAll(new CatalogVersion(1)).orElseThrow()));
+        verify(couponRepository, times(1)).findCatalogVersion();
+    }
+
+    @Test
+    @DisplayName("deve aplicar escritas recebidas antes do primeiro snapshot ao construí-lo")
+    void shouldApplyWritesQueuedBeforeFirstSnapshot() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of());
+        readModel.onCouponCreated(new CouponCreatedEvent(UUID.randomUUID(), "NEW001", "Novo",
+                new BigDecimal("5.00"), LocalDate.of(2026, 12, 31), false, T0));
+
+        readModel.refresh();
+
+        assertTrue(readModel.find("NEW001").isPresent());
+    }
+
+    @Test
+    @DisplayName("deve incluir no snapshot alterações ainda não assentadas sem avançar a marca")
+    void shouldOverlayUnsettledChangesWithoutMovingWatermark() {
+        CouponChange first = change("AAA001", false, 1);
+        when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of(first), List.of());
+        when(couponRepository.findChangedSince(eq(first.updatedAt()), eq(first.coupon().getId()), any(), eq(10_000)))
+                .thenReturn(List.of(change("IMP001", false, 9)));
+
+        readModel.refresh();
+        readModel.refresh();
+
+        assertEquals(List.of("AAA001", "IMP001"), codes(readModel.findAll(new CatalogVersion(1)).orElseThrow()));
+        verify(changeFeed).findChangedSince(eq(first.updatedAt()), eq(first.coupon().getId()), anyInt());
+    }
+
+    @Test
+    @DisplayName("deve reconstruir ao sincronizar quando o snapshot tem mais linhas que a tabela")
+    void shouldRebuildWhenSnapshotHoldsMoreRowsThanTable() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("AAA001", true, 1), change("BBB002", false, 2)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(change("BBB002", false, 2)));
+        when(couponRepository.count()).thenReturn(2L, 1L);
+        readModel.refresh();
+
+        readModel.refresh();
+
+        assertEquals(List.of("BBB002"), codes(readModel.findAll(new CatalogVersion(1)).orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("deve descartar cupons removidos fisicamente ao reconstruir")
+    void shouldDropPhysicallyRemovedCouponsOnRebuild() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change("AAA001", true, 1), change("BBB002", false, 2)))
+                .thenReturn(List.of(change("BBB002", false, 2)));
+        readModel.refresh();
+
+        readModel.rebuild();
+
+        assertTrue(readModel.find("AAA001").isEmpty());
+        assertTrue(readModel.find("BBB002").isPresent());
+    }
+
+    private static List<String> codes(List<Coupon> coupons) {
+        return coupons.stream().map(coupon -> coupon.getCode().value()).toList();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponChange;
+import br.com.stoom.coupon_domain.domain.model.CouponCode;
+import br.com.stoom.coupon_domain.domain.model.CouponCreatedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponDeletedEvent;
+import br.com.stoom.coupon_domain.domain.model.CouponStatistics;
+import br.com.stoom.coupon_domain.domain.model.CouponStatusCounts;
+import br.com.stoom.coupon_domain.domain.model.CouponsArchivedEvent;
+import br.com.stoom.coupon_domain.domain.model.DiscountValue;
+import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponStatisticsTracker")
+class CouponStatisticsTrackerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 10);
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponChangeFeed changeFeed;
+
+    private MutableClock clock;
+    private CouponStatisticsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC));
+        tracker = new CouponStatisticsTracker(couponRepository, changeFeed, clock, 30);
+    }
+
+    private Coupon coupon(String code, String discount, LocalDate expiration, boolean published, boolean deleted) {
+        return Coupon.reconstitute(
+                UUID.randomUUID(),
+                CouponCode.reconstitute(code),
+                "Cupom",
+                DiscountValue.reconstitute(new BigDecimal(discount)),
+                ExpirationDate.reconstitute(expiration),
+                published, deleted, deleted ? LocalDateTime.now() : null, LocalDateTime.now()
+        );
+    }
+
+    private CouponChange change(Coupon coupon) {
+        return new CouponChange(coupon, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("deve contar por situação e publicação e somar descontos dos ativos")
+    void shouldCountByStatusAndSumActiveDiscounts() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of(
+                change(coupon("ACT001", "10.00", TODAY, true, false)),
+                change(coupon("ACT002", "150.00", TODAY.plusDays(5), false, false)),
+                change(coupon("EXP001", "3.00", TODAY.minusDays(1), true, false)),
+                change(coupon("DEL001", "20.00", TODAY.plusDays(5), true, true))
+        ));
+
+        CouponStatistics statistics = tracker.snapshot();
+
+        assertEquals(4, statistics.total());
+        assertEquals(2, statistics.active());
+        assertEquals(1, statistics.expired());
+        assertEquals(1, statistics.deleted());
+        assertEquals(2, statistics.published());
+        assertEquals(1, statistics.unpublished());
+        assertEquals(new BigDecimal("160.00"), statistics.activeDiscountTotal());
+        assertEquals(List.of(0L, 0L, 1L, 0L, 0L, 1L),
+                statistics.activeDiscountHistogram().stream().map(CouponStatistics.DiscountBucket::count).toList());
+        assertEquals(Map.of(TODAY, 1L, TODAY.plusDays(5), 1L), statistics.expiringPerDay());
+    }
+
+    @Test
+    @DisplayName("deve mover cupons para expirados com a passagem do tempo")
+    void shouldMoveCouponsToExpiredAsTimePasses() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change(coupon("ACT001", "10.00", TODAY, true, false))));
+        tracker.snapshot();
+
+        clock.setInstant(TODAY.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC));
+        CouponStatistics statistics = tracker.snapshot();
+
+        assertEquals(0, statistics.active());
+        assertEquals(1, statistics.expired());
+        assertEquals(BigDecimal.valueOf(0, 2), statistics.activeDiscountTotal());
+        assertTrue(statistics.expiringPerDay().isEmpty());
+    }
+
+    @Test
+    @DisplayName("deve descontar cupons arquivados")
+    void shouldDropArchivedCoupons() {
+        Coupon deleted = coupon("DEL001", "20.00", TODAY.plusDays(5), true, true);
+        Coupon expired = coupon("EXP001", "3.00", TODAY.minusDays(100), true, false);
+        when(changeFeed.findChangedSince(any(), any(), anyInt())).thenReturn(List.of(
+                change(coupon("ACT001", "10.00", TODAY, true, false)), change(deleted), change(expired)));
+        tracker.snapshot();
+
+        tracker.onCouponsArchived(new CouponsArchivedEvent(Map.of(
+                "DEL001", deleted.getId(), "EXP001", expired.getId())));
+
+        CouponStatistics statistics = tracker.snapshot();
+        assertEquals(1, statistics.total());
+        assertEquals(1, statistics.active());
+        assertEquals(0, statistics.expired());
+        assertEquals(0, statistics.deleted());
+    }
+
+    @Test
+    @DisplayName("deve aplicar eventos de criação e exclusão sem contar duas vezes o mesmo cupom")
+    void shouldApplyEventsIdempotently() {
+        Coupon created = coupon("NEW001", "10.00", TODAY.plusDays(3), true, false);
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(change(created)));
+        tracker.snapshot();
+
+        tracker.onCouponCreated(CouponCreatedEvent.from(created));
+        assertEquals(1, tracker.snapshot().active());
+
+        tracker.refresh();
+        tracker.onCouponDeleted(new CouponDeletedEvent(created.getId(), "NEW001", LocalDateTime.now()));
+        tracker.onCouponDeleted(new CouponDeletedEvent(created.getId(), "NEW001", LocalDateTime.now()));
+
+        CouponStatistics statistics = tracker.snapshot();
+        assertEquals(1, statistics.total());
+        assertEquals(0, statistics.active());
+        assertEquals(1, statistics.deleted());
+        assertEquals(0, statistics.published());
+    }
+
+    @Test
+    @DisplayName("deve reconstruir a partir do feed quando divergir das agregações do banco")
+    void shouldRebuildWhenDriftingFromDatabase() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(
+                        change(coupon("ACT001", "10.00", TODAY, true, false)),
+                        change(coupon("ARC001", "10.00", TODAY.minusDays(100), true, false))))
+                .thenReturn(List.of())
+                .thenReturn(List.of(change(coupon("ACT001", "10.00", TODAY, true, false))));
+        when(couponRepository.countByStatus(TODAY)).thenReturn(new CouponStatusCounts(1, 0, 0, 1));
+        tracker.snapshot();
+
+        tracker.reconcile();
+
+        CouponStatistics statistics = tracker.snapshot();
+        assertEquals(1, statistics.total());
+        assertEquals(0, statistics.expired());
+        assertEquals(TODAY.atStartOfDay(), statistics.reconciledAt());
+    }
+
+    @Test
+    @DisplayName("não deve bloquear eventos enquanto a reconciliação reconstrói a partir do feed")
+    void shouldNotBlockEventsWhileRebuilding() throws Exception {
+        Coupon created = coupon("NEW001", "10.00", TODAY.plusDays(3), true, false);
+        CountDownLatch rebuilding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change(coupon("ARC001", "10.00", TODAY.minusDays(100), true, false))))
+                .thenReturn(List.of())
+                .thenAnswer(invocation -> {
+                    rebuilding.countDown();
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                    return List.of();
+                });
+        when(couponRepository.countByStatus(TODAY)).thenReturn(new CouponStatusCounts(0, 0, 0, 0));
+        tracker.snapshot();
+
+        ExecutorService reconciler = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> reconcile = reconciler.submit(tracker::reconcile);
+            assertTrue(rebuilding.await(5, TimeUnit.SECONDS));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(1),
+                    () -> tracker.onCouponCreated(CouponCreatedEvent.from(created)));
+            release.countDown();
+            reconcile.get(5, TimeUnit.SECONDS);
+        } finally {
+            reconciler.shutdownNow();
+        }
+
+        CouponStatistics statistics = tracker.snapshot();
+        assertEquals(1, statistics.total());
+        assertEquals(1, statistics.active());
+        assertEquals(0, statistics.expired());
+    }
+
+    @Test
+    @DisplayName("não deve reconstruir quando as contagens coincidem")
+    void shouldKeepStateWhenCountsMatch() {
+        when(changeFeed.findChangedSince(any(), any(), anyInt()))
+                .thenReturn(List.of(change(coupon("ACT001", "10.00", TODAY, true, false))))
+                .thenReturn(List.of());
+        when(couponRepository.countByStatus(TODAY)).thenReturn(new CouponStatusCounts(1, 0, 0, 1));
+        tracker.snapshot();
+
+        tracker.reconcile();
+
+        verify(changeFeed, times(2)).findChangedSince(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("deve classificar valores nas faixas do histograma")
+    void shouldBucketDiscountValues() {
+        assertEquals(0, CouponStatisticsTracker.bucketOf(50));
+        assertEquals(1, CouponStatisticsTracker.bucketOf(500));
+        assertEquals(2, CouponStatisticsTracker.bucketOf(2_499));
+        assertEquals(5, CouponStatisticsTracker.bucketOf(1_000_000));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void setInstant(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import br.com.stoom.coupon_domain.domain.exception.InvalidDescriptionException;
 import br.com.stoom.coupon_domain.domain.exception.InvalidDiscountValueException;
 import br.com.stoom.coupon_domain.domain.exception.InvalidExpirationDateException;
 import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponCreatedEvent;
 import br.com.stoom.coupon_domain.domain.port.CouponRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -32,6 +34,9 @@ class CreateCouponUseCaseImplTest {
     @Mock
     private CouponRepository couponRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CreateCouponUseCaseImpl createCouponUseCase;
 
@@ -66,6 +71,7 @@ class CreateCouponUseCaseImplTest {
             assertFalse(result.isPublished());
             verify(couponRepository).existsByCode("ABC123");
             verify(couponRepository).save(any(Coupon.class));
+            verify(eventPublisher).publishEvent(CouponCreatedEvent.from(result));
         }
 
         @Test
@@ -100,6 +106,7 @@ class CreateCouponUseCaseImplTest {
 
             assertTrue(ex.getMessage().contains("ABC123"));
             verify(couponRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
         }
     }
 
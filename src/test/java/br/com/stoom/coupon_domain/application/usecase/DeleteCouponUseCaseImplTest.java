@@ -3,6 +3,7 @@ package br.com.stoom.coupon_domain.application.usecase;
 import br.com.stoom.coupon_domain.domain.exception.CouponAlreadyDeletedException;
 import br.com.stoom.coupon_domain.domain.exception.CouponNotFoundException;
 import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.model.CouponDeletedEvent;
 import br.com.stoom.coupon_domain.domain.model.CouponCode;
 import br.com.stoom.coupon_domain.domain.model.DiscountValue;
 import br.com.stoom.coupon_domain.domain.model.ExpirationDate;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -32,6 +34,9 @@ class DeleteCouponUseCaseImplTest {
     @Mock
     private CouponRepository couponRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DeleteCouponUseCaseImpl deleteCouponUseCase;
 
@@ -64,6 +69,7 @@ class DeleteCouponUseCaseImplTest {
             assertNotNull(coupon.getDeletedAt());
             verify(couponRepository).findByCode(code);
             verify(couponRepository).save(coupon);
+            verify(eventPublisher).publishEvent(CouponDeletedEvent.from(coupon));
         }
 
         @Test
@@ -0,0 +1,33 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DescriptionTokenizer")
+class DescriptionTokenizerTest {
+
+    @Test
+    @DisplayName("deve remover acentos, normalizar caixa e separar por pontuação")
+    void shouldFoldAccentsAndCase() {
+        assertEquals(List.of("promocao", "calcados", "verao", "20", "off"),
+                DescriptionTokenizer.tokenize("Promoção CALÇADOS-verão: 20% off"));
+    }
+
+    @Test
+    @DisplayName("deve descartar stopwords e termos de um caractere")
+    void shouldDropStopwordsAndShortTokens() {
+        assertEquals(List.of("cupom", "black", "friday", "sapatos"),
+                DescriptionTokenizer.tokenize("Cupom de Black Friday para os sapatos x"));
+    }
+
+    @Test
+    @DisplayName("deve retornar lista vazia para texto nulo ou em branco")
+    void shouldReturnEmptyForBlankText() {
+        assertEquals(List.of(), DescriptionTokenizer.tokenize(null));
+        assertEquals(List.of(), DescriptionTokenizer.tokenize("  "));
+    }
+}
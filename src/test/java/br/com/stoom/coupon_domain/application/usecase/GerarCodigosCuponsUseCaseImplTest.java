@@ -0,0 +1,43 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.domain.exception.InvalidCodeQuantityException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GerarCodigosCuponsUseCase")
+class GerarCodigosCuponsUseCaseImplTest {
+
+    @Mock
+    private CouponCodeAllocator couponCodeAllocator;
+
+    @InjectMocks
+    private GerarCodigosCuponsUseCaseImpl gerarCodigosCuponsUseCase;
+
+    @Test
+    @DisplayName("deve delegar a geração ao alocador")
+    void shouldDelegateToAllocator() {
+        when(couponCodeAllocator.allocate(2)).thenReturn(List.of("AAA111", "BBB222"));
+
+        assertEquals(List.of("AAA111", "BBB222"), gerarCodigosCuponsUseCase.execute(2));
+    }
+
+    @Test
+    @DisplayName("deve rejeitar quantidade fora do intervalo permitido")
+    void shouldRejectQuantityOutOfRange() {
+        assertThrows(InvalidCodeQuantityException.class, () -> gerarCodigosCuponsUseCase.execute(0));
+        assertThrows(InvalidCodeQuantityException.class,
+                () -> gerarCodigosCuponsUseCase.execute(GerarCodigosCuponsUseCaseImpl.MAX_QUANTITY + 1));
+        verify(couponCodeAllocator, never()).allocate(anyInt());
+    }
+}
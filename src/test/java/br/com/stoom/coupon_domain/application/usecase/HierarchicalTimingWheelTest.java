@@ -0,0 +1,122 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HierarchicalTimingWheel")
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 20_000;
+
+    private HierarchicalTimingWheel<String> wheel;
+    private List<String> expired;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HierarchicalTimingWheel<>(START);
+        expired = new ArrayList<>();
+    }
+
+    private void advanceTo(long tick) {
+        wheel.advanceTo(tick, (key, expiryTick) -> {
+            assertTrue(expiryTick <= wheel.currentTick());
+            expired.add(key + "@" + expiryTick);
+        });
+    }
+
+    @Nested
+    @DisplayName("Agendamento")
+    class Scheduling {
+
+        @Test
+        @DisplayName("deve expirar entradas exatamente no tick agendado")
+        void shouldExpireAtScheduledTick() {
+            wheel.schedule("A", START + 1);
+            wheel.schedule("B", START + 3);
+
+            advanceTo(START + 2);
+            assertEquals(List.of("A@" + (START + 1)), expired);
+
+            advanceTo(START + 3);
+            assertEquals(List.of("A@" + (START + 1), "B@" + (START + 3)), expired);
+            assertEquals(0, wheel.size());
+        }
+
+        @Test
+        @DisplayName("deve cascatear entradas distantes pelos níveis superiores e overflow")
+        void shouldCascadeFarEntries() {
+            long[] ticks = {
+                    START + 31, START + 32, START + 33, START + 1023, START + 1024,
+                    START + 5000, START + 32_767, START + 32_768, START + 100_000
+            };
+            for (long tick : ticks) {
+                wheel.schedule("T" + tick, tick);
+            }
+
+            for (long tick : ticks) {
+                advanceTo(tick - 1);
+                assertFalse(expired.contains("T" + tick + "@" + tick), "antes de " + tick);
+                advanceTo(tick);
+                assertTrue(expired.contains("T" + tick + "@" + tick), "em " + tick);
+            }
+            assertEquals(ticks.length, expired.size());
+        }
+
+        @Test
+        @DisplayName("não deve agendar entradas já vencidas")
+        void shouldNotScheduleDueEntries() {
+            assertFalse(wheel.schedule("OLD", START));
+            assertEquals(0, wheel.size());
+        }
+
+        @Test
+        @DisplayName("deve reagendar chave já existente")
+        void shouldRescheduleExistingKey() {
+            wheel.schedule("A", START + 1);
+            wheel.schedule("A", START + 40);
+
+            advanceTo(START + 39);
+            assertTrue(expired.isEmpty());
+
+            advanceTo(START + 40);
+            assertEquals(List.of("A@" + (START + 40)), expired);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cancelamento")
+    class Cancellation {
+
+        @Test
+        @DisplayName("deve cancelar entrada agendada")
+        void shouldCancelScheduledEntry() {
+            wheel.schedule("A", START + 2);
+            wheel.schedule("B", START + 2);
+            wheel.schedule("C", START + 2);
+
+            assertTrue(wheel.cancel("B"));
+            assertFalse(wheel.cancel("B"));
+
+            advanceTo(START + 2);
+            assertEquals(List.of("A@" + (START + 2), "C@" + (START + 2)), expired);
+        }
+
+        @Test
+        @DisplayName("deve cancelar entrada em nível superior")
+        void shouldCancelEntryInUpperLevel() {
+            wheel.schedule("FAR", START + 2000);
+
+            assertTrue(wheel.cancel("FAR"));
+
+            advanceTo(START + 2000);
+            assertTrue(expired.isEmpty());
+        }
+    }
+}
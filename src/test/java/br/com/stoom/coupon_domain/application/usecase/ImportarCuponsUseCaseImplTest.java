@@ -0,0 +1,274 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase.ImportSlot;
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase.ImportState;
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase.ImportStatus;
+import br.com.stoom.coupon_domain.application.port.in.ImportarCuponsUseCase.RowError;
+import br.com.stoom.coupon_domain.domain.exception.CouponImportRejectedException;
+import br.com.stoom.coupon_domain.domain.model.Coupon;
+import br.com.stoom.coupon_domain.domain.port.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportarCuponsUseCase")
+class ImportarCuponsUseCaseImplTest {
+
+    private static final String FUTURE = LocalDate.now().plusDays(30).toString();
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private ImportarCuponsUseCaseImpl importarCuponsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        importarCuponsUseCase = new ImportarCuponsUseCaseImpl(
+                couponRepository, TransactionOperations.withoutTransaction(), new SyncTaskExecutor(), 2, 1, 1);
+    }
+
+    private Path csv(String... lines) throws IOException {
+        Path file = Files.createTempFile(tempDir, "import", ".csv");
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private ImportStatus importAndGetStatus(Path file) {
+        ImportStatus started = importarCuponsUseCase.start(importarCuponsUseCase.reserve(), file);
+        return importarCuponsUseCase.status(started.jobId()).orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("Cenários de sucesso")
+    class SuccessScenarios {
+
+        @Test
+        @DisplayName("deve importar linhas válidas em lotes de tamanho fixo")
+        void shouldImportValidRowsInFixedSizeChunks() throws Exception {
+            when(couponRepository.findExistingCodes(anyCollection())).thenReturn(Set.of());
+            Path file = csv(
+                    "code,description,discountValue,expirationDate,published",
+                    "IMP001,Primeiro,10.00," + FUTURE + ",true",
+                    "IMP002,Segundo,5.50," + FUTURE + ",false",
+                    "IMP003,Terceiro,7," + FUTURE
+            );
+
+            ImportStatus status = importAndGetStatus(file);
+
+            assertEquals(ImportState.COMPLETED, status.state());
+            assertEquals(3, status.processedRows());
+            assertEquals(3, status.importedRows());
+            assertEquals(0, status.failedRows());
+            assertNotNull(status.finishedAt());
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Coupon>> captor = ArgumentCaptor.forClass(List.class);
+            verify(couponRepository, times(2)).saveAll(captor.capture());
+            assertEquals(2, captor.getAllValues().get(0).size());
+            assertEquals(1, captor.getAllValues().get(1).size());
+            assertTrue(captor.getAllValues().get(0).get(0).isPublished());
+            assertFalse(captor.getAllValues().get(1).get(0).isPublished());
+        }
+
+        @Test
+        @DisplayName("deve aceitar descrição entre aspas contendo vírgulas e BOM no início")
+        void shouldHandleQuotedFieldsAndBom() throws Exception {
+            when(couponRepository.findExistingCodes(anyCollection())).thenReturn(Set.of());
+            Path file = csv("\uFEFFcode,description,discountValue,expirationDate",
+                    "IMP001,\"Black Friday, 20 \"\"off\"\"\",10.00," + FUTURE);
+
+            ImportStatus status = importAndGetStatus(file);
+
+            assertEquals(1, status.importedRows());
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Coupon>> captor = ArgumentCaptor.forClass(List.class);
+            verify(couponRepository).saveAll(captor.capture());
+            assertEquals("Black Friday, 20 \"off\"", captor.getValue().get(0).getDescription());
+        }
+
+        @Test
+        @DisplayName("deve remover o arquivo temporário após processar")
+        void shouldDeleteSourceAfterProcessing() throws Exception {
+            Path file = csv("code,description,discountValue,expirationDate");
+
+            ImportStatus status = importAndGetStatus(file);
+
+            assertEquals(ImportState.COMPLETED, status.state());
+            assertFalse(Files.exists(file));
+            verify(couponRepository, never()).saveAll(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Erros por linha")
+    class RowErrors {
+
+        @Test
+        @DisplayName("deve registrar erros de validação por linha sem interromper a importação")
+        void shouldReportValidationErrorsPerRow() throws Exception {
+            when(couponRepository.findExistingCodes(anyCollection())).thenReturn(Set.of());
+            Path file = csv(
+                    "IMP001,Válido,10.00," + FUTURE,
+                    "AB,Código curto,10.00," + FUTURE,
+                    "IMP003,Desconto inválido,abc," + FUTURE,
+                    "IMP004,Data inválida,10.00,31/12/2099",
+                    "IMP005,Poucas colunas",
+                    "IMP006,Abaixo do mínimo,0.10," + FUTURE,
+                    "",
+                    "IMP007,Sem desconto,," + FUTURE
+            );
+
+            ImportStatus status = importAndGetStatus(file);
+
+            assertEquals(ImportState.COMPLETED, status.state());
+            assertEquals(7, status.processedRows());
+            assertEquals(1, status.importedRows());
+            assertEquals(6, status.failedRows());
+            assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 8L), status.errors().stream().map(RowError::line).toList());
+            assertTrue(status.errors().get(1).message().contains("abc"));
+            assertTrue(status.errors().get(2).message().contains("31/12/2099"));
+        }
+
+        @Test
+        @DisplayName("deve rejeitar códigos já existentes e duplicados no arquivo")
+        void shouldRejectExistingAndDuplicatedCodes() throws Exception {
+            when(couponRepository.findExistingCodes(anyCollection())).thenReturn(Set.of("EXI001"));
+            Path file = csv(
+                    "EXI001,Existente,10.00," + FUTURE,
+                    "NEW001,Novo,10.00," + FUTURE,
+                    "new001,Repetido,10.00," + FUTURE
+            );
+            importarCuponsUseCase = new ImportarCuponsUseCaseImpl(
+                    couponRepository, TransactionOperations.withoutTransaction(), new SyncTaskExecutor(), 10, 1, 1);
+
+            ImportStatus status = importAndGetStatus(file);
+
+            assertEquals(1, status.importedRows());
+            assertEquals(2, status.failedRows());
+            assertEquals(List.of(3L, 1L), status.errors().stream().map(RowError::line).toList());
+            assertTrue(status.errors().get(1).message().contains("EXI001"));
+        }
+
+        @Test
+        @DisplayName("deve marcar as linhas do lote como erro quando a gravação falha")
+        void shouldFailChunkRowsWhenSaveFails() throws Exception {
+            when(couponRepository.findExistingCodes(anyCollection())).thenReturn(Set.of());
+            when(couponRepository.saveAll(any())).thenThrow(new IllegalStateException("violação de unicidade"));
+            Path file = csv("IMP001,Um,10.00," + FUTURE, "IMP002,Dois,10.00," + FUTURE);
+
+            ImportStatus status = importAndGetStatus(file);
+
+            assertEquals(ImportState.COMPLETED, status.state());
+            assertEquals(0, status.importedRows());
+            assertEquals(2, status.failedRows());
+            assertTrue(status.errors().get(0).message().contains("violação de unicidade"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Controle da fila e situação")
+    class QueueAndStatus {
+
+        @Test
+        @DisplayName("deve rejeitar importação quando a fila está cheia e remover o arquivo")
+        void shouldRejectWhenQueueIsFull() throws Exception {
+            importarCuponsUseCase = new ImportarCuponsUseCaseImpl(
+                    couponRepository, TransactionOperations.withoutTransaction(),
+                    task -> {
+                        throw new TaskRejectedException("cheia");
+                    }, 2, 1, 1);
+            Path file = csv("IMP001,Um,10.00," + FUTURE);
+            ImportSlot slot = importarCuponsUseCase.reserve();
+
+            assertThrows(CouponImportRejectedException.class, () -> importarCuponsUseCase.start(slot, file));
+            assertFalse(Files.exists(file));
+            assertEquals(2, importarCuponsUseCase.availableSlots());
+        }
+
+        @Test
+        @DisplayName("deve rejeitar a reserva antes do envio quando todas as vagas estão ocupadas")
+        void shouldRejectReservationWhenAllSlotsAreHeld() {
+            ImportSlot first = importarCuponsUseCase.reserve();
+            ImportSlot second = importarCuponsUseCase.reserve();
+
+            assertThrows(CouponImportRejectedException.class, () -> importarCuponsUseCase.reserve());
+
+            first.close();
+            second.close();
+            assertEquals(2, importarCuponsUseCase.availableSlots());
+        }
+
+        @Test
+        @DisplayName("deve devolver a vaga quando a importação termina e ignorar o fechamento posterior")
+        void shouldReleaseSlotWhenJobFinishes() throws Exception {
+            try (ImportSlot slot = importarCuponsUseCase.reserve()) {
+                importarCuponsUseCase.start(slot, csv("code"));
+            }
+
+            assertEquals(2, importarCuponsUseCase.availableSlots());
+        }
+
+        @Test
+        @DisplayName("não deve iniciar duas importações com a mesma vaga")
+        void shouldNotReuseSlot() throws Exception {
+            ImportSlot slot = importarCuponsUseCase.reserve();
+            importarCuponsUseCase.start(slot, csv("code"));
+            Path second = csv("code");
+
+            assertThrows(IllegalStateException.class, () -> importarCuponsUseCase.start(slot, second));
+            assertFalse(Files.exists(second));
+        }
+
+        @Test
+        @DisplayName("deve marcar a importação como falha quando o arquivo não pode ser lido")
+        void shouldFailWhenSourceCannotBeRead() {
+            ImportStatus status = importAndGetStatus(tempDir.resolve("inexistente.csv"));
+
+            assertEquals(ImportState.FAILED, status.state());
+            assertEquals(1, status.errors().size());
+        }
+
+        @Test
+        @DisplayName("deve retornar vazio para importação desconhecida")
+        void shouldReturnEmptyForUnknownJob() {
+            assertTrue(importarCuponsUseCase.status(UUID.randomUUID()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("deve manter apenas um número limitado de importações concluídas")
+        void shouldBoundTrackedJobs() throws Exception {
+            for (int i = 0; i < ImportarCuponsUseCaseImpl.MAX_TRACKED_JOBS + 5; i++) {
+                importarCuponsUseCase.start(importarCuponsUseCase.reserve(), csv("code"));
+            }
+
+            assertEquals(ImportarCuponsUseCaseImpl.MAX_TRACKED_JOBS, importarCuponsUseCase.trackedJobs());
+        }
+    }
+}
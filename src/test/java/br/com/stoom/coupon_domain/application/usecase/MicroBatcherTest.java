@@ -0,0 +1,168 @@
+package br.com.stoom.coupon_domain.application.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MicroBatcher")
+class MicroBatcherTest {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final List<Set<String>> loadedBatches = new ArrayList<>();
+
+    private MicroBatcher<String, String> batcher(int maxBatchSize) {
+        return new MicroBatcher<>(keys -> {
+            loadedBatches.add(Set.copyOf(keys));
+            return Map.of("A", "a", "B", "b", "C", "c");
+        }, "?", tasks::add, maxBatchSize, Duration.ZERO);
+    }
+
+    private CompletableFuture<String> submit(MicroBatcher<String, String> batcher, String key) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        batcher.submit(key, result);
+        return result;
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    @Test
+    @DisplayName("deve resolver as chaves da mesma janela com uma única carga")
+    void shouldLoadKeysOfSameWindowTogether() throws Exception {
+        MicroBatcher<String, String> batcher = batcher(10);
+
+        CompletableFuture<String> a = submit(batcher, "A");
+        CompletableFuture<String> b = submit(batcher, "B");
+        CompletableFuture<String> c = submit(batcher, "C");
+        assertFalse(a.isDone());
+
+        runTasks();
+
+        assertEquals(List.of(Set.of("A", "B", "C")), loadedBatches);
+        assertEquals("a", a.get());
+        assertEquals("b", b.get());
+        assertEquals("c", c.get());
+    }
+
+    @Test
+    @DisplayName("deve dividir a janela em lotes de no máximo maxBatchSize chaves")
+    void shouldSplitWindowIntoBoundedBatches() {
+        MicroBatcher<String, String> batcher = batcher(2);
+
+        for (String key : List.of("A", "B", "C", "D", "E")) {
+            submit(batcher, key);
+        }
+        runTasks();
+
+        assertEquals(List.of(2, 2, 1), loadedBatches.stream().map(Set::size).toList());
+    }
+
+    @Test
+    @DisplayName("deve completar chaves ausentes com o valor padrão e repetir chaves duplicadas")
+    void shouldCompleteMissingAndDuplicateKeys() throws Exception {
+        MicroBatcher<String, String> batcher = batcher(10);
+
+        CompletableFuture<String> first = submit(batcher, "A");
+        CompletableFuture<String> second = submit(batcher, "A");
+        CompletableFuture<String> missing = submit(batcher, "Z");
+        runTasks();
+
+        assertEquals(List.of(Set.of("A", "Z")), loadedBatches);
+        assertEquals("a", first.get());
+        assertEquals("a", second.get());
+        assertEquals("?", missing.get());
+    }
+
+    @Test
+    @DisplayName("deve propagar a falha da carga para todas as chaves do lote")
+    void shouldFailEveryKeyOfFailedBatch() {
+        MicroBatcher<String, String> batcher = new MicroBatcher<>(keys -> {
+            throw new IllegalStateException("banco indisponível");
+        }, "?", tasks::add, 10, Duration.ZERO);
+
+        CompletableFuture<String> a = submit(batcher, "A");
+        CompletableFuture<String> b = submit(batcher, "B");
+        runTasks();
+
+        for (CompletableFuture<String> result : List.of(a, b)) {
+            ExecutionException ex = assertThrows(ExecutionException.class, result::get);
+            assertInstanceOf(IllegalStateException.class, ex.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("deve abrir uma nova janela para chaves que chegam depois do despacho")
+    void shouldOpenNewWindowAfterDispatch() throws Exception {
+        MicroBatcher<String, String> batcher = batcher(10);
+
+        submit(batcher, "A");
+        runTasks();
+        CompletableFuture<String> b = submit(batcher, "B");
+        runTasks();
+
+        assertEquals(List.of(Set.of("A"), Set.of("B")), loadedBatches);
+        assertEquals("b", b.get());
+    }
+
+    @Test
+    @DisplayName("deve fechar a janela pelo temporizador sem ocupar um worker durante a espera")
+    void shouldCloseWindowWithoutParkingWorker() throws Exception {
+        BlockingQueue<Runnable> workers = new LinkedBlockingQueue<>();
+        MicroBatcher<String, String> batcher = new MicroBatcher<>(keys -> {
+            loadedBatches.add(Set.copyOf(keys));
+            return Map.of("A", "a");
+        }, "?", workers::add, 10, Duration.ofMillis(20));
+
+        CompletableFuture<String> a = submit(batcher, "A");
+        CompletableFuture<String> b = submit(batcher, "B");
+
+        assertTrue(workers.isEmpty());
+        workers.poll(5, TimeUnit.SECONDS).run();
+
+        assertEquals(List.of(Set.of("A", "B")), loadedBatches);
+        assertEquals("a", a.get());
+        assertEquals("?", b.get());
+    }
+
+    @Test
+    @DisplayName("deve falhar as chaves na fila quando o executor recusa a carga")
+    void shouldFailQueuedKeysWhenExecutorRejects() throws Exception {
+        AtomicBoolean full = new AtomicBoolean(true);
+        MicroBatcher<String, String> batcher = new MicroBatcher<>(keys -> Map.of("A", "a"), "?", task -> {
+            if (full.get()) {
+                throw new TaskRejectedException("fila cheia");
+            }
+            tasks.add(task);
+        }, 1, Duration.ZERO);
+
+        CompletableFuture<String> rejected = submit(batcher, "A");
+
+        ExecutionException ex = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(TaskRejectedException.class, ex.getCause());
+
+        full.set(false);
+        CompletableFuture<String> accepted = submit(batcher, "A");
+        runTasks();
+        assertEquals("a", accepted.get());
+    }
+}
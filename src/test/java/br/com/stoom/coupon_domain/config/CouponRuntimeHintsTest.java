@@ -0,0 +1,40 @@
+package br.com.stoom.coupon_domain.config;
+
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponQueryResponse;
+import br.com.stoom.coupon_domain.adapter.in.web.dto.CouponResponse;
+import br.com.stoom.coupon_domain.adapter.in.web.dto.ErrorResponse;
+import br.com.stoom.coupon_domain.domain.model.OutboxMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CouponRuntimeHints")
+class CouponRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    @DisplayName("deve registrar reflexão para os records serializados pelo Jackson")
+    void shouldRegisterJacksonRecords() throws NoSuchMethodException {
+        new CouponRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        for (Class<?> type : new Class<?>[]{CouponResponse.class, CouponQueryResponse.class,
+                ErrorResponse.class, OutboxMessage.class}) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(type).test(hints), type.getName());
+        }
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(CouponQueryResponse.class.getMethod("codigo")).test(hints));
+    }
+
+    @Test
+    @DisplayName("deve incluir os scripts de schema como recursos")
+    void shouldRegisterSchemaScripts() {
+        new CouponRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/schema.sql").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/schema-partitioned.sql").test(hints));
+    }
+}
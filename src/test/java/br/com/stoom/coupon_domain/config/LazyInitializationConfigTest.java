@@ -0,0 +1,49 @@
+package br.com.stoom.coupon_domain.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LazyInitializationConfig")
+class LazyInitializationConfigTest {
+
+    @Test
+    @DisplayName("deve manter inicialização antecipada apenas para beans com métodos agendados")
+    void shouldExcludeScheduledBeans() {
+        var filter = LazyInitializationConfig.scheduledBeansExcludeFilter();
+
+        assertTrue(filter.isExcluded("job", new RootBeanDefinition(ScheduledBean.class), ScheduledBean.class));
+        assertFalse(filter.isExcluded("plain", new RootBeanDefinition(PlainBean.class), PlainBean.class));
+    }
+
+    @Test
+    @DisplayName("deve tornar preguiçosos os beans do springdoc mesmo com @Lazy(false)")
+    void shouldMakeSpringDocBeansLazy() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        RootBeanDefinition springDoc = new RootBeanDefinition();
+        springDoc.setBeanClassName("org.springdoc.core.service.OpenAPIService");
+        springDoc.setLazyInit(false);
+        RootBeanDefinition application = new RootBeanDefinition(PlainBean.class);
+        beanFactory.registerBeanDefinition("openAPIBuilder", springDoc);
+        beanFactory.registerBeanDefinition("plain", application);
+
+        LazyInitializationConfig.springDocLazyInitializer().postProcessBeanFactory(beanFactory);
+
+        assertTrue(beanFactory.getBeanDefinition("openAPIBuilder").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("plain").isLazyInit());
+    }
+
+    static class ScheduledBean {
+
+        @Scheduled(fixedDelay = 1000)
+        void run() {
+        }
+    }
+
+    static class PlainBean {
+    }
+}
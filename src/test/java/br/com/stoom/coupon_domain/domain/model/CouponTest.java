@@ -259,6 +259,24 @@ class CouponTest {
         }
     }
 
+    @Nested
+    @DisplayName("discountCentsFor()")
+    class DiscountCentsFor {
+
+        @Test
+        @DisplayName("deve aplicar o valor integral quando menor que o montante")
+        void shouldApplyFullValue() {
+            assertEquals(1000, createValidCoupon().discountCentsFor(5000));
+        }
+
+        @Test
+        @DisplayName("deve limitar o desconto ao montante")
+        void shouldCapDiscountAtAmount() {
+            assertEquals(750, createValidCoupon().discountCentsFor(750));
+            assertEquals(0, createValidCoupon().discountCentsFor(0));
+        }
+    }
+
     @Nested
     @DisplayName("Igualdade baseada em identidade")
     class EqualityTests {
@@ -131,4 +131,12 @@ class DiscountValueTest {
 
         assertEquals("15.50", discount.toString());
     }
+
+    @Test
+    @DisplayName("deve expor o valor em centavos")
+    void shouldExposeValueInCents() {
+        assertEquals(1550, DiscountValue.of(new BigDecimal("15.50")).cents());
+        assertEquals(51, DiscountValue.of(new BigDecimal("0.505")).cents());
+        assertEquals(Long.MAX_VALUE, DiscountValue.of(new BigDecimal("1E30")).cents());
+    }
 }